@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BarSeriesManager;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.criteria.ExpectedShortfallCriterion;
+import org.ta4j.core.analysis.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.analysis.criteria.NumberOfPositionsCriterion;
+import org.ta4j.core.analysis.criteria.ReturnOverMaxDrawdownCriterion;
+import org.ta4j.core.analysis.criteria.ValueAtRiskCriterion;
+import org.ta4j.core.analysis.criteria.pnl.GrossReturnCriterion;
+import org.ta4j.core.analysis.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.num.Num;
+
+/**
+ * Computes an analysis criterion on the trading record of a moving average
+ * crossover strategy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnalysisCriterionBenchmark {
+
+    @Param({ "GrossReturn", "ProfitLoss", "NumberOfPositions", "MaximumDrawdown", "ReturnOverMaxDrawdown",
+            "ValueAtRisk", "ExpectedShortfall" })
+    public String criterion;
+
+    @Param({ "DoubleNum", "DecimalNum" })
+    public String numType;
+
+    @Param({ "5000" })
+    public int barCount;
+
+    private BarSeries series;
+
+    private TradingRecord tradingRecord;
+
+    private AnalysisCriterion analysisCriterion;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        series = BenchmarkSeries.randomWalk(barCount, numType);
+        tradingRecord = new BarSeriesManager(series).run(BenchmarkStrategies.smaCrossover(series, 10, 30));
+        analysisCriterion = criterion(criterion);
+    }
+
+    @Benchmark
+    public Num calculate() {
+        return analysisCriterion.calculate(series, tradingRecord);
+    }
+
+    private static AnalysisCriterion criterion(String name) {
+        switch (name) {
+        case "GrossReturn":
+            return new GrossReturnCriterion();
+        case "ProfitLoss":
+            return new ProfitLossCriterion();
+        case "NumberOfPositions":
+            return new NumberOfPositionsCriterion();
+        case "MaximumDrawdown":
+            return new MaximumDrawdownCriterion();
+        case "ReturnOverMaxDrawdown":
+            return new ReturnOverMaxDrawdownCriterion();
+        case "ValueAtRisk":
+            return new ValueAtRiskCriterion(0.95);
+        case "ExpectedShortfall":
+            return new ExpectedShortfallCriterion(0.95);
+        default:
+            throw new IllegalArgumentException("Unknown criterion: " + name);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.ta4j.core.BacktestExecutor;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.reports.TradingStatement;
+
+/**
+ * Backtests a set of strategies, sequentially and in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BacktestExecutorBenchmark {
+
+    @Param({ "DoubleNum", "DecimalNum" })
+    public String numType;
+
+    @Param({ "2000" })
+    public int barCount;
+
+    @Param({ "50" })
+    public int strategyCount;
+
+    private BarSeries series;
+
+    private BacktestExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        series = BenchmarkSeries.randomWalk(barCount, numType);
+        executor = new BacktestExecutor(series);
+    }
+
+    @Benchmark
+    public List<TradingStatement> sequential() {
+        return executor.execute(BenchmarkStrategies.smaCrossovers(series, strategyCount), series.numOf(1),
+                TradeType.BUY);
+    }
+
+    @Benchmark
+    public List<TradingStatement> parallel() {
+        return executor.executeParallel(BenchmarkStrategies.smaCrossovers(series, strategyCount), series.numOf(1),
+                TradeType.BUY);
+    }
+}
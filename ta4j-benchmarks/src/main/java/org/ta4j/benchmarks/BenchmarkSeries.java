@@ -0,0 +1,108 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.FixedNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * Builds the bar series used by the benchmarks.
+ *
+ * The series is a reproducible random walk (fixed seed), so that two runs of
+ * the same benchmark work on the same data.
+ */
+final class BenchmarkSeries {
+
+    private static final long SEED = 42L;
+
+    private BenchmarkSeries() {
+    }
+
+    /**
+     * @param numType the simple name of a {@link Num} implementation (DoubleNum,
+     *                DecimalNum or FixedNum)
+     * @return the function converting a number to the given type
+     */
+    static Function<Number, Num> numFunction(String numType) {
+        switch (numType) {
+        case "DoubleNum":
+            return DoubleNum::valueOf;
+        case "DecimalNum":
+            return DecimalNum::valueOf;
+        case "FixedNum":
+            return FixedNum::valueOf;
+        default:
+            throw new IllegalArgumentException("Unknown num type: " + numType);
+        }
+    }
+
+    /**
+     * @param barCount the number of bars
+     * @param numType  the simple name of a {@link Num} implementation
+     * @return a random walk bar series of daily bars
+     */
+    static BarSeries randomWalk(int barCount, String numType) {
+        return randomWalk(barCount, numFunction(numType));
+    }
+
+    /**
+     * @param barCount    the number of bars
+     * @param numFunction the num function of the series
+     * @return a random walk bar series of daily bars
+     */
+    static BarSeries randomWalk(int barCount, Function<Number, Num> numFunction) {
+        BarSeries series = new BaseBarSeriesBuilder().withName("random walk").withNumTypeOf(numFunction).build();
+        Random random = new Random(SEED);
+        ZonedDateTime time = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        double close = 100;
+        for (int i = 0; i < barCount; i++) {
+            double open = close;
+            close = Math.max(1, open * (1 + random.nextGaussian() * 0.01));
+            double high = Math.max(open, close) * (1 + random.nextDouble() * 0.005);
+            double low = Math.min(open, close) * (1 - random.nextDouble() * 0.005);
+            double volume = 1000 + random.nextInt(9000);
+            series.addBar(Duration.ofDays(1), time.plusDays(i), round(open), round(high), round(low), round(close),
+                    volume);
+        }
+        return series;
+    }
+
+    /**
+     * Rounds the prices to 4 decimals (as real quotes), so that the decimal
+     * representations stay short.
+     */
+    private static double round(double price) {
+        return Math.round(price * 10_000) / 10_000d;
+    }
+}
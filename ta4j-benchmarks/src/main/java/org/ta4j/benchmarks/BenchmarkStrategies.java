@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.StopGainRule;
+import org.ta4j.core.rules.StopLossRule;
+
+/**
+ * Builds the strategies used by the benchmarks.
+ */
+final class BenchmarkStrategies {
+
+    private BenchmarkStrategies() {
+    }
+
+    /**
+     * @param series        the bar series
+     * @param shortBarCount the bar count of the short SMA
+     * @param longBarCount  the bar count of the long SMA
+     * @return a moving average crossover strategy with a stop loss and a stop gain
+     */
+    static Strategy smaCrossover(BarSeries series, int shortBarCount, int longBarCount) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator shortSma = new SMAIndicator(closePrice, shortBarCount);
+        SMAIndicator longSma = new SMAIndicator(closePrice, longBarCount);
+        Rule entryRule = new CrossedUpIndicatorRule(shortSma, longSma);
+        Rule exitRule = new CrossedDownIndicatorRule(shortSma, longSma).or(new StopLossRule(closePrice, 3))
+                .or(new StopGainRule(closePrice, 5));
+        return new BaseStrategy("SMA " + shortBarCount + "/" + longBarCount, entryRule, exitRule, longBarCount);
+    }
+
+    /**
+     * @param series the bar series
+     * @param count  the number of strategies
+     * @return moving average crossover strategies with distinct bar counts
+     */
+    static List<Strategy> smaCrossovers(BarSeries series, int count) {
+        List<Strategy> strategies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int shortBarCount = 5 + i % 10;
+            int longBarCount = 20 + i;
+            strategies.add(smaCrossover(series, shortBarCount, longBarCount));
+        }
+        return strategies;
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+
+/**
+ * Measures the cost of the cache of the indicators for several access patterns:
+ * <ul>
+ * <li>sequential: from the first to the last index (backtest)
+ * <li>random: random indexes (the cache is filled with gaps)
+ * <li>cached: all the values are already in the cache
+ * <li>moving series: bars are added one by one to a series with a maximum bar
+ * count (live trading)
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CachedIndicatorBenchmark {
+
+    @Param({ "DoubleNum", "DecimalNum" })
+    public String numType;
+
+    @Param({ "10000" })
+    public int barCount;
+
+    @Param({ "500" })
+    public int maximumBarCount;
+
+    private BarSeries series;
+
+    private int[] randomIndexes;
+
+    private SMAIndicator filledSma;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        series = BenchmarkSeries.randomWalk(barCount, numType);
+        Random random = new Random(42);
+        randomIndexes = new int[barCount];
+        for (int i = 0; i < barCount; i++) {
+            randomIndexes[i] = random.nextInt(barCount);
+        }
+        filledSma = new SMAIndicator(new ClosePriceIndicator(series), 20);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            filledSma.getValue(i);
+        }
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) {
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 20);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            blackhole.consume(sma.getValue(i));
+        }
+    }
+
+    @Benchmark
+    public void random(Blackhole blackhole) {
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 20);
+        for (int index : randomIndexes) {
+            blackhole.consume(sma.getValue(index));
+        }
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            blackhole.consume(filledSma.getValue(i));
+        }
+    }
+
+    @Benchmark
+    public void movingSeries(Blackhole blackhole) {
+        BarSeries movingSeries = new BaseBarSeriesBuilder().withName("moving").withNumTypeOf(series.function())
+                .withMaxBarCount(maximumBarCount).build();
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(movingSeries), 20);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            movingSeries.addBar(series.getBar(i));
+            blackhole.consume(sma.getValue(movingSeries.getEndIndex()));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.indicators.primitive.ATRDoubleIndicator;
+import org.ta4j.core.indicators.primitive.BollingerBandsUpperDoubleIndicator;
+import org.ta4j.core.indicators.primitive.ClosePriceDoubleIndicator;
+import org.ta4j.core.indicators.primitive.EMADoubleIndicator;
+import org.ta4j.core.indicators.primitive.MACDDoubleIndicator;
+import org.ta4j.core.indicators.primitive.RSIDoubleIndicator;
+import org.ta4j.core.indicators.primitive.SMADoubleIndicator;
+import org.ta4j.core.indicators.primitive.StandardDeviationDoubleIndicator;
+import org.ta4j.core.indicators.primitive.StochasticOscillatorKDoubleIndicator;
+
+/**
+ * Computes every value of a primitive double indicator on a fresh instance, to
+ * be compared with the {@link IndicatorBenchmark} results of the same
+ * indicators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DoubleIndicatorBenchmark {
+
+    @Param({ "SMA", "EMA", "RSI", "MACD", "ATR", "BollingerBands", "StandardDeviation", "StochasticOscillatorK" })
+    public String indicator;
+
+    @Param({ "5000" })
+    public int barCount;
+
+    private BarSeries series;
+
+    private Function<BarSeries, DoubleIndicator> factory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        series = BenchmarkSeries.randomWalk(barCount, "DoubleNum");
+        factory = factory(indicator);
+    }
+
+    @Benchmark
+    public void computeAllValues(Blackhole blackhole) {
+        DoubleIndicator instance = factory.apply(series);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            blackhole.consume(instance.getDouble(i));
+        }
+    }
+
+    private static Function<BarSeries, DoubleIndicator> factory(String name) {
+        switch (name) {
+        case "SMA":
+            return s -> new SMADoubleIndicator(new ClosePriceDoubleIndicator(s), 50);
+        case "EMA":
+            return s -> new EMADoubleIndicator(new ClosePriceDoubleIndicator(s), 50);
+        case "RSI":
+            return s -> new RSIDoubleIndicator(new ClosePriceDoubleIndicator(s), 14);
+        case "MACD":
+            return s -> new MACDDoubleIndicator(new ClosePriceDoubleIndicator(s), 12, 26);
+        case "ATR":
+            return s -> new ATRDoubleIndicator(s, 14);
+        case "BollingerBands":
+            return s -> {
+                ClosePriceDoubleIndicator closePrice = new ClosePriceDoubleIndicator(s);
+                return new BollingerBandsUpperDoubleIndicator(new SMADoubleIndicator(closePrice, 20),
+                        new StandardDeviationDoubleIndicator(closePrice, 20));
+            };
+        case "StandardDeviation":
+            return s -> new StandardDeviationDoubleIndicator(new ClosePriceDoubleIndicator(s), 20);
+        case "StochasticOscillatorK":
+            return s -> new StochasticOscillatorKDoubleIndicator(s, 14);
+        default:
+            throw new IllegalArgumentException("Unknown indicator: " + name);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AroonUpIndicator;
+import org.ta4j.core.indicators.CCIIndicator;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.HMAIndicator;
+import org.ta4j.core.indicators.KAMAIndicator;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.ParabolicSarIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.StochasticOscillatorKIndicator;
+import org.ta4j.core.indicators.WMAIndicator;
+import org.ta4j.core.indicators.WilliamsRIndicator;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.indicators.adx.ADXIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.statistics.SimpleLinearRegressionIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Computes every value of an indicator on a fresh (empty cache) instance.
+ *
+ * The indicators are evaluated from the first to the last index, as a backtest
+ * does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IndicatorBenchmark {
+
+    @Param({ "SMA", "EMA", "WMA", "HMA", "KAMA", "RSI", "MACD", "ATR", "ADX", "CCI", "BollingerBands",
+            "StandardDeviation", "StochasticOscillatorK", "WilliamsR", "Aroon", "HighestValue", "ParabolicSar",
+            "SimpleLinearRegression" })
+    public String indicator;
+
+    @Param({ "DoubleNum", "DecimalNum" })
+    public String numType;
+
+    @Param({ "5000" })
+    public int barCount;
+
+    private BarSeries series;
+
+    private Function<BarSeries, Indicator<Num>> factory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        series = BenchmarkSeries.randomWalk(barCount, numType);
+        factory = factory(indicator);
+    }
+
+    @Benchmark
+    public void computeAllValues(Blackhole blackhole) {
+        Indicator<Num> instance = factory.apply(series);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            blackhole.consume(instance.getValue(i));
+        }
+    }
+
+    private static Function<BarSeries, Indicator<Num>> factory(String name) {
+        switch (name) {
+        case "SMA":
+            return s -> new SMAIndicator(new ClosePriceIndicator(s), 50);
+        case "EMA":
+            return s -> new EMAIndicator(new ClosePriceIndicator(s), 50);
+        case "WMA":
+            return s -> new WMAIndicator(new ClosePriceIndicator(s), 50);
+        case "HMA":
+            return s -> new HMAIndicator(new ClosePriceIndicator(s), 50);
+        case "KAMA":
+            return s -> new KAMAIndicator(new ClosePriceIndicator(s), 10, 2, 30);
+        case "RSI":
+            return s -> new RSIIndicator(new ClosePriceIndicator(s), 14);
+        case "MACD":
+            return s -> new MACDIndicator(new ClosePriceIndicator(s), 12, 26);
+        case "ATR":
+            return s -> new ATRIndicator(s, 14);
+        case "ADX":
+            return s -> new ADXIndicator(s, 14);
+        case "CCI":
+            return s -> new CCIIndicator(s, 20);
+        case "BollingerBands":
+            return s -> {
+                ClosePriceIndicator closePrice = new ClosePriceIndicator(s);
+                return new BollingerBandsUpperIndicator(
+                        new BollingerBandsMiddleIndicator(new SMAIndicator(closePrice, 20)),
+                        new StandardDeviationIndicator(closePrice, 20));
+            };
+        case "StandardDeviation":
+            return s -> new StandardDeviationIndicator(new ClosePriceIndicator(s), 20);
+        case "StochasticOscillatorK":
+            return s -> new StochasticOscillatorKIndicator(s, 14);
+        case "WilliamsR":
+            return s -> new WilliamsRIndicator(s, 14);
+        case "Aroon":
+            return s -> new AroonUpIndicator(s, 25);
+        case "HighestValue":
+            return s -> new HighestValueIndicator(new ClosePriceIndicator(s), 50);
+        case "ParabolicSar":
+            return ParabolicSarIndicator::new;
+        case "SimpleLinearRegression":
+            return s -> new SimpleLinearRegressionIndicator(new ClosePriceIndicator(s), 50);
+        default:
+            throw new IllegalArgumentException("Unknown indicator: " + name);
+        }
+    }
+}
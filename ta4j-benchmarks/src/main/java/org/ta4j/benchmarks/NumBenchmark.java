@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ta4j.core.num.Num;
+
+/**
+ * Compares the arithmetic of the {@link Num} implementations.
+ *
+ * Each benchmark applies one operation to every pair of an array of prices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NumBenchmark {
+
+    @Param({ "DoubleNum", "DecimalNum", "FixedNum" })
+    public String numType;
+
+    @Param({ "1000" })
+    public int size;
+
+    private Function<Number, Num> numFunction;
+
+    private Num[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        numFunction = BenchmarkSeries.numFunction(numType);
+        Random random = new Random(42);
+        values = new Num[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = numFunction.apply(Math.round((1 + random.nextDouble() * 100) * 10_000) / 10_000d);
+        }
+    }
+
+    @Benchmark
+    public void valueOf(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(numFunction.apply(i));
+        }
+    }
+
+    @Benchmark
+    public Num plus() {
+        Num sum = values[0];
+        for (int i = 1; i < size; i++) {
+            sum = sum.plus(values[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void multipliedBy(Blackhole blackhole) {
+        for (int i = 1; i < size; i++) {
+            blackhole.consume(values[i - 1].multipliedBy(values[i]));
+        }
+    }
+
+    @Benchmark
+    public void dividedBy(Blackhole blackhole) {
+        for (int i = 1; i < size; i++) {
+            blackhole.consume(values[i - 1].dividedBy(values[i]));
+        }
+    }
+
+    @Benchmark
+    public void compareTo(Blackhole blackhole) {
+        for (int i = 1; i < size; i++) {
+            blackhole.consume(values[i - 1].isGreaterThan(values[i]));
+        }
+    }
+
+    @Benchmark
+    public void sqrt(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(values[i].sqrt());
+        }
+    }
+}
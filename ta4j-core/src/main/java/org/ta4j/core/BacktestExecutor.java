@@ -24,7 +24,15 @@
 package org.ta4j.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.ta4j.core.num.Num;
 import org.ta4j.core.reports.TradingStatement;
@@ -33,6 +41,12 @@ import org.ta4j.core.reports.TradingStatementGenerator;
 /**
  * This class enables backtesting of multiple strategies and comparing them to
  * see which is the best.
+ *
+ * The strategies can be executed in parallel. They only read the bar series,
+ * which must not be modified during the execution, and may share indicators
+ * (the cached indicators are thread-safe). Stateful rules (e.g.
+ * {@link org.ta4j.core.rules.JustOnceRule JustOnceRule}) must not be shared
+ * between strategies.
  */
 public class BacktestExecutor {
 
@@ -69,11 +83,114 @@ public class BacktestExecutor {
     public List<TradingStatement> execute(List<Strategy> strategies, Num amount, Trade.TradeType tradeType) {
         final List<TradingStatement> tradingStatements = new ArrayList<>(strategies.size());
         for (Strategy strategy : strategies) {
-            final TradingRecord tradingRecord = seriesManager.run(strategy, tradeType, amount);
-            final TradingStatement tradingStatement = tradingStatementGenerator.generate(strategy, tradingRecord,
-                    seriesManager.getBarSeries());
-            tradingStatements.add(tradingStatement);
+            tradingStatements.add(execute(strategy, amount, tradeType));
         }
         return tradingStatements;
     }
+
+    /**
+     * Executes given strategies in parallel in the common {@link ForkJoinPool} and
+     * returns the trading statements (in the order of the strategies).
+     *
+     * @param strategies the strategies
+     * @param amount     the amount used to open/close the position
+     * @param tradeType  the {@link Trade.TradeType} used to open the position
+     */
+    public List<TradingStatement> executeParallel(List<Strategy> strategies, Num amount, Trade.TradeType tradeType) {
+        return execute(strategies, amount, tradeType, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Executes given strategies in parallel with an executor service and returns
+     * the trading statements (in the order of the strategies).
+     *
+     * @param strategies      the strategies
+     * @param amount          the amount used to open/close the position
+     * @param tradeType       the {@link Trade.TradeType} used to open the position
+     * @param executorService the executor service running the strategies (e.g. a
+     *                        {@link ForkJoinPool})
+     */
+    public List<TradingStatement> execute(List<Strategy> strategies, Num amount, Trade.TradeType tradeType,
+            ExecutorService executorService) {
+        return execute(strategies, amount, tradeType, executorService, strategies.size());
+    }
+
+    /**
+     * Executes given strategies in parallel with an executor service and returns
+     * the trading statements (in the order of the strategies).
+     *
+     * At most maxConcurrency strategies are submitted to the executor service at
+     * the same time. If a strategy fails, the remaining ones are cancelled and the
+     * failure is rethrown. If the calling thread is interrupted, the remaining
+     * strategies are cancelled and a {@link CancellationException} is thrown.
+     *
+     * @param strategies      the strategies
+     * @param amount          the amount used to open/close the position
+     * @param tradeType       the {@link Trade.TradeType} used to open the position
+     * @param executorService the executor service running the strategies (e.g. a
+     *                        {@link ForkJoinPool})
+     * @param maxConcurrency  the maximum number of strategies executed at the same
+     *                        time
+     */
+    public List<TradingStatement> execute(List<Strategy> strategies, Num amount, Trade.TradeType tradeType,
+            ExecutorService executorService, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be strictly positive");
+        }
+        final int strategyCount = strategies.size();
+        final TradingStatement[] tradingStatements = new TradingStatement[strategyCount];
+        final CompletionService<Integer> completionService = new ExecutorCompletionService<>(executorService);
+        final List<Future<Integer>> futures = new ArrayList<>(strategyCount);
+        int submitted = 0;
+        try {
+            for (; submitted < Math.min(maxConcurrency, strategyCount); submitted++) {
+                futures.add(submit(completionService, strategies, submitted, amount, tradeType, tradingStatements));
+            }
+            for (int completed = 0; completed < strategyCount; completed++) {
+                completionService.take().get();
+                if (submitted < strategyCount) {
+                    futures.add(submit(completionService, strategies, submitted, amount, tradeType, tradingStatements));
+                    submitted++;
+                }
+            }
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            CancellationException cancellation = new CancellationException("Backtest interrupted");
+            cancellation.initCause(e);
+            throw cancellation;
+        } catch (ExecutionException e) {
+            cancel(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return new ArrayList<>(Arrays.asList(tradingStatements));
+    }
+
+    private Future<Integer> submit(CompletionService<Integer> completionService, List<Strategy> strategies, int i,
+            Num amount, Trade.TradeType tradeType, TradingStatement[] tradingStatements) {
+        final Strategy strategy = strategies.get(i);
+        return completionService.submit(() -> {
+            // The result is published by Future#get
+            tradingStatements[i] = execute(strategy, amount, tradeType);
+            return i;
+        });
+    }
+
+    private static void cancel(List<Future<Integer>> futures) {
+        for (Future<Integer> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private TradingStatement execute(Strategy strategy, Num amount, Trade.TradeType tradeType) {
+        final TradingRecord tradingRecord = seriesManager.run(strategy, tradeType, amount);
+        return tradingStatementGenerator.generate(strategy, tradingRecord, seriesManager.getBarSeries());
+    }
 }
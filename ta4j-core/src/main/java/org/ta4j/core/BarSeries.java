@@ -137,6 +137,25 @@ public interface BarSeries extends Serializable {
      */
     void setMaximumBarCount(int maximumBarCount);
 
+    /**
+     * @return the cache policy of the indicators of this series (the global
+     *         {@link CachePolicy#getDefault() default policy} unless set)
+     */
+    default CachePolicy getCachePolicy() {
+        return CachePolicy.getDefault();
+    }
+
+    /**
+     * Sets the cache policy of the indicators of this series (the indicators
+     * without their own policy). It applies to the caches created afterwards.
+     *
+     * @param cachePolicy the cache policy, null for the global default policy
+     * @throws UnsupportedOperationException if the series has no cache policy
+     */
+    default void setCachePolicy(CachePolicy cachePolicy) {
+        throw new UnsupportedOperationException("No cache policy for " + getClass().getSimpleName());
+    }
+
     /**
      * @return the number of removed bars
      */
@@ -321,6 +340,33 @@ public interface BarSeries extends Serializable {
         addPrice(numOf(price));
     }
 
+    /**
+     * Registers a listener notified when a bar is added to this series or when the
+     * last bar is replaced or updated.
+     *
+     * The listeners are notified in their registration order: the indicators
+     * listening to the series (see
+     * {@link org.ta4j.core.indicators.CachedIndicator}) should be registered before
+     * the listeners which use them.
+     *
+     * @param listener the listener
+     * @throws UnsupportedOperationException if the series does not support
+     *                                       listeners
+     */
+    default void addListener(BarSeriesListener listener) {
+        throw new UnsupportedOperationException("Listeners are not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Unregisters a listener. The listener is notified of its removal (see
+     * {@link BarSeriesListener#onRemoved(BarSeries)}).
+     *
+     * @param listener the listener
+     */
+    default void removeListener(BarSeriesListener listener) {
+        // no listener can be registered by default
+    }
+
     /**
      * Returns a new {@link BarSeries} instance that is a subset of this BarSeries
      * instance. It holds a copy of all {@link Bar bars} between <tt>startIndex</tt>
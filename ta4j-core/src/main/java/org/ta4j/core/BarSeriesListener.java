@@ -0,0 +1,69 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+/**
+ * Listener of the changes of a {@link BarSeries bar series}.
+ *
+ * It allows to process a live series in a push-based way: the listener is
+ * notified when a new bar is added and when the last (in-progress) bar is
+ * updated, instead of polling the end index of the series.
+ *
+ * The listeners are notified synchronously, by the thread which modifies the
+ * series, once the modification is visible.
+ *
+ * @see BarSeries#addListener(BarSeriesListener)
+ */
+@FunctionalInterface
+public interface BarSeriesListener {
+
+    /**
+     * Called when a new bar has been added at the end of the series.
+     *
+     * @param series the bar series
+     * @param index  the index of the new bar (i.e. the end index of the series)
+     */
+    void onBarAdded(BarSeries series, int index);
+
+    /**
+     * Called when the last bar of the series has been replaced (see
+     * {@link BarSeries#addBar(Bar, boolean)}) or updated by a trade or a price (see
+     * the <code>addTrade</code> and <code>addPrice</code> methods of the series).
+     *
+     * @param series the bar series
+     * @param index  the index of the last bar
+     */
+    default void onLastBarChanged(BarSeries series, int index) {
+    }
+
+    /**
+     * Called when the listener has been unregistered from the series (see
+     * {@link BarSeries#removeListener(BarSeriesListener)}): it will not be notified
+     * of the changes of the series anymore.
+     *
+     * @param series the bar series
+     */
+    default void onRemoved(BarSeries series) {
+    }
+}
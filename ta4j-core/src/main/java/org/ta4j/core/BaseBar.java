@@ -427,20 +427,22 @@ public class BaseBar implements Bar {
     @Override
     public int hashCode() {
         return Objects.hash(beginTime, endTime, timePeriod, openPrice, highPrice, lowPrice, closePrice, volume, amount,
-                trades);
+                getTrades());
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
             return true;
-        if (!(obj instanceof BaseBar))
+        if (!(obj instanceof Bar))
             return false;
-        final BaseBar other = (BaseBar) obj;
-        return Objects.equals(beginTime, other.beginTime) && Objects.equals(endTime, other.endTime)
-                && Objects.equals(timePeriod, other.timePeriod) && Objects.equals(openPrice, other.openPrice)
-                && Objects.equals(highPrice, other.highPrice) && Objects.equals(lowPrice, other.lowPrice)
-                && Objects.equals(closePrice, other.closePrice) && Objects.equals(volume, other.volume)
-                && Objects.equals(amount, other.amount) && trades == other.trades;
+        // Compared through the interface, to be symmetric with the other bar
+        // implementations (e.g. the bars of a ColumnarBarSeries)
+        final Bar other = (Bar) obj;
+        return Objects.equals(beginTime, other.getBeginTime()) && Objects.equals(endTime, other.getEndTime())
+                && Objects.equals(timePeriod, other.getTimePeriod()) && Objects.equals(openPrice, other.getOpenPrice())
+                && Objects.equals(highPrice, other.getHighPrice()) && Objects.equals(lowPrice, other.getLowPrice())
+                && Objects.equals(closePrice, other.getClosePrice()) && Objects.equals(volume, other.getVolume())
+                && Objects.equals(amount, other.getAmount()) && getTrades() == other.getTrades();
     }
 }
@@ -37,6 +37,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.RingBuffer;
 
 /**
  * Base implementation of a {@link BarSeries}.
@@ -64,7 +65,7 @@ public class BaseBarSeries implements BarSeries {
     /**
      * List of bars
      */
-    private final List<Bar> bars;
+    private List<Bar> bars;
     /**
      * Begin index of the bar series
      */
@@ -86,6 +87,14 @@ public class BaseBarSeries implements BarSeries {
      * false otherwise
      */
     private boolean constrained;
+    /**
+     * Cache policy of the indicators, null for the global default policy
+     */
+    private CachePolicy cachePolicy;
+    /**
+     * Listeners of the changes of the series (created on first registration)
+     */
+    private transient List<BarSeriesListener> listeners;
 
     /**
      * Constructor of an unnamed series.
@@ -257,9 +266,13 @@ public class BaseBarSeries implements BarSeries {
         if (!bars.isEmpty()) {
             int start = Math.max(startIndex - getRemovedBarsCount(), this.getBeginIndex());
             int end = Math.min(endIndex - getRemovedBarsCount(), this.getEndIndex() + 1);
-            return new BaseBarSeries(getName(), cut(bars, start, end), numFunction);
+            BaseBarSeries subSeries = new BaseBarSeries(getName(), cut(bars, start, end), numFunction);
+            subSeries.cachePolicy = cachePolicy;
+            return subSeries;
         }
-        return new BaseBarSeries(name, numFunction);
+        BaseBarSeries subSeries = new BaseBarSeries(name, numFunction);
+        subSeries.cachePolicy = cachePolicy;
+        return subSeries;
 
     }
 
@@ -374,6 +387,34 @@ public class BaseBarSeries implements BarSeries {
         }
         this.maximumBarCount = maximumBarCount;
         removeExceedingBars();
+        if (maximumBarCount != Integer.MAX_VALUE) {
+            // At most one bar more than the maximum is held (before the exceeding one is
+            // removed)
+            if (bars instanceof RingBuffer) {
+                ((RingBuffer<Bar>) bars).setMaximumSize(maximumBarCount + 1);
+            } else if (bars instanceof ArrayList) {
+                // Removing the first bar of an ArrayList shifts all the others
+                bars = new RingBuffer<>(maximumBarCount + 1, bars);
+            }
+        }
+    }
+
+    @Override
+    public CachePolicy getCachePolicy() {
+        return cachePolicy != null ? cachePolicy : CachePolicy.getDefault();
+    }
+
+    @Override
+    public void setCachePolicy(CachePolicy cachePolicy) {
+        this.cachePolicy = cachePolicy;
+    }
+
+    /**
+     * @return the cache policy set on this series, null for the global default
+     *         policy (e.g. to be copied to a sub series)
+     */
+    protected CachePolicy getSeriesCachePolicy() {
+        return cachePolicy;
     }
 
     @Override
@@ -397,6 +438,7 @@ public class BaseBarSeries implements BarSeries {
         if (!bars.isEmpty()) {
             if (replace) {
                 bars.set(bars.size() - 1, bar);
+                fireLastBarChanged();
                 return;
             }
             final int lastBarIndex = bars.size() - 1;
@@ -415,6 +457,7 @@ public class BaseBarSeries implements BarSeries {
         }
         seriesEndIndex++;
         removeExceedingBars();
+        fireBarAdded();
     }
 
     @Override
@@ -460,11 +503,46 @@ public class BaseBarSeries implements BarSeries {
     @Override
     public void addTrade(Num tradeVolume, Num tradePrice) {
         getLastBar().addTrade(tradeVolume, tradePrice);
+        fireLastBarChanged();
     }
 
     @Override
     public void addPrice(Num price) {
         getLastBar().addPrice(price);
+        fireLastBarChanged();
+    }
+
+    @Override
+    public void addListener(BarSeriesListener listener) {
+        Objects.requireNonNull(listener);
+        if (listeners == null) {
+            listeners = new ArrayList<>();
+        }
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(BarSeriesListener listener) {
+        if (listeners != null && listeners.remove(listener) && !listeners.contains(listener)) {
+            listener.onRemoved(this);
+        }
+    }
+
+    private void fireBarAdded() {
+        if (listeners != null) {
+            // Indexed loop: no iterator allocated for each bar
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onBarAdded(this, seriesEndIndex);
+            }
+        }
+    }
+
+    private void fireLastBarChanged() {
+        if (listeners != null) {
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onLastBarChanged(this, seriesEndIndex);
+            }
+        }
     }
 
     /**
@@ -475,9 +553,7 @@ public class BaseBarSeries implements BarSeries {
         if (barCount > maximumBarCount) {
             // Removing old bars
             int nbBarsToRemove = barCount - maximumBarCount;
-            for (int i = 0; i < nbBarsToRemove; i++) {
-                bars.remove(0);
-            }
+            bars.subList(0, nbBarsToRemove).clear();
             // Updating removed bars count
             removedBarsCount += nbBarsToRemove;
         }
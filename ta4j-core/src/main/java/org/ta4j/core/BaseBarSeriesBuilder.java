@@ -29,6 +29,7 @@ import java.util.function.Function;
 
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.FixedNum;
 import org.ta4j.core.num.Num;
 
 public class BaseBarSeriesBuilder implements BarSeriesBuilder {
@@ -42,6 +43,7 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
     private Function<Number, Num> numFunction;
     private boolean constrained;
     private int maxBarCount;
+    private boolean columnar;
 
     public BaseBarSeriesBuilder() {
         initValues();
@@ -57,6 +59,7 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
         this.numFunction = BaseBarSeriesBuilder.defaultFunction;
         this.constrained = false;
         this.maxBarCount = Integer.MAX_VALUE;
+        this.columnar = false;
     }
 
     @Override
@@ -67,7 +70,9 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
             beginIndex = 0;
             endIndex = bars.size() - 1;
         }
-        BaseBarSeries series = new BaseBarSeries(name, bars, beginIndex, endIndex, constrained, numFunction);
+        BaseBarSeries series = columnar
+                ? new ColumnarBarSeries(name, bars, beginIndex, endIndex, constrained, numFunction)
+                : new BaseBarSeries(name, bars, beginIndex, endIndex, constrained, numFunction);
         series.setMaximumBarCount(maxBarCount);
         initValues(); // reinitialize values for next series
         return series;
@@ -93,6 +98,17 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
         return this;
     }
 
+    /**
+     * @param columnar true to store the bars in primitive columns (see
+     *                 {@link ColumnarBarSeries}), false to store them as
+     *                 {@link Bar} objects
+     * @return the builder
+     */
+    public BaseBarSeriesBuilder withColumnarStorage(boolean columnar) {
+        this.columnar = columnar;
+        return this;
+    }
+
     public BaseBarSeriesBuilder withNumTypeOf(Num type) {
         numFunction = type.function();
         return this;
@@ -110,6 +126,9 @@ public class BaseBarSeriesBuilder implements BarSeriesBuilder {
         } else if (abstractNumClass == DoubleNum.class) {
             numFunction = DoubleNum::valueOf;
             return this;
+        } else if (abstractNumClass == FixedNum.class) {
+            numFunction = FixedNum::valueOf;
+            return this;
         }
         numFunction = DecimalNum::valueOf;
         return this;
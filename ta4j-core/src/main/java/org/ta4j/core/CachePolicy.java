@@ -0,0 +1,158 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Cache policy of the {@link org.ta4j.core.indicators.CachedIndicator cached
+ * indicators}.
+ *
+ * <ul>
+ * <li>{@link #NO_CACHE}: the values are calculated on every access (e.g. for
+ * the indicators reading a value of the bar)
+ * <li>{@link #FULL}: all the values are cached, up to the maximum bar count of
+ * the series
+ * <li>{@link #slidingWindow(int)}: the values of the last n indexes (below the
+ * highest cached index) are cached
+ * <li>{@link #lru(int)}: the n least recently used values are cached
+ * </ul>
+ *
+ * The policy of an indicator is, in order of precedence: the policy of the
+ * indicator instance, the default policy of its class (e.g. no cache for the
+ * price indicators), the policy of its series (see
+ * {@link BarSeries#getCachePolicy()}), the global {@link #getDefault() default
+ * policy}.
+ */
+public final class CachePolicy implements Serializable {
+
+    private static final long serialVersionUID = 1541658726735281520L;
+
+    /**
+     * Type of cache policy
+     */
+    public enum Type {
+        NO_CACHE, FULL, SLIDING_WINDOW, LRU
+    }
+
+    /** The values are not cached */
+    public static final CachePolicy NO_CACHE = new CachePolicy(Type.NO_CACHE, 0);
+
+    /** All the values are cached (up to the maximum bar count of the series) */
+    public static final CachePolicy FULL = new CachePolicy(Type.FULL, Integer.MAX_VALUE);
+
+    private static volatile CachePolicy defaultPolicy = FULL;
+
+    private final Type type;
+    private final int size;
+
+    private CachePolicy(Type type, int size) {
+        this.type = type;
+        this.size = size;
+    }
+
+    /**
+     * @param size the number of cached indexes
+     * @return the policy caching the values of the last size indexes
+     */
+    public static CachePolicy slidingWindow(int size) {
+        return new CachePolicy(Type.SLIDING_WINDOW, checkSize(size));
+    }
+
+    /**
+     * @param size the number of cached values
+     * @return the policy caching the size least recently used values
+     */
+    public static CachePolicy lru(int size) {
+        return new CachePolicy(Type.LRU, checkSize(size));
+    }
+
+    private static int checkSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Cache size must be strictly positive: " + size);
+        }
+        return size;
+    }
+
+    /**
+     * @return the global default policy ({@link #FULL} unless changed)
+     */
+    public static CachePolicy getDefault() {
+        return defaultPolicy;
+    }
+
+    /**
+     * Sets the global default policy, used by the indicators of the series without
+     * policy. It applies to the caches created afterwards.
+     *
+     * @param policy the global default policy
+     */
+    public static void setDefault(CachePolicy policy) {
+        defaultPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * @return the type of policy
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the maximum number of cached values (0 for {@link #NO_CACHE},
+     *         {@link Integer#MAX_VALUE} for {@link #FULL})
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CachePolicy)) {
+            return false;
+        }
+        CachePolicy other = (CachePolicy) o;
+        return type == other.type && size == other.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, size);
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+        case SLIDING_WINDOW:
+        case LRU:
+            return type + "(" + size + ")";
+        default:
+            return type.toString();
+        }
+    }
+}
@@ -0,0 +1,456 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * Columnar storage of {@link Bar bars}.
+ *
+ * The bar data is stored in parallel primitive arrays (one per field) instead
+ * of one object per bar. Prices, volumes and amounts are stored as doubles, the
+ * time period and the end time as nanoseconds. The {@link Bar bars} returned by
+ * this list are lightweight views on a position of the arrays: they hold no
+ * data themselves and convert the primitive values into {@link Num} on each
+ * access.
+ *
+ * Only the first elements can be removed (this is what a {@link BarSeries} with
+ * a maximum bar count does), in O(1) and without allocation. The free space at
+ * the head is reclaimed when the arrays are full.
+ */
+class ColumnarBarData extends AbstractList<Bar> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 5096236213436347893L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Num type function, rebuilt from {@link #zero} on deserialization */
+    private transient Function<Number, Num> numFunction;
+    /** Zero of the Num type (the Num type function is not serializable) */
+    private final Num zero;
+    /**
+     * True if the values can be converted with {@link DoubleNum#valueOf(double)}
+     */
+    private final boolean doubleNum;
+    /** Time zone of the bars, taken from the first added bar */
+    private ZoneId zone;
+
+    private double[] openPrices;
+    private double[] highPrices;
+    private double[] lowPrices;
+    private double[] closePrices;
+    private double[] volumes;
+    private double[] amounts;
+    private long[] trades;
+    private long[] timePeriods;
+    private long[] endTimes;
+
+    /** Array index of the first bar */
+    private int head;
+    /** Number of bars */
+    private int size;
+    /** Number of bars removed from the head (i.e. position of the first bar) */
+    private long removedCount;
+
+    /**
+     * Constructor.
+     *
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     */
+    ColumnarBarData(Function<Number, Num> numFunction) {
+        this(numFunction, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     * @param bars        the bars to be copied into the columns
+     */
+    ColumnarBarData(Function<Number, Num> numFunction, List<Bar> bars) {
+        this(numFunction, Math.max(bars.size(), DEFAULT_CAPACITY));
+        for (Bar bar : bars) {
+            add(bar);
+        }
+    }
+
+    private ColumnarBarData(Function<Number, Num> numFunction, int capacity) {
+        this.numFunction = Objects.requireNonNull(numFunction);
+        this.zero = numFunction.apply(0);
+        this.doubleNum = zero instanceof DoubleNum;
+        allocate(capacity);
+    }
+
+    /**
+     * @param fromIndex the first index (inclusive)
+     * @param toIndex   the last index (exclusive)
+     * @return a new columnar copy of the bars between fromIndex and toIndex
+     */
+    ColumnarBarData copy(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    String.format("fromIndex: %s, toIndex: %s, size: %s", fromIndex, toIndex, size));
+        }
+        ColumnarBarData copy = new ColumnarBarData(numFunction, Math.max(toIndex - fromIndex, DEFAULT_CAPACITY));
+        copy.zone = zone;
+        copy.size = toIndex - fromIndex;
+        copyColumns(this, head + fromIndex, copy, 0, copy.size);
+        return copy;
+    }
+
+    @Override
+    public Bar get(int index) {
+        checkIndex(index);
+        return new ColumnarBar(this, removedCount + index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Bar bar) {
+        if (head + size == closePrices.length) {
+            ensureCapacity();
+        }
+        if (zone == null) {
+            zone = bar.getEndTime().getZone();
+        }
+        write(head + size, bar);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Bar set(int index, Bar bar) {
+        checkIndex(index);
+        Bar previous = snapshot(head + index);
+        write(head + index, bar);
+        return previous;
+    }
+
+    /**
+     * Removes a bar. Only the first bar can be removed.
+     *
+     * @param index the index of the bar to be removed (must be 0)
+     * @return a detached copy of the removed bar
+     * @throws UnsupportedOperationException if index is not 0
+     */
+    @Override
+    public Bar remove(int index) {
+        checkIndex(index);
+        Bar removed = snapshot(head + index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    /**
+     * Removes bars. Only the first bars can be removed.
+     *
+     * @throws UnsupportedOperationException if fromIndex is not 0
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex != 0) {
+            throw new UnsupportedOperationException("Only the first bars can be removed from columnar bar data");
+        }
+        if (toIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException(String.format("toIndex: %s, size: %s", toIndex, size));
+        }
+        head = toIndex == size ? 0 : head + toIndex;
+        size -= toIndex;
+        removedCount += toIndex;
+        modCount++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, size: %s", index, size));
+        }
+    }
+
+    /**
+     * Makes room for one more bar at the tail. The removed bars at the head are
+     * dropped; the arrays are only grown if more than half of them is in use.
+     */
+    private void ensureCapacity() {
+        int capacity = closePrices.length;
+        if (size <= capacity / 2) {
+            copyColumns(this, head, this, 0, size);
+        } else {
+            int newCapacity = Math.max(capacity * 2, DEFAULT_CAPACITY);
+            openPrices = Arrays.copyOfRange(openPrices, head, head + newCapacity);
+            highPrices = Arrays.copyOfRange(highPrices, head, head + newCapacity);
+            lowPrices = Arrays.copyOfRange(lowPrices, head, head + newCapacity);
+            closePrices = Arrays.copyOfRange(closePrices, head, head + newCapacity);
+            volumes = Arrays.copyOfRange(volumes, head, head + newCapacity);
+            amounts = Arrays.copyOfRange(amounts, head, head + newCapacity);
+            trades = Arrays.copyOfRange(trades, head, head + newCapacity);
+            timePeriods = Arrays.copyOfRange(timePeriods, head, head + newCapacity);
+            endTimes = Arrays.copyOfRange(endTimes, head, head + newCapacity);
+        }
+        head = 0;
+    }
+
+    private void allocate(int capacity) {
+        openPrices = new double[capacity];
+        highPrices = new double[capacity];
+        lowPrices = new double[capacity];
+        closePrices = new double[capacity];
+        volumes = new double[capacity];
+        amounts = new double[capacity];
+        trades = new long[capacity];
+        timePeriods = new long[capacity];
+        endTimes = new long[capacity];
+    }
+
+    private static void copyColumns(ColumnarBarData src, int srcPos, ColumnarBarData dest, int destPos, int length) {
+        System.arraycopy(src.openPrices, srcPos, dest.openPrices, destPos, length);
+        System.arraycopy(src.highPrices, srcPos, dest.highPrices, destPos, length);
+        System.arraycopy(src.lowPrices, srcPos, dest.lowPrices, destPos, length);
+        System.arraycopy(src.closePrices, srcPos, dest.closePrices, destPos, length);
+        System.arraycopy(src.volumes, srcPos, dest.volumes, destPos, length);
+        System.arraycopy(src.amounts, srcPos, dest.amounts, destPos, length);
+        System.arraycopy(src.trades, srcPos, dest.trades, destPos, length);
+        System.arraycopy(src.timePeriods, srcPos, dest.timePeriods, destPos, length);
+        System.arraycopy(src.endTimes, srcPos, dest.endTimes, destPos, length);
+    }
+
+    private void write(int slot, Bar bar) {
+        openPrices[slot] = toDouble(bar.getOpenPrice());
+        highPrices[slot] = toDouble(bar.getHighPrice());
+        lowPrices[slot] = toDouble(bar.getLowPrice());
+        closePrices[slot] = toDouble(bar.getClosePrice());
+        volumes[slot] = toDouble(bar.getVolume());
+        amounts[slot] = toDouble(bar.getAmount());
+        trades[slot] = bar.getTrades();
+        timePeriods[slot] = bar.getTimePeriod().toNanos();
+        endTimes[slot] = toEpochNanos(bar.getEndTime());
+    }
+
+    private Bar snapshot(int slot) {
+        return new BaseBar(Duration.ofNanos(timePeriods[slot]), toZonedDateTime(endTimes[slot]),
+                toNum(openPrices[slot]), toNum(highPrices[slot]), toNum(lowPrices[slot]), toNum(closePrices[slot]),
+                toNum(volumes[slot]), toNum(amounts[slot]), trades[slot]);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        numFunction = zero.function();
+    }
+
+    /**
+     * @param position the position of a bar (i.e. its index plus the number of
+     *                 removed bars)
+     * @return the array index of the bar
+     * @throws IllegalStateException if the bar has been removed
+     */
+    private int slot(long position) {
+        long index = position - removedCount;
+        if (index < 0 || index >= size) {
+            throw new IllegalStateException(String.format("Bar %s is not part of the bar data anymore", position));
+        }
+        return head + (int) index;
+    }
+
+    private Num toNum(double value) {
+        if (Double.isNaN(value)) {
+            return NaN;
+        }
+        return doubleNum ? DoubleNum.valueOf(value) : numFunction.apply(value);
+    }
+
+    private static double toDouble(Num value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+
+    private static long toEpochNanos(ZonedDateTime time) {
+        Instant instant = time.toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    private ZonedDateTime toZonedDateTime(long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos).atZone(zone);
+    }
+
+    /**
+     * A {@link Bar} view on one position of a {@link ColumnarBarData}. Updates
+     * (trades and prices) are written through to the columns.
+     *
+     * Before any price has been added, the prices of the bar are {@link Num NaN}.
+     */
+    static final class ColumnarBar implements Bar {
+
+        private static final long serialVersionUID = -4384796437524306231L;
+
+        private final ColumnarBarData data;
+        private final long position;
+
+        private ColumnarBar(ColumnarBarData data, long position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        @Override
+        public Num getOpenPrice() {
+            return data.toNum(data.openPrices[data.slot(position)]);
+        }
+
+        @Override
+        public Num getLowPrice() {
+            return data.toNum(data.lowPrices[data.slot(position)]);
+        }
+
+        @Override
+        public Num getHighPrice() {
+            return data.toNum(data.highPrices[data.slot(position)]);
+        }
+
+        @Override
+        public Num getClosePrice() {
+            return data.toNum(data.closePrices[data.slot(position)]);
+        }
+
+        @Override
+        public Num getVolume() {
+            return data.toNum(data.volumes[data.slot(position)]);
+        }
+
+        @Override
+        public long getTrades() {
+            return data.trades[data.slot(position)];
+        }
+
+        @Override
+        public Num getAmount() {
+            return data.toNum(data.amounts[data.slot(position)]);
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            return Duration.ofNanos(data.timePeriods[data.slot(position)]);
+        }
+
+        @Override
+        public ZonedDateTime getBeginTime() {
+            int slot = data.slot(position);
+            return data.toZonedDateTime(data.endTimes[slot] - data.timePeriods[slot]);
+        }
+
+        @Override
+        public ZonedDateTime getEndTime() {
+            return data.toZonedDateTime(data.endTimes[data.slot(position)]);
+        }
+
+        @Override
+        public void addTrade(Num tradeVolume, Num tradePrice) {
+            addPrice(tradePrice);
+
+            int slot = data.slot(position);
+            double volume = tradeVolume.doubleValue();
+            data.volumes[slot] += volume;
+            data.amounts[slot] += volume * tradePrice.doubleValue();
+            data.trades[slot]++;
+        }
+
+        @Override
+        public void addPrice(Num price) {
+            int slot = data.slot(position);
+            double value = price.doubleValue();
+            if (Double.isNaN(data.openPrices[slot])) {
+                data.openPrices[slot] = value;
+            }
+            data.closePrices[slot] = value;
+            if (Double.isNaN(data.highPrices[slot]) || data.highPrices[slot] < value) {
+                data.highPrices[slot] = value;
+            }
+            if (Double.isNaN(data.lowPrices[slot]) || data.lowPrices[slot] > value) {
+                data.lowPrices[slot] = value;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "{end time: %1s, close price: %2$f, open price: %3$f, low price: %4$f, high price: %5$f, volume: %6$f}",
+                    getEndTime().withZoneSameInstant(ZoneId.systemDefault()), getClosePrice().doubleValue(),
+                    getOpenPrice().doubleValue(), getLowPrice().doubleValue(), getHighPrice().doubleValue(),
+                    getVolume().doubleValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getBeginTime(), getEndTime(), getTimePeriod(), getOpenPrice(), getHighPrice(),
+                    getLowPrice(), getClosePrice(), getVolume(), getAmount(), getTrades());
+        }
+
+        /**
+         * A columnar bar is equal to any {@link Bar} with the same values (e.g. a
+         * {@link BaseBar}).
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Bar))
+                return false;
+            final Bar other = (Bar) obj;
+            return Objects.equals(getBeginTime(), other.getBeginTime())
+                    && Objects.equals(getEndTime(), other.getEndTime())
+                    && Objects.equals(getTimePeriod(), other.getTimePeriod())
+                    && Objects.equals(getOpenPrice(), other.getOpenPrice())
+                    && Objects.equals(getHighPrice(), other.getHighPrice())
+                    && Objects.equals(getLowPrice(), other.getLowPrice())
+                    && Objects.equals(getClosePrice(), other.getClosePrice())
+                    && Objects.equals(getVolume(), other.getVolume()) && Objects.equals(getAmount(), other.getAmount())
+                    && getTrades() == other.getTrades();
+        }
+    }
+}
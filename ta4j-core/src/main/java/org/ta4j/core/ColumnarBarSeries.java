@@ -0,0 +1,139 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.Num;
+
+/**
+ * Columnar implementation of a {@link BarSeries}.
+ *
+ * Instead of one {@link BaseBar} object per bar, the open/high/low/close
+ * prices, the volume and the amount are stored in parallel {@code double[]}
+ * arrays, the time period and the end time as {@code long[]} nanoseconds. The
+ * bars returned by {@link #getBar(int)} are lightweight views on these arrays.
+ * This keeps the memory footprint per bar small and constant, which matters for
+ * series with millions of bars.
+ *
+ * Limitations:
+ * <ul>
+ * <li>the values are stored as doubles, so a {@link Num} implementation with a
+ * higher precision than {@link DoubleNum} is rounded to double precision</li>
+ * <li>all bars share the time zone of the first added bar</li>
+ * <li>a {@link Bar} obtained from this series must not be used after it has
+ * been removed because of the {@link #setMaximumBarCount(int) maximum bar
+ * count}</li>
+ * </ul>
+ *
+ * @see BaseBarSeriesBuilder#withColumnarStorage(boolean)
+ */
+public class ColumnarBarSeries extends BaseBarSeries {
+
+    private static final long serialVersionUID = -2480306939738717592L;
+
+    /**
+     * Constructor.
+     *
+     * @param name        the name of the series
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     */
+    public ColumnarBarSeries(String name, Function<Number, Num> numFunction) {
+        this(name, new ColumnarBarData(numFunction), -1, -1, false, numFunction);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name        the name of the series
+     * @param bars        the list of bars of the series (copied into the columns)
+     * @param numFunction a {@link Function} to convert a {@link Number} to a
+     *                    {@link Num Num implementation}
+     */
+    public ColumnarBarSeries(String name, List<Bar> bars, Function<Number, Num> numFunction) {
+        this(name, bars, 0, bars.size() - 1, false, numFunction);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name             the name of the series
+     * @param bars             the list of bars of the series (copied into the
+     *                         columns)
+     * @param seriesBeginIndex the begin index (inclusive) of the bar series
+     * @param seriesEndIndex   the end index (inclusive) of the bar series
+     * @param constrained      true to constrain the bar series (i.e. indexes cannot
+     *                         change), false otherwise
+     * @param numFunction      a {@link Function} to convert a {@link Number} to a
+     *                         {@link Num Num implementation}
+     */
+    ColumnarBarSeries(String name, List<Bar> bars, int seriesBeginIndex, int seriesEndIndex, boolean constrained,
+            Function<Number, Num> numFunction) {
+        super(name, toColumns(bars, numFunction), seriesBeginIndex, seriesEndIndex, constrained, numFunction);
+    }
+
+    private static ColumnarBarData toColumns(List<Bar> bars, Function<Number, Num> numFunction) {
+        if (bars instanceof ColumnarBarData) {
+            return (ColumnarBarData) bars;
+        }
+        return new ColumnarBarData(numFunction, bars);
+    }
+
+    /**
+     * Returns a new ColumnarBarSeries that is a subset of this ColumnarBarSeries.
+     * The new series holds a columnar copy of the bars between <tt>startIndex</tt>
+     * (inclusive) and <tt>endIndex</tt> (exclusive).
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a new BarSeries with Bars from startIndex to endIndex-1
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     * @see BaseBarSeries#getSubSeries(int, int)
+     */
+    @Override
+    public ColumnarBarSeries getSubSeries(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        ColumnarBarData columns = (ColumnarBarData) getBarData();
+        ColumnarBarSeries subSeries;
+        if (!columns.isEmpty()) {
+            int start = Math.max(startIndex - getRemovedBarsCount(), getBeginIndex());
+            int end = Math.min(endIndex - getRemovedBarsCount(), getEndIndex() + 1);
+            subSeries = new ColumnarBarSeries(getName(), columns.copy(start, end), function());
+        } else {
+            subSeries = new ColumnarBarSeries(getName(), function());
+        }
+        subSeries.setCachePolicy(getSeriesCachePolicy());
+        return subSeries;
+    }
+
+}
@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
+
+/**
+ * Indicator over primitive doubles.
+ *
+ * Unlike an {@link Indicator Indicator&lt;Num&gt;}, no object is created to
+ * return a value. Undefined values are {@link Double#NaN}.
+ *
+ * @see org.ta4j.core.indicators.primitive
+ */
+public interface DoubleIndicator {
+
+    /**
+     * @param index the bar index
+     * @return the value of the indicator
+     */
+    double getDouble(int index);
+
+    /**
+     * Computes the values of a range of indexes. The value of the index i is
+     * written in out[i - from].
+     *
+     * The default implementation calls {@link #getDouble(int)} for every index.
+     *
+     * @param from the first index (inclusive)
+     * @param to   the last index (exclusive)
+     * @param out  the array receiving the values, of length to - from at least
+     * @throws IllegalArgumentException if the range is invalid or the array is too
+     *                                  short
+     */
+    default void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        for (int i = from; i < to; i++) {
+            out[i - from] = getDouble(i);
+        }
+    }
+
+    /**
+     * @return the related bar series
+     */
+    BarSeries getBarSeries();
+
+    /**
+     * @return the {@link Num Num extending class} for the given {@link Number}
+     */
+    default Num numOf(Number number) {
+        return getBarSeries().numOf(number);
+    }
+}
@@ -24,6 +24,7 @@
 package org.ta4j.core;
 
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Indicator over a {@link BarSeries bar series}. <p/p> For each index of the
@@ -49,6 +50,31 @@ public interface Indicator<T> {
      */
     Num numOf(Number number);
 
+    /**
+     * Computes the values of a range of indexes as doubles (e.g. to export an
+     * indicator or to build a feature matrix). The value of the index i is written
+     * in out[i - from]: {@link Num#doubleValue()} for a {@link Num}, 1 or 0 for a
+     * boolean.
+     *
+     * The default implementation calls {@link #getValue(int)} for every index.
+     * Indicators with a cheaper bulk access (e.g. the cached indicators) override
+     * it. An override may compute in a single pass in double arithmetic (e.g. the
+     * {@link org.ta4j.core.indicators.SMAIndicator SMA}): its values may then
+     * differ from the ones of {@link #getValue(int)} by rounding errors.
+     *
+     * @param from the first index (inclusive)
+     * @param to   the last index (exclusive)
+     * @param out  the array receiving the values, of length to - from at least
+     * @throws IllegalArgumentException if the range is invalid or the array is too
+     *                                  short
+     */
+    default void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        for (int i = from; i < to; i++) {
+            out[i - from] = IndicatorUtils.toDouble(getValue(i));
+        }
+    }
+
     /**
      * Returns all values from an {@link Indicator} as an array of Doubles. The
      * returned doubles could have a minor loss of precise, if {@link Indicator} was
@@ -25,6 +25,7 @@ package org.ta4j.core.indicators;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Base class for Exponential Moving Average implementations.
@@ -51,6 +52,31 @@ public abstract class AbstractEMAIndicator extends RecursiveCachedIndicator<Num>
         return indicator.getValue(index).minus(prevValue).multipliedBy(multiplier).plus(prevValue);
     }
 
+    /**
+     * Computes the averages of a range of indexes in a single pass over the values
+     * of the indicator, in double arithmetic (from the value of the previous index,
+     * if any): the averages may differ from the values of {@link #getValue(int)} by
+     * rounding errors.
+     */
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        final int begin = computeRemovedRange(from, to, out);
+        if (begin == to) {
+            return;
+        }
+        final double[] values = new double[to - begin];
+        indicator.computeRange(begin, to, values);
+        final double k = multiplier.doubleValue();
+        double prevValue = begin == 0 ? values[0] : getValue(begin - 1).doubleValue();
+        for (int i = begin; i < to; i++) {
+            if (i > 0) {
+                prevValue = (values[i - begin] - prevValue) * k + prevValue;
+            }
+            out[i - from] = prevValue;
+        }
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
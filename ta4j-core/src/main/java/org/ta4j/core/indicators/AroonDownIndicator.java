@@ -28,7 +28,7 @@ import static org.ta4j.core.num.NaN.NaN;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
-import org.ta4j.core.indicators.helpers.LowestValueIndicator;
+import org.ta4j.core.indicators.helpers.LowestValueIndexIndicator;
 import org.ta4j.core.num.Num;
 
 /**
@@ -40,8 +40,7 @@ import org.ta4j.core.num.Num;
 public class AroonDownIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
-    private final LowestValueIndicator lowestLowPriceIndicator;
-    private final Indicator<Num> lowPriceIndicator;
+    private final LowestValueIndexIndicator lowestLowIndex;
     private final Num hundred;
 
     /**
@@ -54,10 +53,9 @@ public class AroonDownIndicator extends CachedIndicator<Num> {
     public AroonDownIndicator(Indicator<Num> lowPriceIndicator, int barCount) {
         super(lowPriceIndicator);
         this.barCount = barCount;
-        this.lowPriceIndicator = lowPriceIndicator;
         this.hundred = numOf(100);
-        // + 1 needed for last possible iteration in loop
-        this.lowestLowPriceIndicator = new LowestValueIndicator(lowPriceIndicator, barCount + 1);
+        // The window covers the current bar and the barCount previous ones
+        this.lowestLowIndex = new LowestValueIndexIndicator(lowPriceIndicator, barCount + 1);
     }
 
     /**
@@ -75,15 +73,9 @@ public class AroonDownIndicator extends CachedIndicator<Num> {
         if (getBarSeries().getBar(index).getLowPrice().isNaN())
             return NaN;
 
-        // Getting the number of bars since the lowest close price
+        // Getting the number of bars since the lowest low price (at most barCount)
         int endIndex = Math.max(0, index - barCount);
-        int nbBars = 0;
-        for (int i = index; i > endIndex; i--) {
-            if (lowPriceIndicator.getValue(i).isEqual(lowestLowPriceIndicator.getValue(index))) {
-                break;
-            }
-            nbBars++;
-        }
+        int nbBars = index - Math.max(endIndex, lowestLowIndex.getValue(index));
 
         return numOf(barCount - nbBars).dividedBy(numOf(barCount)).multipliedBy(hundred);
     }
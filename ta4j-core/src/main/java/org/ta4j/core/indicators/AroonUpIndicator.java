@@ -28,7 +28,7 @@ import static org.ta4j.core.num.NaN.NaN;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
-import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndexIndicator;
 import org.ta4j.core.num.Num;
 
 /**
@@ -40,8 +40,7 @@ import org.ta4j.core.num.Num;
 public class AroonUpIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
-    private final HighestValueIndicator highestHighPriceIndicator;
-    private final Indicator<Num> highPriceIndicator;
+    private final HighestValueIndexIndicator highestHighIndex;
     private final Num hundred;
 
     /**
@@ -54,10 +53,9 @@ public class AroonUpIndicator extends CachedIndicator<Num> {
     public AroonUpIndicator(Indicator<Num> highPriceIndicator, int barCount) {
         super(highPriceIndicator);
         this.barCount = barCount;
-        this.highPriceIndicator = highPriceIndicator;
         this.hundred = numOf(100);
-        // + 1 needed for last possible iteration in loop
-        this.highestHighPriceIndicator = new HighestValueIndicator(highPriceIndicator, barCount + 1);
+        // The window covers the current bar and the barCount previous ones
+        this.highestHighIndex = new HighestValueIndexIndicator(highPriceIndicator, barCount + 1);
     }
 
     /**
@@ -75,15 +73,9 @@ public class AroonUpIndicator extends CachedIndicator<Num> {
         if (getBarSeries().getBar(index).getHighPrice().isNaN())
             return NaN;
 
-        // Getting the number of bars since the highest close price
+        // Getting the number of bars since the highest high price (at most barCount)
         int endIndex = Math.max(0, index - barCount);
-        int nbBars = 0;
-        for (int i = index; i > endIndex; i--) {
-            if (highPriceIndicator.getValue(i).isEqual(highestHighPriceIndicator.getValue(index))) {
-                break;
-            }
-            nbBars++;
-        }
+        int nbBars = index - Math.max(endIndex, highestHighIndex.getValue(index));
 
         return numOf(barCount - nbBars).dividedBy(numOf(barCount)).multipliedBy(hundred);
     }
@@ -0,0 +1,63 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.CachePolicy;
+import org.ta4j.core.Indicator;
+
+/**
+ * Cached boolean {@link Indicator indicator}.
+ *
+ * Same caching as {@link CachedIndicator}, but the results kept by a
+ * {@link CachePolicy#FULL full} or {@link CachePolicy#slidingWindow(int)
+ * sliding window} cache policy are stored in two bit sets: one for the cached
+ * indexes and one for their values. A result costs 2 bits instead of a
+ * reference to a {@link Boolean} in a buffer.
+ */
+public abstract class CachedBooleanIndicator extends CachedIndicator<Boolean> {
+
+    /**
+     * Constructor.
+     *
+     * @param series the related bar series
+     */
+    protected CachedBooleanIndicator(BarSeries series) {
+        super(series);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicator a related indicator (with a bar series)
+     */
+    protected CachedBooleanIndicator(Indicator<?> indicator) {
+        super(indicator);
+    }
+
+    @Override
+    ResultCache<Boolean> createResults(CachePolicy policy, int maximumBarCount) {
+        return ResultCache.ofBooleans(policy, maximumBarCount);
+    }
+}
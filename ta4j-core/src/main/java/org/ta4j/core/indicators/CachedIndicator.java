@@ -23,32 +23,75 @@
  */
 package org.ta4j.core.indicators;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.CachePolicy;
+import org.ta4j.core.BarSeriesListener;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Cached {@link Indicator indicator}.
  *
  * Caches the constructor of the indicator. Avoid to calculate the same index of
  * the indicator twice.
+ *
+ * The results kept depend on the {@link CachePolicy cache policy} of the
+ * indicator: the policy set on the instance, else the
+ * {@link #getDefaultCachePolicy() default policy of its class}, else the policy
+ * of its series. By default, all the results are cached up to the maximum bar
+ * count of the series.
+ *
+ * The access to the cache is synchronized: an indicator may be shared by
+ * strategies running in parallel (see {@link org.ta4j.core.BacktestExecutor}).
+ *
+ * The value of the last bar is not cached, since the last bar may still change.
+ * For a live series, the indicator may be registered as a listener of its
+ * series (see {@link BarSeries#addListener(BarSeriesListener)}): the value of
+ * the last bar is then kept until the series notifies that the last bar has
+ * changed, and becomes a regular cached value when the next bar is added. The
+ * bars of the series must then only be modified through the series (e.g.
+ * {@link BarSeries#addBar(org.ta4j.core.Bar, boolean)}, <code>addTrade</code>
+ * or <code>addPrice</code>), not through the {@link org.ta4j.core.Bar}
+ * instances.
  */
-public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
+public abstract class CachedIndicator<T> extends AbstractIndicator<T> implements BarSeriesListener {
 
     /**
-     * List of cached results
+     * Cached results, created on first use from the cache policy
      */
-    private final List<T> results;
+    private ResultCache<T> results;
 
     /**
-     * Should always be the index of the last result in the results list. I.E. the
-     * last calculated result.
+     * Index of the highest calculated result (not cached anymore if the cache
+     * policy has evicted it)
+     *
+     * @deprecated the results are stored according to the cache policy, use
+     *             {@link #isCached(int)}
      */
+    @Deprecated
     protected int highestResultIndex = -1;
 
+    /**
+     * Cache policy of the instance, null for the default one
+     */
+    private CachePolicy cachePolicy;
+
+    /**
+     * True once the indicator has been notified by its series (i.e. it is a
+     * listener of the series), until it is removed from the listeners
+     */
+    private boolean listening;
+
+    /**
+     * Index of the last bar value, -1 if there is no valid last bar value
+     */
+    private int lastBarIndex = -1;
+
+    /**
+     * Value of the last bar, valid until the last bar changes
+     */
+    private T lastBarResult;
+
     /**
      * Constructor.
      *
@@ -56,8 +99,6 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
      */
     protected CachedIndicator(BarSeries series) {
         super(series);
-        int limit = series.getMaximumBarCount();
-        results = limit == Integer.MAX_VALUE ? new ArrayList<>() : new ArrayList<>(limit);
     }
 
     /**
@@ -75,102 +116,187 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
      */
     protected abstract T calculate(int index);
 
+    /**
+     * Gives the default cache policy of the indicators of this class, e.g.
+     * {@link CachePolicy#NO_CACHE} for an indicator only reading a value of the
+     * bar.
+     *
+     * @return the default cache policy of the class, null for the policy of the
+     *         series
+     */
+    protected CachePolicy getDefaultCachePolicy() {
+        return null;
+    }
+
+    /**
+     * @return the cache policy of this indicator
+     */
+    public synchronized CachePolicy getCachePolicy() {
+        if (cachePolicy != null) {
+            return cachePolicy;
+        }
+        final CachePolicy classPolicy = getDefaultCachePolicy();
+        if (classPolicy != null) {
+            return classPolicy;
+        }
+        final BarSeries series = getBarSeries();
+        return series != null ? series.getCachePolicy() : CachePolicy.getDefault();
+    }
+
+    /**
+     * Sets the cache policy of this indicator. The cached results are cleared.
+     *
+     * @param cachePolicy the cache policy, null for the default one
+     */
+    public synchronized void setCachePolicy(CachePolicy cachePolicy) {
+        this.cachePolicy = cachePolicy;
+        results = null;
+        highestResultIndex = -1;
+    }
+
+    @Override
+    public synchronized T getValue(int index) {
+        final T result = value(index);
+        log.trace("{}({}): {}", this, index, result);
+        return result;
+    }
+
+    /**
+     * Computes the values of a range of indexes under a single lock, without the
+     * per-value tracing of {@link #getValue(int)}.
+     */
     @Override
-    public T getValue(int index) {
+    public synchronized void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        for (int i = from; i < to; i++) {
+            out[i - from] = IndicatorUtils.toDouble(value(i));
+        }
+    }
+
+    /**
+     * Computes the values of the removed indexes of a range (see
+     * {@link BarSeries#getRemovedBarsCount()}) like
+     * {@link #computeRange(int, int, double[])}: for the subclasses computing the
+     * other indexes of the range in a single pass.
+     *
+     * @param from the first index (inclusive)
+     * @param to   the last index (exclusive)
+     * @param out  the array receiving the values
+     * @return the first index of the range which is not removed
+     */
+    protected synchronized int computeRemovedRange(int from, int to, double[] out) {
+        final BarSeries series = getBarSeries();
+        final int end = series == null ? from : Math.min(to, Math.max(from, series.getRemovedBarsCount()));
+        for (int i = from; i < end; i++) {
+            out[i - from] = IndicatorUtils.toDouble(value(i));
+        }
+        return end;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the (cached) value of the indicator
+     */
+    T value(int index) {
         BarSeries series = getBarSeries();
         if (series == null) {
             // Series is null; the indicator doesn't need cache.
             // (e.g. simple computation of the value)
             // --> Calculating the value
-            T result = calculate(index);
-            log.trace("{}({}): {}", this, index, result);
-            return result;
+            return calculate(index);
         }
 
         // Series is not null
 
         final int removedBarsCount = series.getRemovedBarsCount();
-        final int maximumResultCount = series.getMaximumBarCount();
+        final ResultCache<T> cache = getResults(series);
 
         T result;
         if (index < removedBarsCount) {
             // Result already removed from cache
             log.trace("{}: result from bar {} already removed from cache, use {}-th instead",
                     getClass().getSimpleName(), index, removedBarsCount);
-            increaseLengthTo(removedBarsCount, maximumResultCount);
-            highestResultIndex = removedBarsCount;
-            result = results.get(0);
+            result = cache.get(removedBarsCount);
             if (result == null) {
                 // It should be "result = calculate(removedBarsCount);".
                 // We use "result = calculate(0);" as a workaround
                 // to fix issue #120 (https://github.com/mdeverdelhan/ta4j/issues/120).
                 result = calculate(0);
-                results.set(0, result);
             }
-        } else {
-            if (index == series.getEndIndex()) {
-                // Don't cache result if last bar
-                result = calculate(index);
+        } else if (index == series.getEndIndex()) {
+            // Don't cache result if last bar (unless notified of its changes)
+            if (index == lastBarIndex) {
+                result = lastBarResult;
             } else {
-                increaseLengthTo(index, maximumResultCount);
-                if (index > highestResultIndex) {
-                    // Result not calculated yet
-                    highestResultIndex = index;
-                    result = calculate(index);
-                    results.set(results.size() - 1, result);
-                } else {
-                    // Result covered by current cache
-                    int resultInnerIndex = results.size() - 1 - (highestResultIndex - index);
-                    result = results.get(resultInnerIndex);
-                    if (result == null) {
-                        result = calculate(index);
-                        results.set(resultInnerIndex, result);
-                    }
+                result = calculate(index);
+                if (listening && cache.getPolicy().getType() != CachePolicy.Type.NO_CACHE) {
+                    lastBarIndex = index;
+                    lastBarResult = result;
                 }
             }
-
+        } else {
+            result = cache.get(index);
+            if (result == null) {
+                // The value of the former last bar is final once a bar has been added
+                result = index == lastBarIndex ? lastBarResult : calculate(index);
+                cache.put(index, result);
+                highestResultIndex = Math.max(highestResultIndex, index);
+            }
         }
-        log.trace("{}({}): {}", this, index, result);
         return result;
     }
 
     /**
-     * Increases the size of cached results buffer.
-     *
-     * @param index     the index to increase length to
-     * @param maxLength the maximum length of the results buffer
-     */
-    private void increaseLengthTo(int index, int maxLength) {
-        if (highestResultIndex > -1) {
-            int newResultsCount = Math.min(index - highestResultIndex, maxLength);
-            if (newResultsCount == maxLength) {
-                results.clear();
-                results.addAll(Collections.nCopies(maxLength, null));
-            } else if (newResultsCount > 0) {
-                results.addAll(Collections.nCopies(newResultsCount, null));
-                removeExceedingResults(maxLength);
-            }
-        } else {
-            // First use of cache
-            assert results.isEmpty() : "Cache results list should be empty";
-            results.addAll(Collections.nCopies(Math.min(index + 1, maxLength), null));
-        }
+     * @param index the bar index
+     * @return true if the result of the index is cached
+     */
+    protected synchronized boolean isCached(int index) {
+        final BarSeries series = getBarSeries();
+        return series != null && index >= series.getRemovedBarsCount() && index < series.getEndIndex()
+                && getResults(series).get(index) != null;
+    }
+
+    @Override
+    public synchronized void onBarAdded(BarSeries series, int index) {
+        listening = true;
+    }
+
+    @Override
+    public synchronized void onLastBarChanged(BarSeries series, int index) {
+        listening = true;
+        // Rolls back the value of the last bar only
+        lastBarIndex = -1;
+        lastBarResult = null;
+    }
+
+    @Override
+    public synchronized void onRemoved(BarSeries series) {
+        // The changes of the last bar are not notified anymore
+        listening = false;
+        lastBarIndex = -1;
+        lastBarResult = null;
     }
 
     /**
-     * Removes the N first results which exceed the maximum bar count. (i.e. keeps
-     * only the last maximumResultCount results)
-     *
-     * @param maximumResultCount the number of results to keep
-     */
-    private void removeExceedingResults(int maximumResultCount) {
-        int resultCount = results.size();
-        if (resultCount > maximumResultCount) {
-            // Removing old results
-            final int nbResultsToRemove = resultCount - maximumResultCount;
-            for (int i = 0; i < nbResultsToRemove; i++) {
-                results.remove(0);
-            }
+     * @param policy          the cache policy
+     * @param maximumBarCount the maximum bar count of the series
+     * @return the store of the cached results implementing the policy
+     */
+    ResultCache<T> createResults(CachePolicy policy, int maximumBarCount) {
+        return ResultCache.of(policy, maximumBarCount);
+    }
+
+    /**
+     * @param series the bar series
+     * @return the cached results (created from the cache policy on first use)
+     */
+    private ResultCache<T> getResults(BarSeries series) {
+        if (results == null) {
+            results = createResults(getCachePolicy(), series.getMaximumBarCount());
+        } else {
+            // The maximum bar count of the series may have changed
+            results.setMaximumBarCount(series.getMaximumBarCount());
         }
+        return results;
     }
 }
@@ -28,6 +28,7 @@ import java.util.function.Function;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.CachePolicy;
 
 /**
  * DateTime indicator.
@@ -50,4 +51,10 @@ public class DateTimeIndicator extends CachedIndicator<ZonedDateTime> {
         Bar bar = getBarSeries().getBar(index);
         return this.action.apply(bar);
     }
+
+    @Override
+    protected CachePolicy getDefaultCachePolicy() {
+        // The value is read from the bar
+        return CachePolicy.NO_CACHE;
+    }
 }
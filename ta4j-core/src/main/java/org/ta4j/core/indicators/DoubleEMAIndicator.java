@@ -25,6 +25,7 @@ package org.ta4j.core.indicators;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Double exponential moving average indicator.
@@ -58,6 +59,23 @@ public class DoubleEMAIndicator extends CachedIndicator<Num> {
         return ema.getValue(index).multipliedBy(numOf(2)).minus(emaEma.getValue(index));
     }
 
+    /**
+     * Computes the values of a range of indexes from the ranges of the EMAs (see
+     * {@link AbstractEMAIndicator#computeRange(int, int, double[])}).
+     */
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        final int begin = computeRemovedRange(from, to, out);
+        final double[] emas = new double[to - begin];
+        final double[] emaEmas = new double[to - begin];
+        ema.computeRange(begin, to, emas);
+        emaEma.computeRange(begin, to, emaEmas);
+        for (int i = begin; i < to; i++) {
+            out[i - from] = emas[i - begin] * 2 - emaEmas[i - begin];
+        }
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
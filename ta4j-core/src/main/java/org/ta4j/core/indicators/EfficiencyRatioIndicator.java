@@ -0,0 +1,77 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.AbsoluteChangeSumIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Kaufman's efficiency ratio (ER) indicator.
+ *
+ * ER = Change / Volatility, where Change = ABS(Close - Close (barCount periods
+ * ago)) and Volatility is the sum of the absolute values of the last barCount
+ * price changes (Close - Prior Close). From 0 (noise) to 1 (straight trend), it
+ * is 0 when the price did not move at all. The volatility is a running sum:
+ * O(1) per bar.
+ *
+ * @see <a href=
+ *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:kaufman_s_adaptive_moving_average">
+ *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:kaufman_s_adaptive_moving_average</a>
+ */
+public class EfficiencyRatioIndicator extends CachedIndicator<Num> {
+
+    private final Indicator<Num> price;
+    private final int barCount;
+    private final AbsoluteChangeSumIndicator volatility;
+
+    /**
+     * Constructor.
+     *
+     * @param price    the price
+     * @param barCount the time frame (usually 10)
+     */
+    public EfficiencyRatioIndicator(Indicator<Num> price, int barCount) {
+        super(price);
+        this.price = price;
+        this.barCount = barCount;
+        this.volatility = new AbsoluteChangeSumIndicator(price, barCount);
+    }
+
+    @Override
+    protected Num calculate(int index) {
+        final int startChangeIndex = Math.max(0, index - barCount);
+        final Num change = price.getValue(index).minus(price.getValue(startChangeIndex)).abs();
+        final Num sumOfChanges = volatility.getValue(index);
+        if (sumOfChanges.isZero()) {
+            return numOf(0);
+        }
+        return change.dividedBy(sumOfChanges);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
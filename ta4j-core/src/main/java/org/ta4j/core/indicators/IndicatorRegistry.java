@@ -0,0 +1,180 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+
+/**
+ * Registry of the indicators of a bar series.
+ *
+ * Deduplicates the structurally equal indicators: an indicator is registered by
+ * its class and its parameters, the indicators and bar series being compared by
+ * identity and the other parameters by equality. Strategies built from the same
+ * registry share their indicators, hence their cached values. E.g.:
+ *
+ * <pre>
+ * ClosePriceIndicator closePrice = registry.get(ClosePriceIndicator.class, () -&gt; new ClosePriceIndicator(series),
+ *         series);
+ * SMAIndicator sma = registry.get(SMAIndicator.class, () -&gt; new SMAIndicator(closePrice, barCount), closePrice,
+ *         barCount);
+ * </pre>
+ *
+ * The parameters must be the ones given to the constructor by the factory. The
+ * registry is thread-safe.
+ */
+public class IndicatorRegistry {
+
+    private final BarSeries series;
+
+    private final ConcurrentMap<Key, Indicator<?>> indicators = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series of the registered indicators
+     */
+    public IndicatorRegistry(BarSeries series) {
+        this.series = series;
+    }
+
+    /**
+     * Gives the registered indicator with a class and parameters, registering the
+     * one created by the factory if there is none.
+     *
+     * @param type       the class of the indicator
+     * @param factory    the factory of the indicator, called with the parameters
+     * @param parameters the parameters of the indicator
+     * @return the registered indicator
+     * @throws IllegalArgumentException if the created indicator has not the type or
+     *                                  the bar series of the registry
+     */
+    public <T extends Indicator<?>> T get(Class<T> type, Supplier<? extends T> factory, Object... parameters) {
+        final Key key = new Key(type, parameters);
+        Indicator<?> indicator = indicators.get(key);
+        if (indicator == null) {
+            // Not created in computeIfAbsent: the factory may register its own inputs
+            final T created = factory.get();
+            if (created.getClass() != type) {
+                throw new IllegalArgumentException(
+                        "Created indicator " + created.getClass().getName() + " is not a " + type.getName());
+            }
+            if (created.getBarSeries() != series) {
+                throw new IllegalArgumentException("Created indicator " + created + " has another bar series");
+            }
+            indicator = indicators.putIfAbsent(key, created);
+            if (indicator == null) {
+                indicator = created;
+            }
+        }
+        return type.cast(indicator);
+    }
+
+    /**
+     * @return the bar series of the registered indicators
+     */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /**
+     * @return the number of registered indicators
+     */
+    public int size() {
+        return indicators.size();
+    }
+
+    /**
+     * Removes all the registered indicators.
+     */
+    public void clear() {
+        indicators.clear();
+    }
+
+    /**
+     * Registration key: the class of an indicator and its parameters.
+     */
+    private static final class Key {
+
+        private final Class<?> type;
+        private final Object[] parameters;
+        private final int hashCode;
+
+        private Key(Class<?> type, Object[] parameters) {
+            this.type = type;
+            this.parameters = parameters.clone();
+            int hash = type.hashCode();
+            for (Object parameter : parameters) {
+                hash = 31 * hash
+                        + (isComparedByIdentity(parameter) ? System.identityHashCode(parameter) : parameter.hashCode());
+            }
+            this.hashCode = hash;
+        }
+
+        private static boolean isComparedByIdentity(Object parameter) {
+            return parameter == null || parameter instanceof Indicator || parameter instanceof BarSeries;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            if (type != other.type || parameters.length != other.parameters.length) {
+                return false;
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                final Object parameter = parameters[i];
+                final Object otherParameter = other.parameters[i];
+                if (isComparedByIdentity(parameter) || isComparedByIdentity(otherParameter)) {
+                    if (parameter != otherParameter) {
+                        return false;
+                    }
+                } else if (!parameter.equals(otherParameter)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return type.getSimpleName() + Arrays.toString(parameters);
+        }
+    }
+}
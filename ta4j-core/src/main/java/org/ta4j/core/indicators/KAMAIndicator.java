@@ -28,6 +28,9 @@ import org.ta4j.core.num.Num;
 
 /**
  * The Kaufman's Adaptive Moving Average (KAMA) Indicator.
+ *
+ * The efficiency ratio is computed from a running sum of the price changes (see
+ * {@link EfficiencyRatioIndicator}): O(1) per bar.
  * 
  * @see <a href=
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:kaufman_s_adaptive_moving_average">
@@ -39,6 +42,8 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Num> {
 
     private final int barCountEffectiveRatio;
 
+    private final EfficiencyRatioIndicator efficiencyRatio;
+
     private final Num fastest;
 
     private final Num slowest;
@@ -56,6 +61,7 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Num> {
         super(price);
         this.price = price;
         this.barCountEffectiveRatio = barCountEffectiveRatio;
+        this.efficiencyRatio = new EfficiencyRatioIndicator(price, barCountEffectiveRatio);
         fastest = numOf(2).dividedBy(numOf(barCountFast + 1));
         slowest = numOf(2).dividedBy(numOf(barCountSlow + 1));
     }
@@ -84,13 +90,7 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Num> {
          * sum of the absolute value of the last ten price changes (Close - Prior
          * Close).
          */
-        int startChangeIndex = Math.max(0, index - barCountEffectiveRatio);
-        Num change = currentPrice.minus(price.getValue(startChangeIndex)).abs();
-        Num volatility = numOf(0);
-        for (int i = startChangeIndex; i < index; i++) {
-            volatility = volatility.plus(price.getValue(i + 1).minus(price.getValue(i)).abs());
-        }
-        Num er = change.dividedBy(volatility);
+        Num er = efficiencyRatio.getValue(index);
         /*
          * Smoothing Constant (SC) SC = [ER x (fastest SC - slowest SC) + slowest SC]2
          * SC = [ER x (2/(2+1) - 2/(30+1)) + 2/(30+1)]2
@@ -29,39 +29,31 @@ import org.ta4j.core.num.Num;
 /**
  * Linearly Weighted Moving Average (LWMA).
  *
+ * It is the {@link WMAIndicator WMA} of the indicator, 0 until barCount values
+ * are available.
+ *
  * @see <a href=
  *      "https://www.investopedia.com/terms/l/linearlyweightedmovingaverage.asp">
  *      https://www.investopedia.com/terms/l/linearlyweightedmovingaverage.asp</a>
  */
 public class LWMAIndicator extends CachedIndicator<Num> {
 
-    private final Indicator<Num> indicator;
+    private final WMAIndicator wma;
     private final int barCount;
     private final Num zero = numOf(0);
 
     public LWMAIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.wma = new WMAIndicator(indicator, barCount);
         this.barCount = barCount;
     }
 
     @Override
     protected Num calculate(int index) {
-        Num sum = zero;
-        Num denominator = zero;
-        int count = 0;
-
         if ((index + 1) < barCount) {
             return zero;
         }
-
-        int startIndex = (index - barCount) + 1;
-        for (int i = startIndex; i <= index; i++) {
-            count++;
-            denominator = denominator.plus(numOf(count));
-            sum = sum.plus(indicator.getValue(i).multipliedBy(numOf(count)));
-        }
-        return sum.dividedBy(denominator);
+        return wma.getValue(index);
     }
 
     @Override
@@ -25,7 +25,7 @@ package org.ta4j.core.indicators;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.helpers.DifferenceIndicator;
+import org.ta4j.core.indicators.helpers.Expression;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
 import org.ta4j.core.num.Num;
@@ -52,8 +52,8 @@ public class MassIndexIndicator extends CachedIndicator<Num> {
      */
     public MassIndexIndicator(BarSeries series, int emaBarCount, int barCount) {
         super(series);
-        Indicator<Num> highLowDifferential = new DifferenceIndicator(new HighPriceIndicator(series),
-                new LowPriceIndicator(series));
+        Indicator<Num> highLowDifferential = Expression.of(new HighPriceIndicator(series))
+                .minus(new LowPriceIndicator(series));
         singleEma = new EMAIndicator(highLowDifferential, emaBarCount);
         doubleEma = new EMAIndicator(singleEma, emaBarCount); // Not the same formula as DoubleEMAIndicator
         this.barCount = barCount;
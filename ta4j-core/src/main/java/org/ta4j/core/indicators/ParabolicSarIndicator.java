@@ -27,32 +27,37 @@ import static org.ta4j.core.num.NaN.NaN;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
-import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
-import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Parabolic SAR indicator.
  *
+ * The trend state of each bar (trend, acceleration factor, extreme points) is
+ * an immutable snapshot, cached along with the SAR value: the value of a bar
+ * only depends on the snapshot of the previous bar. Hence the values may be
+ * requested in any order, the value of the last bar may be recalculated when it
+ * changes, and the calculation resumes from the nearest cached snapshot.
+ *
+ * Once the first bars of a moving series have been evicted, a calculation which
+ * does not find a cached snapshot restarts the trend detection at the first
+ * remaining bar: its values become the same as the ones of an indicator fed
+ * with every bar from the second trend reversal of the remaining bars.
+ *
  * @see <a href=
  *      "https://www.investopedia.com/trading/introduction-to-parabolic-sar/">
  *      https://www.investopedia.com/trading/introduction-to-parabolic-sar/</a>
  * @see <a href="https://www.investopedia.com/terms/p/parabolicindicator.asp">
  *      https://www.investopedia.com/terms/p/parabolicindicator.asp</a>
  */
-public class ParabolicSarIndicator extends RecursiveCachedIndicator<Num> {
+public class ParabolicSarIndicator extends CachedIndicator<Num> {
 
     private final Num maxAcceleration;
     private final Num accelerationIncrement;
     private final Num accelerationStart;
-    private Num accelerationFactor;
-    private boolean currentTrend; // true if uptrend, false otherwise
-    private int startTrendIndex = 0; // index of start bar of the current trend
-    private LowPriceIndicator lowPriceIndicator;
-    private HighPriceIndicator highPriceIndicator;
-    private Num currentExtremePoint; // the extreme point of the current calculation
-    private Num minMaxExtremePoint; // depending on trend the maximum or minimum extreme point value of trend
+    private final LowPriceIndicator lowPriceIndicator;
+    private final HighPriceIndicator highPriceIndicator;
+    private final StateIndicator states;
 
     /**
      * Constructor with default parameters
@@ -88,97 +93,175 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Num> {
         highPriceIndicator = new HighPriceIndicator(series);
         lowPriceIndicator = new LowPriceIndicator(series);
         maxAcceleration = maxA;
-        accelerationFactor = aF;
         accelerationIncrement = increment;
         accelerationStart = aF;
+        states = new StateIndicator(series);
     }
 
     @Override
     protected Num calculate(int index) {
-        Num sar = NaN;
-        if (index == getBarSeries().getBeginIndex()) {
-            return sar; // no trend detection possible for the first value
-        } else if (index == getBarSeries().getBeginIndex() + 1) {// start trend detection
-            currentTrend = getBarSeries().getBar(getBarSeries().getBeginIndex()).getClosePrice()
-                    .isLessThan(getBarSeries().getBar(index).getClosePrice());
-            if (!currentTrend) { // down trend
-                sar = new HighestValueIndicator(highPriceIndicator, 2).getValue(index); // put the highest high value of
-                                                                                        // two first bars
-                currentExtremePoint = sar;
-                minMaxExtremePoint = currentExtremePoint;
-            } else { // up trend
-                sar = new LowestValueIndicator(lowPriceIndicator, 2).getValue(index); // put the lowest low value of two
-                                                                                      // first bars
-                currentExtremePoint = sar;
-                minMaxExtremePoint = currentExtremePoint;
-
-            }
-            return sar;
-        }
+        final State state = states.getValue(index);
+        return state == null ? NaN : state.sar;
+    }
 
-        Num priorSar = getValue(index - 1);
-        if (currentTrend) { // if up trend
-            sar = priorSar.plus(accelerationFactor.multipliedBy((currentExtremePoint.minus(priorSar))));
-            currentTrend = lowPriceIndicator.getValue(index).isGreaterThan(sar);
-            if (!currentTrend) { // check if sar touches the low price
-                if (minMaxExtremePoint.isGreaterThan(highPriceIndicator.getValue(index)))
-                    sar = minMaxExtremePoint; // sar starts at the highest extreme point of previous up trend
+    /**
+     * Calculates the state of a bar from the state of the previous bar.
+     *
+     * @param index the bar index (after the first two bars)
+     * @param prior the state of the previous bar
+     * @return the state of the bar
+     */
+    private State nextState(int index, State prior) {
+        final Num priorSar = prior.sar;
+        final Num high = highPriceIndicator.getValue(index);
+        final Num low = lowPriceIndicator.getValue(index);
+        Num sar;
+        if (prior.upTrend) { // if up trend
+            sar = priorSar.plus(prior.accelerationFactor.multipliedBy((prior.currentExtremePoint.minus(priorSar))));
+            if (!low.isGreaterThan(sar)) { // check if sar touches the low price
+                if (prior.minMaxExtremePoint.isGreaterThan(high))
+                    sar = prior.minMaxExtremePoint; // sar starts at the highest extreme point of previous up trend
                 else
-                    sar = highPriceIndicator.getValue(index);
-                currentTrend = false; // switch to down trend and reset values
-                startTrendIndex = index;
-                accelerationFactor = accelerationStart;
-                currentExtremePoint = getBarSeries().getBar(index).getLowPrice(); // put point on max
-                minMaxExtremePoint = currentExtremePoint;
-            } else { // up trend is going on
-                Num lowestPriceOfTwoPreviousBars = new LowestValueIndicator(lowPriceIndicator,
-                        Math.min(2, index - startTrendIndex)).getValue(index - 1);
-                if (sar.isGreaterThan(lowestPriceOfTwoPreviousBars))
-                    sar = lowestPriceOfTwoPreviousBars;
-                currentExtremePoint = new HighestValueIndicator(highPriceIndicator, index - startTrendIndex + 1)
-                        .getValue(index);
-                if (currentExtremePoint.isGreaterThan(minMaxExtremePoint)) {
-                    incrementAcceleration();
-                    minMaxExtremePoint = currentExtremePoint;
-                }
-
+                    sar = high;
+                // switch to down trend and reset values
+                return new State(sar, false, index, accelerationStart, low, low, low);
             }
-        } else { // downtrend
-            sar = priorSar.minus(accelerationFactor.multipliedBy(((priorSar.minus(currentExtremePoint)))));
-            currentTrend = highPriceIndicator.getValue(index).isGreaterThanOrEqual(sar);
-            if (currentTrend) { // check if switch to up trend
-                if (minMaxExtremePoint.isLessThan(lowPriceIndicator.getValue(index)))
-                    sar = minMaxExtremePoint; // sar starts at the lowest extreme point of previous down trend
-                else
-                    sar = lowPriceIndicator.getValue(index);
-                accelerationFactor = accelerationStart;
-                startTrendIndex = index;
-                currentExtremePoint = getBarSeries().getBar(index).getHighPrice();
-                minMaxExtremePoint = currentExtremePoint;
-            } else { // down trend io going on
-                Num highestPriceOfTwoPreviousBars = new HighestValueIndicator(highPriceIndicator,
-                        Math.min(2, index - startTrendIndex)).getValue(index - 1);
-                if (sar.isLessThan(highestPriceOfTwoPreviousBars))
-                    sar = highestPriceOfTwoPreviousBars;
-                currentExtremePoint = new LowestValueIndicator(lowPriceIndicator, index - startTrendIndex + 1)
-                        .getValue(index);
-                if (currentExtremePoint.isLessThan(minMaxExtremePoint)) {
-                    incrementAcceleration();
-                    minMaxExtremePoint = currentExtremePoint;
-                }
+            // up trend is going on
+            Num lowestPriceOfTwoPreviousBars = lowPriceIndicator.getValue(index - 1);
+            if (index - prior.startTrendIndex >= 2) {
+                lowestPriceOfTwoPreviousBars = lowest(lowestPriceOfTwoPreviousBars,
+                        lowPriceIndicator.getValue(index - 2));
+            }
+            if (sar.isGreaterThan(lowestPriceOfTwoPreviousBars))
+                sar = lowestPriceOfTwoPreviousBars;
+            final Num trendExtremePoint = highest(prior.trendExtremePoint, high);
+            if (trendExtremePoint.isGreaterThan(prior.minMaxExtremePoint)) {
+                return new State(sar, true, prior.startTrendIndex, incrementAcceleration(prior.accelerationFactor),
+                        trendExtremePoint, trendExtremePoint, trendExtremePoint);
             }
+            return new State(sar, true, prior.startTrendIndex, prior.accelerationFactor, trendExtremePoint,
+                    prior.minMaxExtremePoint, trendExtremePoint);
+        }
+        // downtrend
+        sar = priorSar.minus(prior.accelerationFactor.multipliedBy(((priorSar.minus(prior.currentExtremePoint)))));
+        if (high.isGreaterThanOrEqual(sar)) { // check if switch to up trend
+            if (prior.minMaxExtremePoint.isLessThan(low))
+                sar = prior.minMaxExtremePoint; // sar starts at the lowest extreme point of previous down trend
+            else
+                sar = low;
+            return new State(sar, true, index, accelerationStart, high, high, high);
+        }
+        // down trend is going on
+        Num highestPriceOfTwoPreviousBars = highPriceIndicator.getValue(index - 1);
+        if (index - prior.startTrendIndex >= 2) {
+            highestPriceOfTwoPreviousBars = highest(highestPriceOfTwoPreviousBars,
+                    highPriceIndicator.getValue(index - 2));
+        }
+        if (sar.isLessThan(highestPriceOfTwoPreviousBars))
+            sar = highestPriceOfTwoPreviousBars;
+        final Num trendExtremePoint = lowest(prior.trendExtremePoint, low);
+        if (trendExtremePoint.isLessThan(prior.minMaxExtremePoint)) {
+            return new State(sar, false, prior.startTrendIndex, incrementAcceleration(prior.accelerationFactor),
+                    trendExtremePoint, trendExtremePoint, trendExtremePoint);
         }
-        return sar;
+        return new State(sar, false, prior.startTrendIndex, prior.accelerationFactor, trendExtremePoint,
+                prior.minMaxExtremePoint, trendExtremePoint);
     }
 
     /**
      * Increments the acceleration factor.
+     *
+     * @param accelerationFactor the current acceleration factor
+     * @return the incremented acceleration factor
      */
-    private void incrementAcceleration() {
+    private Num incrementAcceleration(Num accelerationFactor) {
         if (accelerationFactor.isGreaterThanOrEqual(maxAcceleration)) {
-            accelerationFactor = maxAcceleration;
-        } else {
-            accelerationFactor = accelerationFactor.plus(accelerationIncrement);
+            return maxAcceleration;
+        }
+        return accelerationFactor.plus(accelerationIncrement);
+    }
+
+    /**
+     * @return the highest value, NaN values being ignored
+     */
+    private static Num highest(Num value, Num other) {
+        return value.isNaN() || other.isGreaterThan(value) ? other : value;
+    }
+
+    /**
+     * @return the lowest value, NaN values being ignored
+     */
+    private static Num lowest(Num value, Num other) {
+        return value.isNaN() || other.isLessThan(value) ? other : value;
+    }
+
+    /**
+     * Trend state of a bar.
+     */
+    private static final class State {
+
+        private final Num sar;
+        /** True if uptrend, false otherwise */
+        private final boolean upTrend;
+        /** Index of start bar of the current trend */
+        private final int startTrendIndex;
+        private final Num accelerationFactor;
+        /** The extreme point used by the calculation of the next SAR */
+        private final Num currentExtremePoint;
+        /** Depending on trend the maximum or minimum extreme point value of trend */
+        private final Num minMaxExtremePoint;
+        /** Depending on trend the highest high or the lowest low of the trend */
+        private final Num trendExtremePoint;
+
+        private State(Num sar, boolean upTrend, int startTrendIndex, Num accelerationFactor, Num currentExtremePoint,
+                Num minMaxExtremePoint, Num trendExtremePoint) {
+            this.sar = sar;
+            this.upTrend = upTrend;
+            this.startTrendIndex = startTrendIndex;
+            this.accelerationFactor = accelerationFactor;
+            this.currentExtremePoint = currentExtremePoint;
+            this.minMaxExtremePoint = minMaxExtremePoint;
+            this.trendExtremePoint = trendExtremePoint;
+        }
+    }
+
+    /**
+     * Cached states of the bars (null for the first remaining bar: no trend
+     * detection possible).
+     */
+    private class StateIndicator extends RecursiveCachedIndicator<State> {
+
+        private StateIndicator(BarSeries series) {
+            super(series);
+        }
+
+        @Override
+        protected State calculate(int index) {
+            final BarSeries series = getBarSeries();
+            // The trend detection starts at the first remaining bar
+            final int beginIndex = Math.max(series.getBeginIndex(), series.getRemovedBarsCount());
+            if (index <= beginIndex) {
+                return null; // no trend detection possible for the first value
+            }
+            if (index == beginIndex + 1) { // start trend detection
+                final boolean upTrend = series.getBar(beginIndex).getClosePrice()
+                        .isLessThan(series.getBar(index).getClosePrice());
+                if (!upTrend) { // down trend
+                    // put the highest high value of two first bars
+                    final Num sar = highest(highPriceIndicator.getValue(beginIndex),
+                            highPriceIndicator.getValue(index));
+                    final Num lowestLow = lowest(lowPriceIndicator.getValue(beginIndex),
+                            lowPriceIndicator.getValue(index));
+                    return new State(sar, false, beginIndex, accelerationStart, sar, sar, lowestLow);
+                }
+                // up trend: put the lowest low value of two first bars
+                final Num sar = lowest(lowPriceIndicator.getValue(beginIndex), lowPriceIndicator.getValue(index));
+                final Num highestHigh = highest(highPriceIndicator.getValue(beginIndex),
+                        highPriceIndicator.getValue(index));
+                return new State(sar, true, beginIndex, accelerationStart, sar, sar, highestHigh);
+            }
+            final State prior = getValue(index - 1);
+            return prior == null ? null : nextState(index, prior);
         }
     }
-}
\ No newline at end of file
+}
@@ -38,6 +38,10 @@ public class RWILowIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
 
+    /** The ATR and the square root of each time frame n, from 2 to barCount */
+    private final ATRIndicator[] atrs;
+    private final Num[] sqrts;
+
     /**
      * Constructor.
      *
@@ -47,6 +51,12 @@ public class RWILowIndicator extends CachedIndicator<Num> {
     public RWILowIndicator(BarSeries series, int barCount) {
         super(series);
         this.barCount = barCount;
+        this.atrs = new ATRIndicator[Math.max(0, barCount + 1)];
+        this.sqrts = new Num[atrs.length];
+        for (int n = 2; n <= barCount; n++) {
+            atrs[n] = new ATRIndicator(series, n);
+            sqrts[n] = numOf(n).sqrt();
+        }
     }
 
     @Override
@@ -67,8 +77,8 @@ public class RWILowIndicator extends CachedIndicator<Num> {
         BarSeries series = getBarSeries();
         Num low = series.getBar(index).getLowPrice();
         Num highN = series.getBar(index + 1 - n).getHighPrice();
-        Num atrN = new ATRIndicator(series, n).getValue(index);
-        Num sqrtN = numOf(n).sqrt();
+        Num atrN = atrs[n].getValue(index);
+        Num sqrtN = sqrts[n];
 
         return highN.minus(low).dividedBy(atrN.multipliedBy(sqrtN));
     }
@@ -24,25 +24,32 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.CachePolicy;
 import org.ta4j.core.Indicator;
 
 /**
  * Recursive cached {@link Indicator indicator}.
  *
- * Recursive indicators should extend this class.<br>
- * This class is only here to avoid (OK, to postpone) the StackOverflowError
- * that may be thrown on the first getValue(int) call of a recursive indicator.
- * Concretely when an index value is asked, if the last cached value is too
- * old/far, the computation of all the values between the last cached and the
- * asked one is executed iteratively.
+ * Recursive indicators (i.e. whose value depends on their previous value, like
+ * the EMA) should extend this class.<br>
+ * On a cache miss, the values between the last cached one and the asked one are
+ * calculated forward, in ascending index order, before the asked one: each
+ * calculation then finds the previous value in the cache instead of recursing
+ * through the previous indexes. The dependencies of the indicator are requested
+ * in ascending index order too, so the recursive indicators below it are filled
+ * the same way. The depth of the stack is thus bounded by the depth of the
+ * indicator graph, whatever the number of bars, and the dependencies with
+ * running states (e.g. sliding windows) are updated incrementally. The last
+ * value calculated forward is kept whatever the {@link CachePolicy cache
+ * policy}, so that a bounded (or no) cache does not cause a recursion either.
  */
 public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
 
-    /**
-     * The recursion threshold for which an iterative calculation is executed. TODO
-     * Should be variable (depending on the sub-indicators used in this indicator)
-     */
-    private static final int RECURSION_THRESHOLD = 100;
+    /** Index of the last value calculated forward, -1 if there is none */
+    private int previousIndex = -1;
+
+    /** Last value calculated forward */
+    private T previousResult;
 
     /**
      * Constructor.
@@ -63,24 +70,39 @@ public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
     }
 
     @Override
-    public T getValue(int index) {
+    T value(int index) {
         BarSeries series = getBarSeries();
-        if (series != null) {
-            final int seriesEndIndex = series.getEndIndex();
-            if (index <= seriesEndIndex) {
-                // We are not after the end of the series
-                final int removedBarsCount = series.getRemovedBarsCount();
-                int startIndex = Math.max(removedBarsCount, highestResultIndex);
-                if (index - startIndex > RECURSION_THRESHOLD) {
-                    // Too many uncalculated values; the risk for a StackOverflowError becomes high.
-                    // Calculating the previous values iteratively
-                    for (int prevIdx = startIndex; prevIdx < index; prevIdx++) {
-                        super.getValue(prevIdx);
-                    }
-                }
-            }
+        if (series == null || index > series.getEndIndex()) {
+            // We are after the end of the series
+            return super.value(index);
+        }
+        final int removedBarsCount = series.getRemovedBarsCount();
+        if (index == previousIndex && index >= removedBarsCount) {
+            return previousResult;
+        }
+        // Finding the first index whose previous value is not calculated
+        int firstUncalculatedIndex = index;
+        while (firstUncalculatedIndex > removedBarsCount && firstUncalculatedIndex - 1 != previousIndex
+                && !isCached(firstUncalculatedIndex - 1)) {
+            firstUncalculatedIndex--;
         }
+        // Calculating the previous values forward (no recursion through them)
+        for (int prevIdx = firstUncalculatedIndex; prevIdx < index; prevIdx++) {
+            keepPrevious(prevIdx, super.value(prevIdx));
+        }
+        final T result = super.value(index);
+        if (index < series.getEndIndex()) {
+            keepPrevious(index, result);
+        }
+        return result;
+    }
 
-        return super.getValue(index);
+    /**
+     * Keeps the last value calculated forward: the next calculation finds it even
+     * if the cache policy does not keep it.
+     */
+    private void keepPrevious(int index, T result) {
+        previousIndex = index;
+        previousResult = result;
     }
 }
@@ -0,0 +1,286 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.ta4j.core.CachePolicy;
+import org.ta4j.core.utils.RingBuffer;
+
+/**
+ * Store of the cached results of a {@link CachedIndicator}, implementing a
+ * {@link CachePolicy}.
+ *
+ * @param <T> the type of the results
+ */
+abstract class ResultCache<T> {
+
+    private final CachePolicy policy;
+
+    private ResultCache(CachePolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * @param policy          the cache policy
+     * @param maximumBarCount the maximum bar count of the series
+     * @return the store implementing the policy
+     */
+    static <T> ResultCache<T> of(CachePolicy policy, int maximumBarCount) {
+        switch (policy.getType()) {
+        case NO_CACHE:
+            return new None<>(policy);
+        case LRU:
+            return new LeastRecentlyUsed<>(policy);
+        default:
+            return new Window<>(policy, maximumBarCount);
+        }
+    }
+
+    /**
+     * @param policy          the cache policy
+     * @param maximumBarCount the maximum bar count of the series
+     * @return the store implementing the policy, keeping the results of a window in
+     *         bit sets
+     */
+    static ResultCache<Boolean> ofBooleans(CachePolicy policy, int maximumBarCount) {
+        switch (policy.getType()) {
+        case NO_CACHE:
+        case LRU:
+            return of(policy, maximumBarCount);
+        default:
+            return new BooleanWindow(policy, maximumBarCount);
+        }
+    }
+
+    /**
+     * @return the implemented policy
+     */
+    CachePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the cached result of the index, null if there is none
+     */
+    abstract T get(int index);
+
+    /**
+     * Caches the result of an index (if the policy allows it).
+     *
+     * @param index  the bar index
+     * @param result the result
+     */
+    abstract void put(int index, T result);
+
+    /**
+     * Updates the maximum bar count of the series.
+     *
+     * @param maximumBarCount the maximum bar count of the series
+     */
+    void setMaximumBarCount(int maximumBarCount) {
+    }
+
+    /**
+     * No cache.
+     */
+    private static final class None<T> extends ResultCache<T> {
+
+        None(CachePolicy policy) {
+            super(policy);
+        }
+
+        @Override
+        T get(int index) {
+            return null;
+        }
+
+        @Override
+        void put(int index, T result) {
+        }
+    }
+
+    /**
+     * Results of the last indexes (up to the highest cached one), in a ring buffer.
+     */
+    private static final class Window<T> extends ResultCache<T> {
+
+        /** Results, the last one being the one of the highest index */
+        private final RingBuffer<T> results;
+        /** Highest cached index, -1 if there is none */
+        private int highestIndex = -1;
+
+        Window(CachePolicy policy, int maximumBarCount) {
+            super(policy);
+            results = new RingBuffer<>(capacity(maximumBarCount));
+        }
+
+        private int capacity(int maximumBarCount) {
+            return Math.min(getPolicy().getSize(), maximumBarCount);
+        }
+
+        @Override
+        T get(int index) {
+            if (index > highestIndex || highestIndex - index >= results.size()) {
+                return null;
+            }
+            return results.get(results.size() - 1 - (highestIndex - index));
+        }
+
+        @Override
+        void put(int index, T result) {
+            if (index > highestIndex) {
+                // Exceeding results are evicted by the ring buffer
+                final int newResultsCount = Math.min(index - highestIndex, results.getMaximumSize());
+                for (int i = 0; i < newResultsCount; i++) {
+                    results.add(null);
+                }
+                highestIndex = index;
+                results.set(results.size() - 1, result);
+            } else if (highestIndex - index < results.size()) {
+                results.set(results.size() - 1 - (highestIndex - index), result);
+            }
+        }
+
+        @Override
+        void setMaximumBarCount(int maximumBarCount) {
+            final int capacity = capacity(maximumBarCount);
+            if (results.getMaximumSize() != capacity) {
+                results.setMaximumSize(capacity);
+            }
+        }
+    }
+
+    /**
+     * Boolean results of the last indexes (up to the highest cached one), in two
+     * bit sets: one for the cached indexes and one for their results. A result
+     * costs 2 bits instead of a reference to a {@link Boolean}.
+     */
+    private static final class BooleanWindow extends ResultCache<Boolean> {
+
+        /** Number of evicted indexes from which the bit sets are shifted */
+        private static final int EVICTION_THRESHOLD = 1 << 16;
+
+        /** Cached indexes, from the offset */
+        private BitSet cached = new BitSet();
+        /** Results of the cached indexes, from the offset */
+        private BitSet results = new BitSet();
+        /** Index of the first bit of the bit sets */
+        private int offset;
+        /** Lowest index which may be cached */
+        private int lowestIndex;
+        /** Highest cached index, -1 if there is none */
+        private int highestIndex = -1;
+        /** Maximum number of cached indexes */
+        private int capacity;
+
+        BooleanWindow(CachePolicy policy, int maximumBarCount) {
+            super(policy);
+            capacity = Math.min(policy.getSize(), maximumBarCount);
+        }
+
+        @Override
+        Boolean get(int index) {
+            if (index < lowestIndex || index > highestIndex || !cached.get(index - offset)) {
+                return null;
+            }
+            return results.get(index - offset);
+        }
+
+        @Override
+        void put(int index, Boolean result) {
+            if (result == null) {
+                return;
+            }
+            if (index > highestIndex) {
+                highestIndex = index;
+                evictBelow(highestIndex - capacity + 1);
+            }
+            if (index >= lowestIndex) {
+                cached.set(index - offset);
+                results.set(index - offset, result);
+            }
+        }
+
+        @Override
+        void setMaximumBarCount(int maximumBarCount) {
+            capacity = Math.min(getPolicy().getSize(), maximumBarCount);
+            evictBelow(highestIndex - capacity + 1);
+        }
+
+        /**
+         * Evicts the results of the indexes lower than an index.
+         *
+         * @param index the new lowest index
+         */
+        private void evictBelow(int index) {
+            if (index <= lowestIndex) {
+                return;
+            }
+            cached.clear(lowestIndex - offset, index - offset);
+            lowestIndex = index;
+            final int shift = lowestIndex - offset;
+            if (shift >= EVICTION_THRESHOLD) {
+                cached = cached.get(shift, Math.max(shift, cached.length()));
+                results = results.get(shift, Math.max(shift, results.length()));
+                offset = lowestIndex;
+            }
+        }
+    }
+
+    /**
+     * Least recently used results.
+     */
+    private static final class LeastRecentlyUsed<T> extends ResultCache<T> {
+
+        private final Map<Integer, T> results;
+
+        LeastRecentlyUsed(CachePolicy policy) {
+            super(policy);
+            final int size = policy.getSize();
+            results = new LinkedHashMap<Integer, T>(Math.min(size, 1024), 0.75f, true) {
+
+                private static final long serialVersionUID = -2871349203446532716L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                    return size() > size;
+                }
+            };
+        }
+
+        @Override
+        T get(int index) {
+            return results.get(index);
+        }
+
+        @Override
+        void put(int index, T result) {
+            results.put(index, result);
+        }
+    }
+}
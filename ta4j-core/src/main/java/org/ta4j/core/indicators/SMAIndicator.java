@@ -24,37 +24,54 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.RunningSumIndicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Simple moving average (SMA) indicator.
  *
+ * The sum of the window is maintained by a {@link RunningSumIndicator}: each
+ * new index costs O(1) instead of O(barCount).
+ *
  * @see <a href=
  *      "https://www.investopedia.com/terms/s/sma.asp">https://www.investopedia.com/terms/s/sma.asp</a>
  */
 public class SMAIndicator extends CachedIndicator<Num> {
 
-    private final Indicator<Num> indicator;
+    private final RunningSumIndicator sum;
 
     private final int barCount;
 
     public SMAIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.sum = new RunningSumIndicator(indicator, barCount);
         this.barCount = barCount;
     }
 
     @Override
     protected Num calculate(int index) {
-        Num sum = numOf(0);
-        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
-            sum = sum.plus(indicator.getValue(i));
-        }
-
+        final Num sum = this.sum.getValue(index);
         final int realBarCount = Math.min(barCount, index + 1);
         return sum.dividedBy(numOf(realBarCount));
     }
 
+    /**
+     * Computes the averages of a range of indexes from the sums of
+     * {@link RunningSumIndicator#computeRange(int, int, double[])}, in double
+     * arithmetic.
+     */
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        final int begin = computeRemovedRange(from, to, out);
+        final double[] sums = new double[to - begin];
+        sum.computeRange(begin, to, sums);
+        for (int i = begin; i < to; i++) {
+            out[i - from] = sums[i - begin] / Math.min(barCount, i + 1);
+        }
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
@@ -25,6 +25,7 @@ package org.ta4j.core.indicators;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Triple exponential moving average indicator.
@@ -66,6 +67,25 @@ public class TripleEMAIndicator extends CachedIndicator<Num> {
         return numOf(3).multipliedBy(ema.getValue(index).minus(emaEma.getValue(index))).plus(emaEmaEma.getValue(index));
     }
 
+    /**
+     * Computes the values of a range of indexes from the ranges of the EMAs (see
+     * {@link AbstractEMAIndicator#computeRange(int, int, double[])}).
+     */
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        final int begin = computeRemovedRange(from, to, out);
+        final double[] emas = new double[to - begin];
+        final double[] emaEmas = new double[to - begin];
+        final double[] emaEmaEmas = new double[to - begin];
+        ema.computeRange(begin, to, emas);
+        emaEma.computeRange(begin, to, emaEmas);
+        emaEmaEma.computeRange(begin, to, emaEmaEmas);
+        for (int i = begin; i < to; i++) {
+            out[i - from] = 3 * (emas[i - begin] - emaEmas[i - begin]) + emaEmaEmas[i - begin];
+        }
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " barCount: " + barCount;
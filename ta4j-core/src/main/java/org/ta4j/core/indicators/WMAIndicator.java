@@ -23,17 +23,32 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.num.Num;
 
 /**
  * WMA indicator.
+ *
+ * When the indexes are requested in ascending order, the weighted sum is
+ * updated in O(1) from the previous weighted sum and the plain sum of the
+ * window: when the window moves, the weight of every value decreases by 1 (i.e.
+ * the weighted sum decreases by the plain sum) and the newest value enters with
+ * the highest weight. Any other access pattern falls back to a full weighted
+ * sum over the window.
  */
 public class WMAIndicator extends CachedIndicator<Num> {
 
     private final int barCount;
     private final Indicator<Num> indicator;
 
+    /** Index of the running sums, -1 if there are no running sums */
+    private int sumsIndex = -1;
+    /** Running weighted sum of the window */
+    private Num weightedSum;
+    /** Running plain sum of the window */
+    private Num sum;
+
     public WMAIndicator(Indicator<Num> indicator, int barCount) {
         super(indicator);
         this.indicator = indicator;
@@ -46,15 +61,43 @@ public class WMAIndicator extends CachedIndicator<Num> {
             return indicator.getValue(0);
         }
 
-        Num value = numOf(0);
-        int loopLength = (index - barCount < 0) ? index + 1 : barCount;
-        int actualIndex = index;
-        for (int i = loopLength; i > 0; i--) {
-            value = value.plus(numOf(i).multipliedBy(indicator.getValue(actualIndex)));
-            actualIndex--;
+        final BarSeries series = getBarSeries();
+        // The value of the last bar may still change: it is not kept in the running
+        // sums
+        final boolean keep = index < series.getEndIndex();
+        final int loopLength = (index - barCount < 0) ? index + 1 : barCount;
+        final int oldestIndex = index - barCount;
+        Num newWeightedSum;
+        Num newSum;
+        final Num newest = indicator.getValue(index);
+        final Num oldest = oldestIndex >= 0 ? indicator.getValue(oldestIndex) : null;
+        if (sumsIndex < 0 || sumsIndex != index - 1 || (oldestIndex >= 0 && oldestIndex < series.getRemovedBarsCount())
+                || newest.isNaN() || (oldest != null && oldest.isNaN())) {
+            // Out of order (or the value leaving the window has been removed)
+            newWeightedSum = numOf(0);
+            newSum = numOf(0);
+            int actualIndex = index;
+            for (int i = loopLength; i > 0; i--) {
+                Num value = indicator.getValue(actualIndex);
+                newWeightedSum = newWeightedSum.plus(numOf(i).multipliedBy(value));
+                newSum = newSum.plus(value);
+                actualIndex--;
+            }
+        } else if (oldest == null) {
+            // Growing window: the newest value has the weight of the window length
+            newWeightedSum = weightedSum.plus(numOf(loopLength).multipliedBy(newest));
+            newSum = sum.plus(newest);
+        } else {
+            newWeightedSum = weightedSum.minus(sum).plus(numOf(loopLength).multipliedBy(newest));
+            newSum = sum.minus(oldest).plus(newest);
+        }
+        if (keep) {
+            sumsIndex = newWeightedSum.isNaN() ? -1 : index;
+            weightedSum = newWeightedSum;
+            sum = newSum;
         }
 
-        return value.dividedBy(numOf((loopLength * (loopLength + 1)) / 2));
+        return newWeightedSum.dividedBy(numOf((loopLength * (loopLength + 1)) / 2));
     }
 
     @Override
@@ -23,10 +23,7 @@
  */
 package org.ta4j.core.indicators.candles;
 
-import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.num.Num;
 
 /**
  * Bearish engulfing pattern indicator.
@@ -34,7 +31,7 @@ import org.ta4j.core.num.Num;
  * @see <a href="http://www.investopedia.com/terms/b/bearishengulfingp.asp">
  *      http://www.investopedia.com/terms/b/bearishengulfingp.asp</a>
  */
-public class BearishEngulfingIndicator extends CachedIndicator<Boolean> {
+public class BearishEngulfingIndicator extends CandlePatternIndicator {
 
     /**
      * Constructor.
@@ -42,25 +39,6 @@ public class BearishEngulfingIndicator extends CachedIndicator<Boolean> {
      * @param series a bar series
      */
     public BearishEngulfingIndicator(BarSeries series) {
-        super(series);
-    }
-
-    @Override
-    protected Boolean calculate(int index) {
-        if (index < 1) {
-            // Engulfing is a 2-candle pattern
-            return false;
-        }
-        Bar prevBar = getBarSeries().getBar(index - 1);
-        Bar currBar = getBarSeries().getBar(index);
-        if (prevBar.isBullish() && currBar.isBearish()) {
-            final Num prevOpenPrice = prevBar.getOpenPrice();
-            final Num prevClosePrice = prevBar.getClosePrice();
-            final Num currOpenPrice = currBar.getOpenPrice();
-            final Num currClosePrice = currBar.getClosePrice();
-            return currOpenPrice.isGreaterThan(prevOpenPrice) && currOpenPrice.isGreaterThan(prevClosePrice)
-                    && currClosePrice.isLessThan(prevOpenPrice) && currClosePrice.isLessThan(prevClosePrice);
-        }
-        return false;
+        super(series, CandlePatterns.bearishEngulfing());
     }
 }
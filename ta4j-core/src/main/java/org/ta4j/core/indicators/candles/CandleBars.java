@@ -0,0 +1,161 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.candles;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.num.Num;
+
+/**
+ * Candle measures of the bars of a series, read by the {@link CandlePattern
+ * candle patterns}.
+ *
+ * The measures are either a live view of the series (see
+ * {@link #of(BarSeries)}, used by the candle indicators) or a snapshot of its
+ * bars (see {@link #snapshot(BarSeries)}, used by a {@link CandleScanner
+ * scan}).
+ */
+public interface CandleBars {
+
+    /**
+     * @param series the bar series
+     * @return a view of the candle measures of the bars of the series, reading the
+     *         bars on each call (the averages are given by
+     *         {@link org.ta4j.core.indicators.SMAIndicator SMA indicators})
+     */
+    static CandleBars of(BarSeries series) {
+        return new SeriesCandleBars(series);
+    }
+
+    /**
+     * @param series the bar series
+     * @return a snapshot of the candle measures of the bars of the series, read
+     *         once (not updated when the series changes, not thread-safe)
+     */
+    static CandleBars snapshot(BarSeries series) {
+        return new SnapshotCandleBars(series);
+    }
+
+    /**
+     * @return the bar series
+     */
+    BarSeries getBarSeries();
+
+    /**
+     * @return the index of the first bar
+     */
+    int getBeginIndex();
+
+    /**
+     * @return the index of the last bar (begin index - 1 if there is no bar)
+     */
+    int getEndIndex();
+
+    /**
+     * @param number a number
+     * @return the number as a {@link Num} of the series
+     */
+    default Num numOf(Number number) {
+        return getBarSeries().numOf(number);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the open price of the bar
+     */
+    Num getOpenPrice(int index);
+
+    /**
+     * @param index the bar index
+     * @return the high price of the bar
+     */
+    Num getHighPrice(int index);
+
+    /**
+     * @param index the bar index
+     * @return the low price of the bar
+     */
+    Num getLowPrice(int index);
+
+    /**
+     * @param index the bar index
+     * @return the close price of the bar
+     */
+    Num getClosePrice(int index);
+
+    /**
+     * @param index the bar index
+     * @return true if the bar is bullish (see {@link Bar#isBullish()})
+     */
+    default boolean isBullish(int index) {
+        return getOpenPrice(index).isLessThan(getClosePrice(index));
+    }
+
+    /**
+     * @param index the bar index
+     * @return true if the bar is bearish (see {@link Bar#isBearish()})
+     */
+    default boolean isBearish(int index) {
+        return getClosePrice(index).isLessThan(getOpenPrice(index));
+    }
+
+    /**
+     * @param index the bar index
+     * @return the body height of the bar (see {@link RealBodyIndicator})
+     */
+    Num getBodyHeight(int index);
+
+    /**
+     * @param index the bar index
+     * @return the upper shadow of the bar (see {@link UpperShadowIndicator})
+     */
+    Num getUpperShadow(int index);
+
+    /**
+     * @param index the bar index
+     * @return the lower shadow of the bar (see {@link LowerShadowIndicator})
+     */
+    Num getLowerShadow(int index);
+
+    /**
+     * @param index    the bar index
+     * @param barCount the number of bars of the average
+     * @return the average body height of the bars ending at index
+     */
+    Num getAverageBodyHeight(int index, int barCount);
+
+    /**
+     * @param index    the bar index
+     * @param barCount the number of bars of the average
+     * @return the average upper shadow of the bars ending at index
+     */
+    Num getAverageUpperShadow(int index, int barCount);
+
+    /**
+     * @param index    the bar index
+     * @param barCount the number of bars of the average
+     * @return the average lower shadow of the bars ending at index
+     */
+    Num getAverageLowerShadow(int index, int barCount);
+}
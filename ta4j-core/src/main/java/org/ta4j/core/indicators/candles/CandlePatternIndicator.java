@@ -0,0 +1,57 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.candles;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.indicators.CachedBooleanIndicator;
+
+/**
+ * Candle pattern indicator.
+ *
+ * Evaluates a {@link CandlePattern candle pattern} over a live view of the bars
+ * of the series (see {@link CandleBars#of(BarSeries)}): the indicator and a
+ * {@link CandleScanner scan} of the same pattern give the same results.
+ */
+public class CandlePatternIndicator extends CachedBooleanIndicator {
+
+    private final CandleBars bars;
+    private final CandlePattern pattern;
+
+    /**
+     * Constructor.
+     *
+     * @param series  the bar series
+     * @param pattern the candle pattern
+     */
+    public CandlePatternIndicator(BarSeries series, CandlePattern pattern) {
+        super(series);
+        this.bars = CandleBars.of(series);
+        this.pattern = pattern;
+    }
+
+    @Override
+    protected Boolean calculate(int index) {
+        return pattern.matches(bars, index);
+    }
+}
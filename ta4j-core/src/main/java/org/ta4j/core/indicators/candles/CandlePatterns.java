@@ -0,0 +1,253 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.candles;
+
+import java.util.function.Function;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * The {@link CandlePattern candle patterns} of the candle indicators.
+ *
+ * The candle indicators evaluate these patterns, e.g.
+ * {@link BullishEngulfingIndicator} evaluates {@link #bullishEngulfing()}.
+ */
+public final class CandlePatterns {
+
+    private CandlePatterns() {
+    }
+
+    /**
+     * @return the pattern of {@link BearishEngulfingIndicator}
+     */
+    public static CandlePattern bearishEngulfing() {
+        return (bars, index) -> {
+            if (index < 1 || index - 1 < bars.getBeginIndex()) {
+                // Engulfing is a 2-candle pattern
+                return false;
+            }
+            if (bars.isBullish(index - 1) && bars.isBearish(index)) {
+                final Num prevOpenPrice = bars.getOpenPrice(index - 1);
+                final Num prevClosePrice = bars.getClosePrice(index - 1);
+                final Num currOpenPrice = bars.getOpenPrice(index);
+                final Num currClosePrice = bars.getClosePrice(index);
+                return currOpenPrice.isGreaterThan(prevOpenPrice) && currOpenPrice.isGreaterThan(prevClosePrice)
+                        && currClosePrice.isLessThan(prevOpenPrice) && currClosePrice.isLessThan(prevClosePrice);
+            }
+            return false;
+        };
+    }
+
+    /**
+     * @return the pattern of {@link BearishHaramiIndicator}
+     */
+    public static CandlePattern bearishHarami() {
+        return (bars, index) -> {
+            if (index < 1 || index - 1 < bars.getBeginIndex()) {
+                // Harami is a 2-candle pattern
+                return false;
+            }
+            if (bars.isBullish(index - 1) && bars.isBearish(index)) {
+                final Num prevOpenPrice = bars.getOpenPrice(index - 1);
+                final Num prevClosePrice = bars.getClosePrice(index - 1);
+                final Num currOpenPrice = bars.getOpenPrice(index);
+                final Num currClosePrice = bars.getClosePrice(index);
+                return currOpenPrice.isGreaterThan(prevOpenPrice) && currOpenPrice.isLessThan(prevClosePrice)
+                        && currClosePrice.isGreaterThan(prevOpenPrice) && currClosePrice.isLessThan(prevClosePrice);
+            }
+            return false;
+        };
+    }
+
+    /**
+     * @return the pattern of {@link BullishEngulfingIndicator}
+     */
+    public static CandlePattern bullishEngulfing() {
+        return (bars, index) -> {
+            if (index < 1 || index - 1 < bars.getBeginIndex()) {
+                // Engulfing is a 2-candle pattern
+                return false;
+            }
+            if (bars.isBearish(index - 1) && bars.isBullish(index)) {
+                final Num prevOpenPrice = bars.getOpenPrice(index - 1);
+                final Num prevClosePrice = bars.getClosePrice(index - 1);
+                final Num currOpenPrice = bars.getOpenPrice(index);
+                final Num currClosePrice = bars.getClosePrice(index);
+                return currOpenPrice.isLessThan(prevOpenPrice) && currOpenPrice.isLessThan(prevClosePrice)
+                        && currClosePrice.isGreaterThan(prevOpenPrice) && currClosePrice.isGreaterThan(prevClosePrice);
+            }
+            return false;
+        };
+    }
+
+    /**
+     * @return the pattern of {@link BullishHaramiIndicator}
+     */
+    public static CandlePattern bullishHarami() {
+        return (bars, index) -> {
+            if (index < 1 || index - 1 < bars.getBeginIndex()) {
+                // Harami is a 2-candle pattern
+                return false;
+            }
+            if (bars.isBearish(index - 1) && bars.isBullish(index)) {
+                final Num prevOpenPrice = bars.getOpenPrice(index - 1);
+                final Num prevClosePrice = bars.getClosePrice(index - 1);
+                final Num currOpenPrice = bars.getOpenPrice(index);
+                final Num currClosePrice = bars.getClosePrice(index);
+                return currOpenPrice.isLessThan(prevOpenPrice) && currOpenPrice.isGreaterThan(prevClosePrice)
+                        && currClosePrice.isLessThan(prevOpenPrice) && currClosePrice.isGreaterThan(prevClosePrice);
+            }
+            return false;
+        };
+    }
+
+    /**
+     * @param barCount   the number of bars used to calculate the average body
+     *                   height
+     * @param bodyFactor the factor used when checking if a candle is Doji
+     * @return the pattern of {@link DojiIndicator}
+     */
+    public static CandlePattern doji(int barCount, double bodyFactor) {
+        return (bars, index) -> {
+            if (index < 1 || index - 1 < bars.getBeginIndex()) {
+                return bars.getBodyHeight(index).isZero();
+            }
+            final Num averageBodyHeight = bars.getAverageBodyHeight(index - 1, barCount);
+            return bars.getBodyHeight(index).isLessThan(averageBodyHeight.multipliedBy(bars.numOf(bodyFactor)));
+        };
+    }
+
+    /**
+     * @param barCount the number of bars used to calculate the average lower shadow
+     * @param factor   the factor used when checking if a candle has a very short
+     *                 lower shadow
+     * @return the pattern of {@link ThreeBlackCrowsIndicator}
+     */
+    public static CandlePattern threeBlackCrows(int barCount, double factor) {
+        return (bars, index) -> {
+            final int whiteCandleIndex = index - 3;
+            if (whiteCandleIndex < 0 || whiteCandleIndex < bars.getBeginIndex()) {
+                // We need 4 candles: 1 white, 3 black
+                return false;
+            }
+            if (!bars.isBullish(whiteCandleIndex)) {
+                return false;
+            }
+            // We use the white candle index to remove to bias of the previous crows
+            final Num maxLowerShadow = bars.getAverageLowerShadow(whiteCandleIndex, barCount)
+                    .multipliedBy(bars.numOf(factor));
+            for (int i = index - 2; i <= index; i++) {
+                if (!bars.isBearish(i) || !bars.getLowerShadow(i).isLessThan(maxLowerShadow)) {
+                    return false;
+                }
+                if (bars.isBullish(i - 1)) {
+                    // First crow case
+                    if (!bars.getOpenPrice(i).isLessThan(bars.getHighPrice(i - 1))) {
+                        return false;
+                    }
+                } else if (!isDeclining(bars, i)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * @param barCount the number of bars used to calculate the average upper shadow
+     * @param factor   the factor used when checking if a candle has a very short
+     *                 upper shadow
+     * @return the pattern of {@link ThreeWhiteSoldiersIndicator}
+     */
+    public static CandlePattern threeWhiteSoldiers(int barCount, double factor) {
+        return threeWhiteSoldiers(barCount, bars -> bars.numOf(factor));
+    }
+
+    /**
+     * @param barCount the number of bars used to calculate the average upper shadow
+     * @param factor   the factor used when checking if a candle has a very short
+     *                 upper shadow
+     * @return the pattern of {@link ThreeWhiteSoldiersIndicator}
+     */
+    public static CandlePattern threeWhiteSoldiers(int barCount, Num factor) {
+        return threeWhiteSoldiers(barCount, bars -> factor);
+    }
+
+    /**
+     * @param barCount the number of bars used to calculate the average upper shadow
+     * @param factor   the factor of the bars
+     * @return the pattern of {@link ThreeWhiteSoldiersIndicator}
+     */
+    private static CandlePattern threeWhiteSoldiers(int barCount, Function<CandleBars, Num> factor) {
+        return (bars, index) -> {
+            final int blackCandleIndex = index - 3;
+            if (blackCandleIndex < 0 || blackCandleIndex < bars.getBeginIndex()) {
+                // We need 4 candles: 1 black, 3 white
+                return false;
+            }
+            if (!bars.isBearish(blackCandleIndex)) {
+                return false;
+            }
+            // We use the black candle index to remove to bias of the previous soldiers
+            final Num maxUpperShadow = bars.getAverageUpperShadow(blackCandleIndex, barCount)
+                    .multipliedBy(factor.apply(bars));
+            for (int i = index - 2; i <= index; i++) {
+                if (!bars.isBullish(i) || !bars.getUpperShadow(i).isLessThan(maxUpperShadow)) {
+                    return false;
+                }
+                if (bars.isBearish(i - 1)) {
+                    // First soldier case
+                    if (!bars.getOpenPrice(i).isGreaterThan(bars.getLowPrice(i - 1))) {
+                        return false;
+                    }
+                } else if (!isGrowing(bars, i)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * @return true if the bar opens within the body of the previous one and closes
+     *         below the previous close price
+     */
+    private static boolean isDeclining(CandleBars bars, int index) {
+        final Num prevClosePrice = bars.getClosePrice(index - 1);
+        final Num currOpenPrice = bars.getOpenPrice(index);
+        return currOpenPrice.isLessThan(bars.getOpenPrice(index - 1)) && currOpenPrice.isGreaterThan(prevClosePrice)
+                && bars.getClosePrice(index).isLessThan(prevClosePrice);
+    }
+
+    /**
+     * @return true if the bar opens within the body of the previous one and closes
+     *         above the previous close price
+     */
+    private static boolean isGrowing(CandleBars bars, int index) {
+        final Num prevClosePrice = bars.getClosePrice(index - 1);
+        final Num currOpenPrice = bars.getOpenPrice(index);
+        return currOpenPrice.isGreaterThan(bars.getOpenPrice(index - 1)) && currOpenPrice.isLessThan(prevClosePrice)
+                && bars.getClosePrice(index).isGreaterThan(prevClosePrice);
+    }
+}
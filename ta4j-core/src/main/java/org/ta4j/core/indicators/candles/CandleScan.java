@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.candles;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.ta4j.core.BarSeries;
+
+/**
+ * Result of a {@link CandleScanner scan} of a bar series: one bit set per
+ * pattern, the bit (index - begin index) being set if the pattern ends at the
+ * bar index.
+ */
+public class CandleScan {
+
+    private final BarSeries series;
+    private final int beginIndex;
+    private final int endIndex;
+    private final Map<String, BitSet> matches;
+
+    /**
+     * Constructor.
+     *
+     * @param series     the scanned bar series
+     * @param beginIndex the index of the first scanned bar
+     * @param endIndex   the index of the last scanned bar
+     * @param matches    the matches of each pattern (by name)
+     */
+    CandleScan(BarSeries series, int beginIndex, int endIndex, Map<String, BitSet> matches) {
+        this.series = series;
+        this.beginIndex = beginIndex;
+        this.endIndex = endIndex;
+        this.matches = Collections.unmodifiableMap(matches);
+    }
+
+    /**
+     * @return the scanned bar series
+     */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /**
+     * @return the index of the first scanned bar
+     */
+    public int getBeginIndex() {
+        return beginIndex;
+    }
+
+    /**
+     * @return the index of the last scanned bar (begin index - 1 if there is none)
+     */
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    /**
+     * @return the names of the patterns, in registration order
+     */
+    public Set<String> getPatternNames() {
+        return matches.keySet();
+    }
+
+    /**
+     * @param pattern the name of the pattern
+     * @param index   the bar index
+     * @return true if the pattern ends at the bar index
+     */
+    public boolean matches(String pattern, int index) {
+        if (index < beginIndex || index > endIndex) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of [" + beginIndex + ", " + endIndex + "]");
+        }
+        return bits(pattern).get(index - beginIndex);
+    }
+
+    /**
+     * @param pattern the name of the pattern
+     * @return the number of bars at which the pattern ends
+     */
+    public int getMatchCount(String pattern) {
+        return bits(pattern).cardinality();
+    }
+
+    /**
+     * @param pattern the name of the pattern
+     * @return the matches of the pattern (a copy), the bit (index - begin index)
+     *         being set if the pattern ends at the bar index
+     */
+    public BitSet getMatches(String pattern) {
+        return (BitSet) bits(pattern).clone();
+    }
+
+    private BitSet bits(String pattern) {
+        final BitSet bits = matches.get(pattern);
+        if (bits == null) {
+            throw new IllegalArgumentException("Unknown pattern: " + pattern);
+        }
+        return bits;
+    }
+}
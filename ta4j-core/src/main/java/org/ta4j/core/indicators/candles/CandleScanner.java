@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.candles;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.ta4j.core.BarSeries;
+
+/**
+ * Candle pattern scanner.
+ *
+ * Evaluates all its {@link CandlePattern patterns} in a single pass over the
+ * bars of a series. The prices, bodies, shadows and their averages are computed
+ * once per scan (see {@link CandleBars#snapshot(BarSeries)}) and shared by the
+ * patterns, instead of being computed by every candle indicator with its own
+ * SMAs. The result is a bit set per pattern (see {@link CandleScan}).
+ *
+ * A scanner is immutable: it may scan several series at once, in parallel
+ * (common fork-join pool). E.g.:
+ *
+ * <pre>
+ * Map&lt;String, CandlePattern&gt; patterns = new LinkedHashMap&lt;&gt;();
+ * patterns.put("bullishEngulfing", CandlePatterns.bullishEngulfing());
+ * patterns.put("doji", CandlePatterns.doji(10, 0.03));
+ * CandleScanner scanner = new CandleScanner(patterns);
+ * List&lt;CandleScan&gt; scans = scanner.scan(seriesList);
+ * </pre>
+ */
+public class CandleScanner {
+
+    private final Map<String, CandlePattern> patterns;
+
+    /**
+     * Constructor.
+     *
+     * @param patterns the patterns by name (iterated in the map order)
+     */
+    public CandleScanner(Map<String, ? extends CandlePattern> patterns) {
+        final Map<String, CandlePattern> copy = new LinkedHashMap<>();
+        patterns.forEach((name, pattern) -> copy.put(Objects.requireNonNull(name), Objects.requireNonNull(pattern)));
+        this.patterns = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * @return the names of the patterns
+     */
+    public Set<String> getPatternNames() {
+        return patterns.keySet();
+    }
+
+    /**
+     * Scans all the bars of a series.
+     *
+     * @param series the bar series
+     * @return the matches of the patterns
+     */
+    public CandleScan scan(BarSeries series) {
+        return scan(CandleBars.snapshot(series));
+    }
+
+    /**
+     * Scans all the bars of candle measures.
+     *
+     * @param bars the candle measures of the bars of a series
+     * @return the matches of the patterns
+     */
+    public CandleScan scan(CandleBars bars) {
+        final int beginIndex = bars.getBeginIndex();
+        final int endIndex = bars.getEndIndex();
+        final int size = endIndex - beginIndex + 1;
+        final CandlePattern[] evaluated = patterns.values().toArray(new CandlePattern[0]);
+        final BitSet[] bits = new BitSet[evaluated.length];
+        for (int p = 0; p < evaluated.length; p++) {
+            bits[p] = new BitSet(size);
+        }
+        for (int i = 0; i < size; i++) {
+            final int index = beginIndex + i;
+            for (int p = 0; p < evaluated.length; p++) {
+                if (evaluated[p].matches(bars, index)) {
+                    bits[p].set(i);
+                }
+            }
+        }
+        final Map<String, BitSet> matches = new LinkedHashMap<>();
+        int p = 0;
+        for (String name : patterns.keySet()) {
+            matches.put(name, bits[p++]);
+        }
+        return new CandleScan(bars.getBarSeries(), beginIndex, endIndex, matches);
+    }
+
+    /**
+     * Scans series in parallel (common fork-join pool).
+     *
+     * @param seriesList the bar series
+     * @return the matches of the patterns, in the order of the series
+     */
+    public List<CandleScan> scan(List<? extends BarSeries> seriesList) {
+        return scan(seriesList, true);
+    }
+
+    /**
+     * Scans series.
+     *
+     * @param seriesList the bar series
+     * @param parallel   true to scan the series in parallel (common fork-join pool)
+     * @return the matches of the patterns, in the order of the series
+     */
+    public List<CandleScan> scan(List<? extends BarSeries> seriesList, boolean parallel) {
+        Stream<? extends BarSeries> stream = seriesList.stream();
+        if (parallel) {
+            stream = stream.parallel();
+        }
+        return stream.map(this::scan).collect(Collectors.toList());
+    }
+}
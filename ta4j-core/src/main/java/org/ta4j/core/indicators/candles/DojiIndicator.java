@@ -24,11 +24,6 @@
 package org.ta4j.core.indicators.candles;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.indicators.SMAIndicator;
-import org.ta4j.core.indicators.helpers.TransformIndicator;
-import org.ta4j.core.num.Num;
 
 /**
  * Doji indicator.
@@ -40,18 +35,7 @@ import org.ta4j.core.num.Num;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:chart_analysis:introduction_to_candlesticks#doji">
  *      http://stockcharts.com/school/doku.php?id=chart_school:chart_analysis:introduction_to_candlesticks#doji</a>
  */
-public class DojiIndicator extends CachedIndicator<Boolean> {
-
-    /**
-     * Body height
-     */
-    private final Indicator<Num> bodyHeightInd;
-    /**
-     * Average body height
-     */
-    private final SMAIndicator averageBodyHeightInd;
-
-    private final Num factor;
+public class DojiIndicator extends CandlePatternIndicator {
 
     /**
      * Constructor.
@@ -62,21 +46,6 @@ public class DojiIndicator extends CachedIndicator<Boolean> {
      * @param bodyFactor the factor used when checking if a candle is Doji
      */
     public DojiIndicator(BarSeries series, int barCount, double bodyFactor) {
-        super(series);
-        bodyHeightInd = TransformIndicator.abs(new RealBodyIndicator(series));
-        averageBodyHeightInd = new SMAIndicator(bodyHeightInd, barCount);
-        factor = numOf(bodyFactor);
-    }
-
-    @Override
-    protected Boolean calculate(int index) {
-        if (index < 1) {
-            return bodyHeightInd.getValue(index).isZero();
-        }
-
-        Num averageBodyHeight = averageBodyHeightInd.getValue(index - 1);
-        Num currentBodyHeight = bodyHeightInd.getValue(index);
-
-        return currentBodyHeight.isLessThan(averageBodyHeight.multipliedBy(factor));
+        super(series, CandlePatterns.doji(barCount, bodyFactor));
     }
 }
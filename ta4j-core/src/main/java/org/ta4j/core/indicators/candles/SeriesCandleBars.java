@@ -0,0 +1,146 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.candles;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.Expression;
+import org.ta4j.core.num.Num;
+
+/**
+ * View of the {@link CandleBars candle measures} of the bars of a series, read
+ * from the series on each call.
+ *
+ * The measures are given by the candle indicators (e.g.
+ * {@link LowerShadowIndicator}) and their averages by {@link SMAIndicator SMA
+ * indicators}, created on first use once per bar count. An instance is not
+ * thread-safe: it is meant to be used by a single (synchronized) indicator.
+ */
+class SeriesCandleBars implements CandleBars {
+
+    private final BarSeries series;
+
+    /** Body height: abs(close price - open price) */
+    private final Indicator<Num> bodyHeightInd;
+    private final UpperShadowIndicator upperShadowInd;
+    private final LowerShadowIndicator lowerShadowInd;
+
+    /** Averages of the body heights by bar count */
+    private final Map<Integer, SMAIndicator> averageBodyHeightInds = new HashMap<>();
+    /** Averages of the upper shadows by bar count */
+    private final Map<Integer, SMAIndicator> averageUpperShadowInds = new HashMap<>();
+    /** Averages of the lower shadows by bar count */
+    private final Map<Integer, SMAIndicator> averageLowerShadowInds = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series
+     */
+    SeriesCandleBars(BarSeries series) {
+        this.series = series;
+        bodyHeightInd = Expression.of(new RealBodyIndicator(series)).abs();
+        upperShadowInd = new UpperShadowIndicator(series);
+        lowerShadowInd = new LowerShadowIndicator(series);
+    }
+
+    @Override
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return Math.max(0, series.getBeginIndex());
+    }
+
+    @Override
+    public int getEndIndex() {
+        return series.isEmpty() ? getBeginIndex() - 1 : series.getEndIndex();
+    }
+
+    @Override
+    public Num getOpenPrice(int index) {
+        return series.getBar(index).getOpenPrice();
+    }
+
+    @Override
+    public Num getHighPrice(int index) {
+        return series.getBar(index).getHighPrice();
+    }
+
+    @Override
+    public Num getLowPrice(int index) {
+        return series.getBar(index).getLowPrice();
+    }
+
+    @Override
+    public Num getClosePrice(int index) {
+        return series.getBar(index).getClosePrice();
+    }
+
+    @Override
+    public Num getBodyHeight(int index) {
+        return bodyHeightInd.getValue(index);
+    }
+
+    @Override
+    public Num getUpperShadow(int index) {
+        return upperShadowInd.getValue(index);
+    }
+
+    @Override
+    public Num getLowerShadow(int index) {
+        return lowerShadowInd.getValue(index);
+    }
+
+    @Override
+    public Num getAverageBodyHeight(int index, int barCount) {
+        return average(averageBodyHeightInds, bodyHeightInd, barCount).getValue(index);
+    }
+
+    @Override
+    public Num getAverageUpperShadow(int index, int barCount) {
+        return average(averageUpperShadowInds, upperShadowInd, barCount).getValue(index);
+    }
+
+    @Override
+    public Num getAverageLowerShadow(int index, int barCount) {
+        return average(averageLowerShadowInds, lowerShadowInd, barCount).getValue(index);
+    }
+
+    /**
+     * @param averages  the averages of the indicator by bar count
+     * @param indicator the indicator
+     * @param barCount  the number of bars of the average
+     * @return the average of the indicator over barCount bars
+     */
+    private static SMAIndicator average(Map<Integer, SMAIndicator> averages, Indicator<Num> indicator, int barCount) {
+        return averages.computeIfAbsent(barCount, count -> new SMAIndicator(indicator, count));
+    }
+}
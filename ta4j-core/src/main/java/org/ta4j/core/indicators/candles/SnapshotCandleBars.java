@@ -0,0 +1,198 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.candles;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.num.Num;
+
+/**
+ * Snapshot of the {@link CandleBars candle measures} of the bars of a series,
+ * shared by the {@link CandlePattern candle patterns} of a {@link CandleScanner
+ * scan}.
+ *
+ * The prices, the body and the shadows of every bar are read once from the
+ * series. The averages of the body heights and of the shadows (as given by an
+ * {@link org.ta4j.core.indicators.SMAIndicator SMA} over a bar count) are
+ * computed on first use, once per bar count, with a running sum.
+ *
+ * The measures are a snapshot of the bars at construction: they are not updated
+ * when the series changes. An instance is not thread-safe, it is meant to be
+ * used by a single scan.
+ */
+class SnapshotCandleBars implements CandleBars {
+
+    private final BarSeries series;
+    private final int beginIndex;
+    private final int endIndex;
+
+    private final Num[] openPrices;
+    private final Num[] highPrices;
+    private final Num[] lowPrices;
+    private final Num[] closePrices;
+    /** Body height: abs(close price - open price) */
+    private final Num[] bodyHeights;
+    /** high price - max(open price, close price) */
+    private final Num[] upperShadows;
+    /** min(open price, close price) - low price */
+    private final Num[] lowerShadows;
+
+    /** Averages of the body heights by bar count */
+    private final Map<Integer, Num[]> averageBodyHeights = new HashMap<>();
+    /** Averages of the upper shadows by bar count */
+    private final Map<Integer, Num[]> averageUpperShadows = new HashMap<>();
+    /** Averages of the lower shadows by bar count */
+    private final Map<Integer, Num[]> averageLowerShadows = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param series the bar series
+     */
+    SnapshotCandleBars(BarSeries series) {
+        this.series = series;
+        this.beginIndex = Math.max(0, series.getBeginIndex());
+        this.endIndex = series.isEmpty() ? beginIndex - 1 : series.getEndIndex();
+        final int size = endIndex - beginIndex + 1;
+        openPrices = new Num[size];
+        highPrices = new Num[size];
+        lowPrices = new Num[size];
+        closePrices = new Num[size];
+        bodyHeights = new Num[size];
+        upperShadows = new Num[size];
+        lowerShadows = new Num[size];
+        for (int i = 0; i < size; i++) {
+            final Bar bar = series.getBar(beginIndex + i);
+            final Num openPrice = bar.getOpenPrice();
+            final Num closePrice = bar.getClosePrice();
+            openPrices[i] = openPrice;
+            highPrices[i] = bar.getHighPrice();
+            lowPrices[i] = bar.getLowPrice();
+            closePrices[i] = closePrice;
+            bodyHeights[i] = closePrice.minus(openPrice).abs();
+            if (closePrice.isGreaterThan(openPrice)) {
+                upperShadows[i] = highPrices[i].minus(closePrice);
+                lowerShadows[i] = openPrice.minus(lowPrices[i]);
+            } else {
+                upperShadows[i] = highPrices[i].minus(openPrice);
+                lowerShadows[i] = closePrice.minus(lowPrices[i]);
+            }
+        }
+    }
+
+    @Override
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return beginIndex;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    @Override
+    public Num getOpenPrice(int index) {
+        return openPrices[index - beginIndex];
+    }
+
+    @Override
+    public Num getHighPrice(int index) {
+        return highPrices[index - beginIndex];
+    }
+
+    @Override
+    public Num getLowPrice(int index) {
+        return lowPrices[index - beginIndex];
+    }
+
+    @Override
+    public Num getClosePrice(int index) {
+        return closePrices[index - beginIndex];
+    }
+
+    @Override
+    public Num getBodyHeight(int index) {
+        return bodyHeights[index - beginIndex];
+    }
+
+    @Override
+    public Num getUpperShadow(int index) {
+        return upperShadows[index - beginIndex];
+    }
+
+    @Override
+    public Num getLowerShadow(int index) {
+        return lowerShadows[index - beginIndex];
+    }
+
+    @Override
+    public Num getAverageBodyHeight(int index, int barCount) {
+        return averages(averageBodyHeights, bodyHeights, barCount)[index - beginIndex];
+    }
+
+    @Override
+    public Num getAverageUpperShadow(int index, int barCount) {
+        return averages(averageUpperShadows, upperShadows, barCount)[index - beginIndex];
+    }
+
+    @Override
+    public Num getAverageLowerShadow(int index, int barCount) {
+        return averages(averageLowerShadows, lowerShadows, barCount)[index - beginIndex];
+    }
+
+    /**
+     * @param cache    the averages of the values by bar count
+     * @param values   the values
+     * @param barCount the number of bars of the average
+     * @return the averages of the values over barCount bars
+     */
+    private Num[] averages(Map<Integer, Num[]> cache, Num[] values, int barCount) {
+        Num[] averages = cache.get(barCount);
+        if (averages == null) {
+            if (barCount < 1) {
+                throw new IllegalArgumentException("Bar count must be greater than 0: " + barCount);
+            }
+            averages = new Num[values.length];
+            Num sum = numOf(0);
+            for (int i = 0; i < values.length; i++) {
+                sum = sum.plus(values[i]);
+                if (i >= barCount) {
+                    sum = sum.minus(values[i - barCount]);
+                }
+                // Same average as the SMA indicator at the start of the series
+                averages[i] = sum.dividedBy(numOf(Math.min(barCount, beginIndex + i + 1)));
+            }
+            cache.put(barCount, averages);
+        }
+        return averages;
+    }
+}
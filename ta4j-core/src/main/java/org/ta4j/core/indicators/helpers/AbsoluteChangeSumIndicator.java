@@ -0,0 +1,49 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Absolute change sum indicator.
+ *
+ * I.e.: the sum of the absolute values of the last barCount changes of an
+ * indicator (the length of its path), the volatility of the Kaufman's
+ * efficiency ratio. The change of the first index is zero. As a
+ * {@link RunningSumIndicator}, it costs O(1) per bar when the indexes are
+ * requested in ascending order.
+ */
+public class AbsoluteChangeSumIndicator extends RunningSumIndicator {
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator
+     * @param barCount  the number of changes
+     */
+    public AbsoluteChangeSumIndicator(Indicator<Num> indicator, int barCount) {
+        super(Expression.of(indicator).minus(new PreviousValueIndicator(indicator)).abs(), barCount);
+    }
+}
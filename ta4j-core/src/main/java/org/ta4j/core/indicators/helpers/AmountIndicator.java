@@ -24,6 +24,7 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.CachePolicy;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -41,4 +42,10 @@ public class AmountIndicator extends CachedIndicator<Num> {
     protected Num calculate(int index) {
         return getBarSeries().getBar(index).getAmount();
     }
+
+    @Override
+    protected CachePolicy getDefaultCachePolicy() {
+        // The value is read from the bar
+        return CachePolicy.NO_CACHE;
+    }
 }
\ No newline at end of file
@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedBooleanIndicator;
 import org.ta4j.core.num.Num;
 
 /**
@@ -33,7 +33,7 @@ import org.ta4j.core.num.Num;
  * Transforms any decimal indicator to a boolean indicator by using common
  * logical operators.
  */
-public class BooleanTransformIndicator extends CachedIndicator<Boolean> {
+public class BooleanTransformIndicator extends CachedBooleanIndicator {
 
     /**
      * Select the type for transformation.
@@ -23,8 +23,11 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import java.util.Arrays;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.AbstractIndicator;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Constant indicator.
@@ -43,6 +46,12 @@ public class ConstantIndicator<T> extends AbstractIndicator<T> {
         return value;
     }
 
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        Arrays.fill(out, 0, to - from, IndicatorUtils.toDouble(value));
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " Value: " + value;
@@ -25,7 +25,7 @@ package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedBooleanIndicator;
 import org.ta4j.core.indicators.statistics.CorrelationCoefficientIndicator;
 import org.ta4j.core.indicators.statistics.SimpleLinearRegressionIndicator;
 import org.ta4j.core.num.Num;
@@ -35,7 +35,7 @@ import org.ta4j.core.rules.IsRisingRule;
 /**
  * Indicator-convergence-divergence.
  */
-public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
+public class ConvergenceDivergenceIndicator extends CachedBooleanIndicator {
 
     /**
      * Select the type of convergence or divergence.
@@ -123,6 +123,9 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
     /** The barCount. */
     private final int barCount;
 
+    /** The linear regression of the indicator. */
+    private final SimpleLinearRegressionIndicator slrRef;
+
     /** The type of the convergence or divergence **/
     private final ConvergenceDivergenceType type;
 
@@ -169,6 +172,7 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
         this.ref = ref;
         this.other = other;
         this.barCount = barCount;
+        this.slrRef = new SimpleLinearRegressionIndicator(ref, barCount);
         this.type = type;
         this.strictType = null;
         this.minStrength = numOf(minStrength).abs();
@@ -189,6 +193,7 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
         this.ref = ref;
         this.other = other;
         this.barCount = barCount;
+        this.slrRef = new SimpleLinearRegressionIndicator(ref, barCount);
         this.type = type;
         this.strictType = null;
         this.minStrength = numOf(0.8).abs();
@@ -209,6 +214,7 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
         this.ref = ref;
         this.other = other;
         this.barCount = barCount;
+        this.slrRef = new SimpleLinearRegressionIndicator(ref, barCount);
         this.type = null;
         this.strictType = strictType;
         this.minStrength = null;
@@ -372,7 +378,6 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
      * @return the relative slope
      */
     private Num calculateSlopeRel(int index) {
-        SimpleLinearRegressionIndicator slrRef = new SimpleLinearRegressionIndicator(ref, barCount);
         int firstIndex = Math.max(0, index - barCount + 1);
         return (slrRef.getValue(index).minus(slrRef.getValue(firstIndex))).dividedBy(slrRef.getValue(index));
     }
@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedBooleanIndicator;
 import org.ta4j.core.num.Num;
 
 /**
@@ -32,7 +32,7 @@ import org.ta4j.core.num.Num;
  *
  * Boolean indicator which monitors two-indicators crossings.
  */
-public class CrossIndicator extends CachedIndicator<Boolean> {
+public class CrossIndicator extends CachedBooleanIndicator {
 
     /** Upper indicator */
     private final Indicator<Num> up;
@@ -0,0 +1,208 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import java.util.function.UnaryOperator;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Arithmetic expression of indicators.
+ *
+ * An expression fuses a tree of arithmetic operations into one indicator: its
+ * value is computed per index from the values of its operands, without storing
+ * the intermediate results. E.g.:
+ *
+ * <pre>
+ * Indicator&lt;Num&gt; zScore = Expression.of(closePrice).minus(sma).dividedBy(standardDeviation).multipliedBy(100).cached();
+ * </pre>
+ *
+ * holds a single cache (the root), instead of the four caches of the equivalent
+ * chain of {@link DifferenceIndicator}, {@link TransformIndicator}, etc.
+ *
+ * An expression is not cached: each {@link #getValue(int) value} evaluates the
+ * whole tree. {@link #cached()} gives a cached expression, which may be used as
+ * the root of the tree or as a node whose value is read by several parents.
+ *
+ * An expression is immutable: the operations return a new expression.
+ */
+public interface Expression extends Indicator<Num> {
+
+    /**
+     * @param indicator an indicator
+     * @return the indicator as an expression (the indicator itself if it is an
+     *         expression)
+     */
+    static Expression of(Indicator<Num> indicator) {
+        if (indicator instanceof Expression) {
+            return (Expression) indicator;
+        }
+        return new ExpressionNodes.Operand(indicator);
+    }
+
+    /**
+     * @param series the bar series
+     * @param value  a value
+     * @return the constant expression of the value
+     */
+    static Expression constant(BarSeries series, Number value) {
+        return new ExpressionNodes.Constant(series, series.numOf(value));
+    }
+
+    /**
+     * @param other an indicator
+     * @return this + other
+     */
+    default Expression plus(Indicator<Num> other) {
+        return new ExpressionNodes.Binary(this, of(other), "+", Num::plus);
+    }
+
+    /**
+     * @param value a value
+     * @return this + value
+     */
+    default Expression plus(Number value) {
+        return plus(constant(getBarSeries(), value));
+    }
+
+    /**
+     * @param other an indicator
+     * @return this - other
+     */
+    default Expression minus(Indicator<Num> other) {
+        return new ExpressionNodes.Binary(this, of(other), "-", Num::minus);
+    }
+
+    /**
+     * @param value a value
+     * @return this - value
+     */
+    default Expression minus(Number value) {
+        return minus(constant(getBarSeries(), value));
+    }
+
+    /**
+     * @param other an indicator
+     * @return this * other
+     */
+    default Expression multipliedBy(Indicator<Num> other) {
+        return new ExpressionNodes.Binary(this, of(other), "*", Num::multipliedBy);
+    }
+
+    /**
+     * @param value a value
+     * @return this * value
+     */
+    default Expression multipliedBy(Number value) {
+        return multipliedBy(constant(getBarSeries(), value));
+    }
+
+    /**
+     * @param other an indicator
+     * @return this / other
+     */
+    default Expression dividedBy(Indicator<Num> other) {
+        return new ExpressionNodes.Binary(this, of(other), "/", Num::dividedBy);
+    }
+
+    /**
+     * @param value a value
+     * @return this / value
+     */
+    default Expression dividedBy(Number value) {
+        return dividedBy(constant(getBarSeries(), value));
+    }
+
+    /**
+     * @param other an indicator
+     * @return max(this, other)
+     */
+    default Expression max(Indicator<Num> other) {
+        return new ExpressionNodes.Binary(this, of(other), "max", Num::max);
+    }
+
+    /**
+     * @param value a value
+     * @return max(this, value)
+     */
+    default Expression max(Number value) {
+        return max(constant(getBarSeries(), value));
+    }
+
+    /**
+     * @param other an indicator
+     * @return min(this, other)
+     */
+    default Expression min(Indicator<Num> other) {
+        return new ExpressionNodes.Binary(this, of(other), "min", Num::min);
+    }
+
+    /**
+     * @param value a value
+     * @return min(this, value)
+     */
+    default Expression min(Number value) {
+        return min(constant(getBarSeries(), value));
+    }
+
+    /**
+     * @return abs(this)
+     */
+    default Expression abs() {
+        return map("abs", Num::abs);
+    }
+
+    /**
+     * @return -this
+     */
+    default Expression negate() {
+        return map("neg", Num::negate);
+    }
+
+    /**
+     * @return sqrt(this)
+     */
+    default Expression sqrt() {
+        return map("sqrt", Num::sqrt);
+    }
+
+    /**
+     * @param name      the name of the function (for {@link #toString()})
+     * @param operation the function
+     * @return operation(this)
+     */
+    default Expression map(String name, UnaryOperator<Num> operation) {
+        return new ExpressionNodes.Unary(this, name, operation);
+    }
+
+    /**
+     * @return this expression with its values cached (this expression if it is
+     *         already cached)
+     */
+    default Expression cached() {
+        return new CachedExpressionIndicator(this);
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * The (uncached) nodes of the {@link Expression expressions}.
+ */
+final class ExpressionNodes {
+
+    private ExpressionNodes() {
+    }
+
+    /**
+     * Indicator operand.
+     */
+    static final class Operand extends AbstractIndicator<Num> implements Expression {
+
+        private final Indicator<Num> indicator;
+
+        Operand(Indicator<Num> indicator) {
+            super(indicator.getBarSeries());
+            this.indicator = indicator;
+        }
+
+        @Override
+        public Num getValue(int index) {
+            return indicator.getValue(index);
+        }
+
+        @Override
+        public String toString() {
+            return indicator.toString();
+        }
+    }
+
+    /**
+     * Constant operand.
+     */
+    static final class Constant extends AbstractIndicator<Num> implements Expression {
+
+        private final Num value;
+
+        Constant(BarSeries series, Num value) {
+            super(series);
+            this.value = value;
+        }
+
+        @Override
+        public Num getValue(int index) {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return value.toString();
+        }
+    }
+
+    /**
+     * Function of an expression.
+     */
+    static final class Unary extends AbstractIndicator<Num> implements Expression {
+
+        private final Expression operand;
+        private final String name;
+        private final UnaryOperator<Num> operation;
+
+        Unary(Expression operand, String name, UnaryOperator<Num> operation) {
+            super(operand.getBarSeries());
+            this.operand = operand;
+            this.name = name;
+            this.operation = operation;
+        }
+
+        @Override
+        public Num getValue(int index) {
+            return operation.apply(operand.getValue(index));
+        }
+
+        @Override
+        public String toString() {
+            return name + "(" + operand + ")";
+        }
+    }
+
+    /**
+     * Operation of two expressions.
+     */
+    static final class Binary extends AbstractIndicator<Num> implements Expression {
+
+        private final Expression left;
+        private final Expression right;
+        private final String symbol;
+        private final BinaryOperator<Num> operation;
+
+        Binary(Expression left, Expression right, String symbol, BinaryOperator<Num> operation) {
+            super(left.getBarSeries());
+            this.left = left;
+            this.right = right;
+            this.symbol = symbol;
+            this.operation = operation;
+        }
+
+        @Override
+        public Num getValue(int index) {
+            return operation.apply(left.getValue(index), right.getValue(index));
+        }
+
+        @Override
+        public String toString() {
+            if (symbol.length() == 1) {
+                return "(" + left + " " + symbol + " " + right + ")";
+            }
+            return symbol + "(" + left + ", " + right + ")";
+        }
+    }
+}
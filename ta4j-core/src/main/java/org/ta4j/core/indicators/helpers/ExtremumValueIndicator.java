@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.MonotonicDeque;
+
+/**
+ * Base of the highest and lowest value (and index) indicators.
+ *
+ * The extremum of the window is maintained by a {@link MonotonicDeque}: when
+ * the indexes are requested in ascending order, each new index costs an
+ * amortized O(1). Any other index is calculated by rebuilding the deque from
+ * its window, the calculated results being the checkpoints of the cache. NaN
+ * values are ignored.
+ *
+ * @param <T> the type of the result (e.g. the extremum or its index)
+ */
+abstract class ExtremumValueIndicator<T> extends CachedIndicator<T> {
+
+    private final Indicator<Num> indicator;
+
+    private final int barCount;
+
+    private final MonotonicDeque deque;
+
+    /** Index of the last value added to the deque, -1 if none */
+    private int lastIndex = -1;
+
+    protected ExtremumValueIndicator(Indicator<Num> indicator, int barCount, boolean highest) {
+        super(indicator);
+        this.indicator = indicator;
+        this.barCount = barCount;
+        this.deque = new MonotonicDeque(barCount, highest);
+    }
+
+    /**
+     * @param extremumIndex the index of the extremum of the window, -1 if there is
+     *                      none (only NaN values)
+     * @param extremum      the extremum of the window, null if there is none
+     * @return the result of the indicator
+     */
+    protected abstract T result(int extremumIndex, Num extremum);
+
+    @Override
+    protected T calculate(int index) {
+        final BarSeries series = getBarSeries();
+        final int firstIndex = Math.max(0, index - barCount + 1);
+        if (lastIndex != index - 1 || firstIndex < series.getRemovedBarsCount()) {
+            // Out of order (or removed bars in the window): rebuild the deque
+            deque.clear();
+            for (int i = firstIndex; i < index; i++) {
+                deque.add(i, indicator.getValue(i));
+            }
+            lastIndex = index - 1;
+        }
+        final Num value = indicator.getValue(index);
+        if (index < series.getEndIndex()) {
+            deque.add(index, value);
+            lastIndex = index;
+            return result(deque.getExtremumIndex(), deque.getExtremum());
+        }
+        // The value of the last bar may still change: it is not added to the deque
+        return result(deque.peekExtremumIndex(index, value), deque.peekExtremum(index, value));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
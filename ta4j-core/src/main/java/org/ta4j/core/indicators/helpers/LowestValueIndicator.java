@@ -23,42 +23,26 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import static org.ta4j.core.num.NaN.NaN;
+
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
 /**
  * Lowest value indicator.
+ *
+ * I.e.: the lowest value of the last barCount values, in amortized O(1) per
+ * bar. NaN values are ignored, NaN is returned if all the values of the window
+ * are NaN.
  */
-public class LowestValueIndicator extends CachedIndicator<Num> {
-
-    private final Indicator<Num> indicator;
-
-    private final int barCount;
+public class LowestValueIndicator extends ExtremumValueIndicator<Num> {
 
     public LowestValueIndicator(Indicator<Num> indicator, int barCount) {
-        super(indicator);
-        this.indicator = indicator;
-        this.barCount = barCount;
-    }
-
-    @Override
-    protected Num calculate(int index) {
-        if (indicator.getValue(index).isNaN() && barCount != 1) {
-            return new LowestValueIndicator(indicator, barCount - 1).getValue(index - 1);
-        }
-        int end = Math.max(0, index - barCount + 1);
-        Num lowest = indicator.getValue(index);
-        for (int i = index - 1; i >= end; i--) {
-            if (lowest.isGreaterThan(indicator.getValue(i))) {
-                lowest = indicator.getValue(i);
-            }
-        }
-        return lowest;
+        super(indicator, barCount, false);
     }
 
     @Override
-    public String toString() {
-        return getClass().getSimpleName() + " barCount: " + barCount;
+    protected Num result(int extremumIndex, Num extremum) {
+        return extremum == null ? NaN : extremum;
     }
 }
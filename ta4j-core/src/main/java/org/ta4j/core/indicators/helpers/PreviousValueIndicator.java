@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.CachePolicy;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -66,6 +67,12 @@ public class PreviousValueIndicator extends CachedIndicator<Num> {
         return this.indicator.getValue(previousValue);
     }
 
+    @Override
+    protected CachePolicy getDefaultCachePolicy() {
+        // The value is read from the (cached) indicator
+        return CachePolicy.NO_CACHE;
+    }
+
     @Override
     public String toString() {
         final String nInfo = n == 1 ? "" : "(" + n + ")";
@@ -27,8 +27,10 @@ import java.util.function.Function;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.CachePolicy;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Base class for price indicators
@@ -47,4 +49,23 @@ public abstract class PriceIndicator extends CachedIndicator<Num> {
         final Bar bar = getBarSeries().getBar(index);
         return priceFunction.apply(bar);
     }
+
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        if (getCachePolicy().getType() != CachePolicy.Type.NO_CACHE) {
+            super.computeRange(from, to, out);
+            return;
+        }
+        IndicatorUtils.checkRange(from, to, out);
+        final BarSeries series = getBarSeries();
+        for (int i = from; i < to; i++) {
+            out[i - from] = priceFunction.apply(series.getBar(i)).doubleValue();
+        }
+    }
+
+    @Override
+    protected CachePolicy getDefaultCachePolicy() {
+        // The value is read from the bar
+        return CachePolicy.NO_CACHE;
+    }
 }
@@ -0,0 +1,193 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.num.DoubleNum;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
+
+/**
+ * Running sum indicator.
+ *
+ * I.e.: the sum of the last barCount values of an indicator.
+ *
+ * When the indexes are requested in ascending order, the sum is updated in
+ * O(1): the newest value is added and the oldest one is subtracted. For
+ * {@link DoubleNum} the running sum is Kahan-compensated, other {@link Num}
+ * types keep their own arithmetic (i.e. exact for
+ * {@link org.ta4j.core.num.DecimalNum DecimalNum}). Any other access pattern
+ * falls back to a full sum over the window.
+ */
+public class RunningSumIndicator extends CachedIndicator<Num> {
+
+    private final Indicator<Num> indicator;
+    private final int barCount;
+
+    /** Index of the running sum, -1 if there is no running sum */
+    private int sumIndex = -1;
+    /** Running sum for non-double numbers */
+    private Num sum;
+    /** Running sum for DoubleNum */
+    private double doubleSum;
+    /** Kahan compensation of doubleSum */
+    private double compensation;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator
+     * @param barCount  the time frame
+     */
+    public RunningSumIndicator(Indicator<Num> indicator, int barCount) {
+        super(indicator);
+        this.indicator = indicator;
+        this.barCount = barCount;
+    }
+
+    @Override
+    protected Num calculate(int index) {
+        final BarSeries series = getBarSeries();
+        // The value of the last bar may still change: it is not kept as running sum
+        final boolean keep = index < series.getEndIndex();
+        final int oldestIndex = index - barCount;
+        if (sumIndex < 0 || sumIndex != index - 1 || (oldestIndex >= 0 && oldestIndex < series.getRemovedBarsCount())) {
+            // Out of order (or the value leaving the window has been removed)
+            return fullSum(index, keep);
+        }
+        final Num newest = indicator.getValue(index);
+        final Num oldest = oldestIndex >= 0 ? indicator.getValue(oldestIndex) : null;
+        if (newest.isNaN() || (oldest != null && oldest.isNaN())) {
+            return fullSum(index, keep);
+        }
+        if (newest instanceof DoubleNum) {
+            double newSum = doubleSum;
+            double newCompensation = compensation;
+            // Kahan summation of the newest value
+            double y = newest.doubleValue() - newCompensation;
+            double t = newSum + y;
+            newCompensation = (t - newSum) - y;
+            newSum = t;
+            if (oldest != null) {
+                // Kahan summation of the opposite of the oldest value
+                y = -oldest.doubleValue() - newCompensation;
+                t = newSum + y;
+                newCompensation = (t - newSum) - y;
+                newSum = t;
+            }
+            if (keep) {
+                sumIndex = index;
+                doubleSum = newSum;
+                compensation = newCompensation;
+            }
+            return numOf(newSum);
+        }
+        Num newSum = sum.plus(newest);
+        if (oldest != null) {
+            newSum = newSum.minus(oldest);
+        }
+        if (keep) {
+            sumIndex = index;
+            sum = newSum;
+        }
+        return newSum;
+    }
+
+    /**
+     * Computes the sums of a range of indexes in a single pass over the values of
+     * the indicator, in double arithmetic (Kahan summation): the sums may differ
+     * from the values of {@link #getValue(int)} by rounding errors.
+     */
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        final int begin = computeRemovedRange(from, to, out);
+        if (begin == to) {
+            return;
+        }
+        final int start = Math.max(0, begin - barCount + 1);
+        final double[] values = new double[to - start];
+        indicator.computeRange(start, to, values);
+        double sum = 0;
+        double compensation = 0;
+        // NaN values are counted, not summed
+        int nanCount = 0;
+        for (int i = start; i < to; i++) {
+            final double newest = values[i - start];
+            if (Double.isNaN(newest)) {
+                nanCount++;
+            } else {
+                final double y = newest - compensation;
+                final double t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+            final int oldestIndex = i - barCount;
+            if (oldestIndex >= start) {
+                final double oldest = values[oldestIndex - start];
+                if (Double.isNaN(oldest)) {
+                    nanCount--;
+                } else {
+                    final double y = -oldest - compensation;
+                    final double t = sum + y;
+                    compensation = (t - sum) - y;
+                    sum = t;
+                }
+            }
+            if (i >= begin) {
+                out[i - from] = nanCount > 0 ? Double.NaN : sum;
+            }
+        }
+    }
+
+    /**
+     * Sums all the values of the window.
+     *
+     * @param index the bar index
+     * @param keep  true to keep the sum as running sum
+     * @return the sum of the window
+     */
+    private Num fullSum(int index, boolean keep) {
+        Num result = numOf(0);
+        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+            result = result.plus(indicator.getValue(i));
+        }
+        if (keep && !result.isNaN()) {
+            sumIndex = index;
+            sum = result;
+            doubleSum = result.doubleValue();
+            compensation = 0;
+        } else if (keep) {
+            sumIndex = -1;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
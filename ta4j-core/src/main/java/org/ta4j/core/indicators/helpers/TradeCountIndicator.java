@@ -24,6 +24,7 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.CachePolicy;
 import org.ta4j.core.indicators.CachedIndicator;
 
 /**
@@ -39,4 +40,10 @@ public class TradeCountIndicator extends CachedIndicator<Long> {
     protected Long calculate(int index) {
         return getBarSeries().getBar(index).getTrades();
     }
+
+    @Override
+    protected CachePolicy getDefaultCachePolicy() {
+        // The value is read from the bar
+        return CachePolicy.NO_CACHE;
+    }
 }
\ No newline at end of file
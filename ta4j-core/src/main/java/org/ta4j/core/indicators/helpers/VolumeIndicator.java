@@ -24,6 +24,7 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.CachePolicy;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -52,4 +53,10 @@ public class VolumeIndicator extends CachedIndicator<Num> {
         }
         return sumOfVolume;
     }
+
+    @Override
+    protected CachePolicy getDefaultCachePolicy() {
+        // The volume of a single bar is read from the bar
+        return barCount == 1 ? CachePolicy.NO_CACHE : null;
+    }
 }
\ No newline at end of file
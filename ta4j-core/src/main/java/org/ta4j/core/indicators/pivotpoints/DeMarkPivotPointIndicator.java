@@ -25,11 +25,8 @@ package org.ta4j.core.indicators.pivotpoints;
 
 import static org.ta4j.core.num.NaN.NaN;
 
-import java.time.temporal.IsoFields;
-import java.util.ArrayList;
 import java.util.List;
 
-import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.num.Num;
@@ -43,7 +40,7 @@ import org.ta4j.core.num.Num;
  */
 public class DeMarkPivotPointIndicator extends RecursiveCachedIndicator<Num> {
 
-    private final TimeLevel timeLevel;
+    private final PeriodIndex periodIndex;
     private final Num two;
 
     /**
@@ -78,29 +75,32 @@ public class DeMarkPivotPointIndicator extends RecursiveCachedIndicator<Num> {
      *                    after the first complete month
      */
     public DeMarkPivotPointIndicator(BarSeries series, TimeLevel timeLevelId) {
-        super(series);
-        this.timeLevel = timeLevelId;
+        this(new PeriodIndex(series, timeLevelId));
+    }
+
+    /**
+     * Constructor.
+     *
+     * Calculates the deMark pivot point based on the periods of a period index (see
+     * {@link #DeMarkPivotPointIndicator(BarSeries, TimeLevel)}).
+     *
+     * @param periodIndex the periods of the bar series
+     */
+    public DeMarkPivotPointIndicator(PeriodIndex periodIndex) {
+        super(periodIndex.getBarSeries());
+        this.periodIndex = periodIndex;
         this.two = numOf(2);
     }
 
     @Override
     protected Num calculate(int index) {
-        return calcPivotPoint(getBarsOfPreviousPeriod(index));
-    }
-
-    private Num calcPivotPoint(List<Integer> barsOfPreviousPeriod) {
-        if (barsOfPreviousPeriod.isEmpty())
+        final PeriodBars previousPeriod = getPreviousPeriod(index);
+        if (previousPeriod == null)
             return NaN;
-        Bar bar = getBarSeries().getBar(barsOfPreviousPeriod.get(0));
-        Num open = getBarSeries().getBar(barsOfPreviousPeriod.get(barsOfPreviousPeriod.size() - 1)).getOpenPrice();
-        Num close = bar.getClosePrice();
-        Num high = bar.getHighPrice();
-        Num low = bar.getLowPrice();
-
-        for (int i : barsOfPreviousPeriod) {
-            high = (getBarSeries().getBar(i).getHighPrice()).max(high);
-            low = (getBarSeries().getBar(i).getLowPrice()).min(low);
-        }
+        Num open = previousPeriod.getOpenPrice();
+        Num close = previousPeriod.getClosePrice();
+        Num high = previousPeriod.getHighPrice();
+        Num low = previousPeriod.getLowPrice();
 
         Num x;
         if (close.isLessThan(open)) {
@@ -115,70 +115,28 @@ public class DeMarkPivotPointIndicator extends RecursiveCachedIndicator<Num> {
     }
 
     /**
-     * Calculates the indices of the bars of the previous period
-     *
      * @param index index of the current bar
-     * @return list of indices of the bars of the previous period
+     * @return the bars of the previous period, null if there is none
      */
-    public List<Integer> getBarsOfPreviousPeriod(int index) {
-        List<Integer> previousBars = new ArrayList<>();
-
-        if (timeLevel == TimeLevel.BARBASED) {
-            previousBars.add(Math.max(0, index - 1));
-            return previousBars;
-        }
-        if (index == 0) {
-            return previousBars;
-        }
-
-        final Bar currentBar = getBarSeries().getBar(index);
-
-        // step back while bar-1 in same period (day, week, etc):
-        while (index - 1 > getBarSeries().getBeginIndex()
-                && getPeriod(getBarSeries().getBar(index - 1)) == getPeriod(currentBar)) {
-            index--;
-        }
-
-        // index = last bar in same period, index-1 = first bar in previous period
-        long previousPeriod = getPreviousPeriod(currentBar, index - 1);
-        while (index - 1 > getBarSeries().getBeginIndex()
-                && getPeriod(getBarSeries().getBar(index - 1)) == previousPeriod) { // while bar-n in previous period
-            index--;
-            previousBars.add(index);
-        }
-        return previousBars;
+    public PeriodBars getPreviousPeriod(int index) {
+        return periodIndex.getPreviousPeriod(index);
     }
 
-    private long getPreviousPeriod(Bar bar, int indexOfPreviousBar) {
-        switch (timeLevel) {
-        case DAY: // return previous day
-            int prevCalendarDay = bar.getEndTime().minusDays(1).getDayOfYear();
-            // skip weekend and holidays:
-            while (getBarSeries().getBar(indexOfPreviousBar).getEndTime().getDayOfYear() != prevCalendarDay
-                    && indexOfPreviousBar > 0) {
-                prevCalendarDay--;
-            }
-            return prevCalendarDay;
-        case WEEK: // return previous week
-            return bar.getEndTime().minusWeeks(1).get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
-        case MONTH: // return previous month
-            return bar.getEndTime().minusMonths(1).getMonthValue();
-        default: // return previous year
-            return bar.getEndTime().minusYears(1).getYear();
-        }
+    /**
+     * @return the periods of the bar series
+     */
+    public PeriodIndex getPeriodIndex() {
+        return periodIndex;
     }
 
-    private long getPeriod(Bar bar) {
-        switch (timeLevel) {
-        case DAY: // return previous day
-            return bar.getEndTime().getDayOfYear();
-        case WEEK: // return previous week
-            return bar.getEndTime().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
-        case MONTH: // return previous month
-            return bar.getEndTime().getMonthValue();
-        default: // return previous year
-            return bar.getEndTime().getYear();
-        }
+    /**
+     * Calculates the indices of the bars of the previous period
+     *
+     * @param index index of the current bar
+     * @return list of indices of the bars of the previous period (from the last one
+     *         to the first one)
+     */
+    public List<Integer> getBarsOfPreviousPeriod(int index) {
+        return PeriodIndex.indexesOf(getPreviousPeriod(index));
     }
-
 }
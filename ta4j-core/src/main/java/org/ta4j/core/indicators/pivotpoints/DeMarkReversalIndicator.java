@@ -25,9 +25,6 @@ package org.ta4j.core.indicators.pivotpoints;
 
 import static org.ta4j.core.num.NaN.NaN;
 
-import java.util.List;
-
-import org.ta4j.core.Bar;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -81,30 +78,18 @@ public class DeMarkReversalIndicator extends RecursiveCachedIndicator<Num> {
     }
 
     private Num calculateResistance(Num x, int index) {
-        List<Integer> barsOfPreviousPeriod = pivotPointIndicator.getBarsOfPreviousPeriod(index);
-        if (barsOfPreviousPeriod.isEmpty()) {
+        PeriodBars previousPeriod = pivotPointIndicator.getPreviousPeriod(index);
+        if (previousPeriod == null) {
             return NaN;
         }
-        Bar bar = getBarSeries().getBar(barsOfPreviousPeriod.get(0));
-        Num low = bar.getLowPrice();
-        for (int i : barsOfPreviousPeriod) {
-            low = getBarSeries().getBar(i).getLowPrice().min(low);
-        }
-
-        return x.dividedBy(two).minus(low);
+        return x.dividedBy(two).minus(previousPeriod.getLowPrice());
     }
 
     private Num calculateSupport(Num x, int index) {
-        List<Integer> barsOfPreviousPeriod = pivotPointIndicator.getBarsOfPreviousPeriod(index);
-        if (barsOfPreviousPeriod.isEmpty()) {
+        PeriodBars previousPeriod = pivotPointIndicator.getPreviousPeriod(index);
+        if (previousPeriod == null) {
             return NaN;
         }
-        Bar bar = getBarSeries().getBar(barsOfPreviousPeriod.get(0));
-        Num high = bar.getHighPrice();
-        for (int i : barsOfPreviousPeriod) {
-            high = getBarSeries().getBar(i).getHighPrice().max(high);
-        }
-
-        return x.dividedBy(two).minus(high);
+        return x.dividedBy(two).minus(previousPeriod.getHighPrice());
     }
 }
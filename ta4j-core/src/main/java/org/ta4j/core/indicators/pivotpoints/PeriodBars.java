@@ -0,0 +1,111 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.pivotpoints;
+
+import java.io.Serializable;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * The bars of a period (e.g. a day or a week) of a bar series: the indexes of
+ * its first and last bars, and its open, high, low and close prices.
+ */
+public class PeriodBars implements Serializable {
+
+    private static final long serialVersionUID = -8316526153420539813L;
+
+    private final int beginIndex;
+    private final int endIndex;
+    private final Num openPrice;
+    private final Num highPrice;
+    private final Num lowPrice;
+    private final Num closePrice;
+
+    /**
+     * Constructor.
+     *
+     * @param beginIndex the index of the first bar of the period
+     * @param endIndex   the index of the last bar of the period
+     * @param openPrice  the open price of the first bar
+     * @param highPrice  the highest high price of the bars
+     * @param lowPrice   the lowest low price of the bars
+     * @param closePrice the close price of the last bar
+     */
+    public PeriodBars(int beginIndex, int endIndex, Num openPrice, Num highPrice, Num lowPrice, Num closePrice) {
+        this.beginIndex = beginIndex;
+        this.endIndex = endIndex;
+        this.openPrice = openPrice;
+        this.highPrice = highPrice;
+        this.lowPrice = lowPrice;
+        this.closePrice = closePrice;
+    }
+
+    /**
+     * @return the index of the first bar of the period
+     */
+    public int getBeginIndex() {
+        return beginIndex;
+    }
+
+    /**
+     * @return the index of the last bar of the period
+     */
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    /**
+     * @return the open price of the first bar of the period
+     */
+    public Num getOpenPrice() {
+        return openPrice;
+    }
+
+    /**
+     * @return the highest high price of the period
+     */
+    public Num getHighPrice() {
+        return highPrice;
+    }
+
+    /**
+     * @return the lowest low price of the period
+     */
+    public Num getLowPrice() {
+        return lowPrice;
+    }
+
+    /**
+     * @return the close price of the last bar of the period
+     */
+    public Num getClosePrice() {
+        return closePrice;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{begin index: %d, end index: %d, open: %s, high: %s, low: %s, close: %s}", beginIndex,
+                endIndex, openPrice, highPrice, lowPrice, closePrice);
+    }
+}
@@ -0,0 +1,256 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.pivotpoints;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.num.Num;
+
+/**
+ * Index of the calendar periods (days, weeks, months or years) of a bar series.
+ *
+ * The series is split into periods (runs of consecutive bars of the same
+ * period) lazily, as the indexes are requested, and the bars of the previous
+ * period of each period are aggregated once. Getting the previous period of an
+ * index then costs O(1) when the indexes are requested in ascending order
+ * (O(log n) in the number of periods otherwise), instead of walking back
+ * through the bars. An index may be shared by the pivot point indicators of the
+ * same series and time level.
+ *
+ * The previous period of a period is the one of the bars just before it, if
+ * they belong to the previous calendar period (for {@link TimeLevel#DAY}: to a
+ * previous day, e.g. skipping weekends and holidays). The first period of the
+ * series (or of its remaining bars, for a series with a maximum bar count) has
+ * no previous period.
+ */
+public class PeriodIndex implements Serializable {
+
+    private static final long serialVersionUID = 4467211387431716085L;
+
+    /** Previous period of the periods which have none */
+    private static final PeriodBars NONE = new PeriodBars(-1, -1, null, null, null, null);
+
+    private final BarSeries series;
+    private final TimeLevel timeLevel;
+
+    /** Index of the last bar assigned to a period, -1 if none */
+    private int lastIndex = -1;
+    /**
+     * Calendar period of the last bar assigned to a period (see
+     * {@link #getPeriod(ZonedDateTime)})
+     */
+    private long lastPeriod;
+    /** Index of the first bar of each period */
+    private int[] beginIndexes = new int[16];
+    /** Previous period of each period, null if not aggregated yet */
+    private PeriodBars[] previousPeriods = new PeriodBars[16];
+    /** Number of periods */
+    private int periodCount;
+
+    /**
+     * Constructor.
+     *
+     * @param series    the bar series
+     * @param timeLevel the time level of the periods
+     */
+    public PeriodIndex(BarSeries series, TimeLevel timeLevel) {
+        this.series = series;
+        this.timeLevel = timeLevel;
+    }
+
+    /**
+     * @return the bar series
+     */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /**
+     * @return the time level of the periods
+     */
+    public TimeLevel getTimeLevel() {
+        return timeLevel;
+    }
+
+    /**
+     * Gives the bars of the period preceding the period of a bar. For
+     * {@link TimeLevel#BARBASED}, the previous period is the previous bar (the
+     * first bar for the first index).
+     *
+     * @param index the index of the bar
+     * @return the bars of the previous period, null if there is none
+     */
+    public synchronized PeriodBars getPreviousPeriod(int index) {
+        if (timeLevel == TimeLevel.BARBASED) {
+            final int previousIndex = Math.max(0, index - 1);
+            return aggregate(previousIndex, previousIndex);
+        }
+        final int removedBarsCount = series.getRemovedBarsCount();
+        if (index <= removedBarsCount) {
+            return null;
+        }
+        if (lastIndex + 1 < removedBarsCount) {
+            // The bars not assigned yet have been removed: the periods start again at the
+            // first remaining bar
+            periodCount = 0;
+            Arrays.fill(previousPeriods, null);
+            lastIndex = removedBarsCount - 1;
+        }
+        while (lastIndex < index) {
+            addBar(lastIndex + 1);
+        }
+        final int period = periodOf(index);
+        PeriodBars previousPeriod = previousPeriods[period];
+        if (previousPeriod == null) {
+            previousPeriod = calculatePreviousPeriod(period);
+            previousPeriods[period] = previousPeriod;
+        }
+        return previousPeriod == NONE ? null : previousPeriod;
+    }
+
+    /**
+     * Assigns a bar to a period (its predecessor's one or a new one).
+     *
+     * @param index the index of the bar, just after the last assigned one
+     */
+    private void addBar(int index) {
+        final long period = getPeriod(series.getBar(index).getEndTime());
+        if (periodCount == 0 || period != lastPeriod) {
+            if (periodCount == beginIndexes.length) {
+                beginIndexes = Arrays.copyOf(beginIndexes, periodCount * 2);
+                previousPeriods = Arrays.copyOf(previousPeriods, periodCount * 2);
+            }
+            beginIndexes[periodCount++] = index;
+        }
+        lastIndex = index;
+        lastPeriod = period;
+    }
+
+    /**
+     * @param index the index of an assigned bar
+     * @return the number of the period of the bar
+     */
+    private int periodOf(int index) {
+        if (beginIndexes[periodCount - 1] <= index) {
+            return periodCount - 1;
+        }
+        final int position = Arrays.binarySearch(beginIndexes, 0, periodCount, index);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    /**
+     * @param period the number of a period
+     * @return the bars of the previous period, {@link #NONE} if there is none
+     */
+    private PeriodBars calculatePreviousPeriod(int period) {
+        if (period == 0) {
+            return NONE;
+        }
+        final int beginIndex = beginIndexes[period];
+        final int previousEndIndex = beginIndex - 1;
+        final ZonedDateTime beginTime = series.getBar(beginIndex).getEndTime();
+        final long previousBarPeriod = getPeriod(series.getBar(previousEndIndex).getEndTime());
+        final boolean previous;
+        if (timeLevel == TimeLevel.DAY) {
+            final long previousCalendarDay = getPeriod(beginTime.minusDays(1));
+            // Any previous day (skipping weekends and holidays, also across the end of a
+            // year), but the first bar must be the day before
+            previous = previousEndIndex == beginIndexes[0] ? previousBarPeriod == previousCalendarDay
+                    : previousBarPeriod <= previousCalendarDay;
+        } else {
+            previous = previousBarPeriod == getPeriod(getPreviousPeriodTime(beginTime));
+        }
+        return previous ? aggregate(beginIndexes[period - 1], previousEndIndex) : NONE;
+    }
+
+    /**
+     * @param beginIndex the index of the first bar
+     * @param endIndex   the index of the last bar
+     * @return the aggregated bars
+     */
+    private PeriodBars aggregate(int beginIndex, int endIndex) {
+        final Bar lastBar = series.getBar(endIndex);
+        Num high = lastBar.getHighPrice();
+        Num low = lastBar.getLowPrice();
+        for (int i = endIndex; i >= beginIndex; i--) {
+            final Bar bar = series.getBar(i);
+            high = bar.getHighPrice().max(high);
+            low = bar.getLowPrice().min(low);
+        }
+        return new PeriodBars(beginIndex, endIndex, series.getBar(beginIndex).getOpenPrice(), high, low,
+                lastBar.getClosePrice());
+    }
+
+    /**
+     * @param period the bars of a period, or null
+     * @return the indexes of the bars, from the last one to the first one (empty if
+     *         there is no period)
+     */
+    static List<Integer> indexesOf(PeriodBars period) {
+        if (period == null) {
+            return new ArrayList<>();
+        }
+        List<Integer> indexes = new ArrayList<>(period.getEndIndex() - period.getBeginIndex() + 1);
+        for (int i = period.getEndIndex(); i >= period.getBeginIndex(); i--) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    private ZonedDateTime getPreviousPeriodTime(ZonedDateTime time) {
+        switch (timeLevel) {
+        case WEEK:
+            return time.minusWeeks(1);
+        case MONTH:
+            return time.minusMonths(1);
+        default:
+            return time.minusYears(1);
+        }
+    }
+
+    /**
+     * @param time a time
+     * @return the calendar period of the time, unique across the years (e.g. the
+     *         epoch day of its date for {@link TimeLevel#DAY})
+     */
+    private long getPeriod(ZonedDateTime time) {
+        switch (timeLevel) {
+        case DAY:
+            return time.toLocalDate().toEpochDay();
+        case WEEK:
+            return time.get(IsoFields.WEEK_BASED_YEAR) * 100L + time.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+        case MONTH:
+            return time.getYear() * 12L + time.getMonthValue();
+        default:
+            return time.getYear();
+        }
+    }
+}
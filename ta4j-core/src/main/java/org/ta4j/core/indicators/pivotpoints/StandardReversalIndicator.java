@@ -25,9 +25,6 @@ package org.ta4j.core.indicators.pivotpoints;
 
 import static org.ta4j.core.num.NaN.NaN;
 
-import java.util.List;
-
-import org.ta4j.core.Bar;
 import org.ta4j.core.indicators.RecursiveCachedIndicator;
 import org.ta4j.core.num.Num;
 
@@ -59,86 +56,60 @@ public class StandardReversalIndicator extends RecursiveCachedIndicator<Num> {
 
     @Override
     protected Num calculate(int index) {
-        List<Integer> barsOfPreviousPeriod = pivotPointIndicator.getBarsOfPreviousPeriod(index);
-        if (barsOfPreviousPeriod.isEmpty()) {
+        PeriodBars previousPeriod = pivotPointIndicator.getPreviousPeriod(index);
+        if (previousPeriod == null) {
             return NaN;
         }
         switch (level) {
         case RESISTANCE_3:
-            return calculateR3(barsOfPreviousPeriod, index);
+            return calculateR3(previousPeriod, index);
         case RESISTANCE_2:
-            return calculateR2(barsOfPreviousPeriod, index);
+            return calculateR2(previousPeriod, index);
         case RESISTANCE_1:
-            return calculateR1(barsOfPreviousPeriod, index);
+            return calculateR1(previousPeriod, index);
         case SUPPORT_1:
-            return calculateS1(barsOfPreviousPeriod, index);
+            return calculateS1(previousPeriod, index);
         case SUPPORT_2:
-            return calculateS2(barsOfPreviousPeriod, index);
+            return calculateS2(previousPeriod, index);
         case SUPPORT_3:
-            return calculateS3(barsOfPreviousPeriod, index);
+            return calculateS3(previousPeriod, index);
         default:
             return NaN;
         }
 
     }
 
-    private Num calculateR3(List<Integer> barsOfPreviousPeriod, int index) {
-        Bar bar = getBarSeries().getBar(barsOfPreviousPeriod.get(0));
-        Num low = bar.getLowPrice();
-        Num high = bar.getHighPrice();
-        for (int i : barsOfPreviousPeriod) {
-            low = (getBarSeries().getBar(i).getLowPrice()).min(low);
-            high = (getBarSeries().getBar(i).getHighPrice()).max(high);
-        }
+    private Num calculateR3(PeriodBars previousPeriod, int index) {
+        Num low = previousPeriod.getLowPrice();
+        Num high = previousPeriod.getHighPrice();
         return high.plus(numOf(2).multipliedBy((pivotPointIndicator.getValue(index).minus(low))));
     }
 
-    private Num calculateR2(List<Integer> barsOfPreviousPeriod, int index) {
-        Bar bar = getBarSeries().getBar(barsOfPreviousPeriod.get(0));
-        Num low = bar.getLowPrice();
-        Num high = bar.getHighPrice();
-        for (int i : barsOfPreviousPeriod) {
-            low = (getBarSeries().getBar(i).getLowPrice()).min(low);
-            high = (getBarSeries().getBar(i).getHighPrice()).max(high);
-        }
+    private Num calculateR2(PeriodBars previousPeriod, int index) {
+        Num low = previousPeriod.getLowPrice();
+        Num high = previousPeriod.getHighPrice();
         return pivotPointIndicator.getValue(index).plus((high.minus(low)));
     }
 
-    private Num calculateR1(List<Integer> barsOfPreviousPeriod, int index) {
-        Num low = getBarSeries().getBar(barsOfPreviousPeriod.get(0)).getLowPrice();
-        for (int i : barsOfPreviousPeriod) {
-            low = (getBarSeries().getBar(i).getLowPrice()).min(low);
-        }
+    private Num calculateR1(PeriodBars previousPeriod, int index) {
+        Num low = previousPeriod.getLowPrice();
         return numOf(2).multipliedBy(pivotPointIndicator.getValue(index)).minus(low);
     }
 
-    private Num calculateS1(List<Integer> barsOfPreviousPeriod, int index) {
-        Num high = getBarSeries().getBar(barsOfPreviousPeriod.get(0)).getHighPrice();
-        for (int i : barsOfPreviousPeriod) {
-            high = (getBarSeries().getBar(i).getHighPrice()).max(high);
-        }
+    private Num calculateS1(PeriodBars previousPeriod, int index) {
+        Num high = previousPeriod.getHighPrice();
         return numOf(2).multipliedBy(pivotPointIndicator.getValue(index)).minus(high);
     }
 
-    private Num calculateS2(List<Integer> barsOfPreviousPeriod, int index) {
-        Bar bar = getBarSeries().getBar(barsOfPreviousPeriod.get(0));
-        Num high = bar.getHighPrice();
-        Num low = bar.getLowPrice();
-        for (int i : barsOfPreviousPeriod) {
-            high = (getBarSeries().getBar(i).getHighPrice()).max(high);
-            low = (getBarSeries().getBar(i).getLowPrice()).min(low);
-        }
+    private Num calculateS2(PeriodBars previousPeriod, int index) {
+        Num high = previousPeriod.getHighPrice();
+        Num low = previousPeriod.getLowPrice();
         return pivotPointIndicator.getValue(index).minus((high.minus(low)));
     }
 
-    private Num calculateS3(List<Integer> barsOfPreviousPeriod, int index) {
-        Bar bar = getBarSeries().getBar(barsOfPreviousPeriod.get(0));
-        Num high = bar.getHighPrice();
-        Num low = bar.getLowPrice();
-        for (int i : barsOfPreviousPeriod) {
-            high = (getBarSeries().getBar(i).getHighPrice()).max(high);
-            low = (getBarSeries().getBar(i).getLowPrice()).min(low);
-        }
+    private Num calculateS3(PeriodBars previousPeriod, int index) {
+        Num high = previousPeriod.getHighPrice();
+        Num low = previousPeriod.getLowPrice();
         return low.minus(numOf(2).multipliedBy((high.minus(pivotPointIndicator.getValue(index)))));
     }
 }
@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Upper Bollinger band indicator over doubles.
+ *
+ * @see org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator
+ */
+public class BollingerBandsUpperDoubleIndicator extends CachedDoubleIndicator {
+
+    private final DoubleIndicator middle;
+    private final DoubleIndicator deviation;
+    private final double k;
+
+    /**
+     * Constructor. Defines k as 2.
+     *
+     * @param middle    the middle band (e.g. a {@link SMADoubleIndicator})
+     * @param deviation the deviation (e.g. a
+     *                  {@link StandardDeviationDoubleIndicator})
+     */
+    public BollingerBandsUpperDoubleIndicator(DoubleIndicator middle, DoubleIndicator deviation) {
+        this(middle, deviation, 2);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param middle    the middle band (e.g. a {@link SMADoubleIndicator})
+     * @param deviation the deviation (e.g. a
+     *                  {@link StandardDeviationDoubleIndicator})
+     * @param k         the scaling factor of the deviation
+     */
+    public BollingerBandsUpperDoubleIndicator(DoubleIndicator middle, DoubleIndicator deviation, double k) {
+        super(deviation);
+        this.middle = middle;
+        this.deviation = deviation;
+        this.k = k;
+    }
+
+    @Override
+    protected double calculate(int index) {
+        return middle.getDouble(index) + deviation.getDouble(index) * k;
+    }
+
+    public double getK() {
+        return k;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "k: " + k + "deviation: " + deviation + "series" + middle;
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import java.util.Arrays;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.utils.IndicatorUtils;
+
+/**
+ * Cached {@link DoubleIndicator indicator}.
+ *
+ * The results are stored in a {@code double[]}. On a cache miss, all the values
+ * between the last cached one and the asked one are calculated iteratively, in
+ * ascending order. Hence an indicator depending on its previous value (see
+ * {@link AbstractEMADoubleIndicator}) never recurses deeper than one level.
+ *
+ * As for {@link org.ta4j.core.indicators.CachedIndicator CachedIndicator}, the
+ * value of the last bar is not cached (the bar may still change) and the first
+ * remaining value is returned for the bars removed from the series. The access
+ * to the cache is synchronized.
+ */
+public abstract class CachedDoubleIndicator implements DoubleIndicator {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final BarSeries series;
+
+    /** Cached results, results[0] is the value of firstResultIndex */
+    private double[] results = new double[0];
+
+    /** Index of the first cached result */
+    private int firstResultIndex = 0;
+
+    /** Index of the last cached result */
+    private int highestResultIndex = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param series the related bar series
+     */
+    protected CachedDoubleIndicator(BarSeries series) {
+        this.series = series;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicator a related indicator (with a bar series)
+     */
+    protected CachedDoubleIndicator(DoubleIndicator indicator) {
+        this(indicator.getBarSeries());
+    }
+
+    /**
+     * @param index the bar index
+     * @return the value of the indicator
+     */
+    protected abstract double calculate(int index);
+
+    @Override
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    @Override
+    public synchronized double getDouble(int index) {
+        final int removedBarsCount = series.getRemovedBarsCount();
+        if (index < removedBarsCount) {
+            // Result already removed, use the first remaining one
+            index = removedBarsCount;
+        }
+        if (index <= highestResultIndex) {
+            return results[index - firstResultIndex];
+        }
+        final int endIndex = series.getEndIndex();
+        if (index >= endIndex) {
+            // Don't cache result if last bar (or after the end of the series)
+            final int lastCachedIndex = Math.min(index, endIndex) - 1;
+            if (lastCachedIndex > highestResultIndex) {
+                fillTo(lastCachedIndex, removedBarsCount);
+            }
+            return calculate(index);
+        }
+        fillTo(index, removedBarsCount);
+        return results[index - firstResultIndex];
+    }
+
+    /**
+     * Computes the values of a range of indexes: the missing results are calculated
+     * in ascending order, then the cached ones are copied.
+     */
+    @Override
+    public synchronized void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        final int removedBarsCount = series.getRemovedBarsCount();
+        int index = from;
+        for (; index < to && index < removedBarsCount; index++) {
+            out[index - from] = getDouble(index);
+        }
+        // The value of the last bar is not cached
+        final int lastCachedIndex = Math.min(to, series.getEndIndex()) - 1;
+        if (index <= lastCachedIndex) {
+            if (lastCachedIndex > highestResultIndex) {
+                fillTo(lastCachedIndex, removedBarsCount);
+            }
+            System.arraycopy(results, index - firstResultIndex, out, index - from, lastCachedIndex - index + 1);
+            index = lastCachedIndex + 1;
+        }
+        for (; index < to; index++) {
+            out[index - from] = getDouble(index);
+        }
+    }
+
+    /**
+     * Calculates and caches all the results up to index.
+     *
+     * @param index            the index of the last result to be cached
+     * @param removedBarsCount the number of bars removed from the series
+     */
+    private void fillTo(int index, int removedBarsCount) {
+        if (highestResultIndex + 1 < removedBarsCount) {
+            // All the cached results have been removed: restart from the first bar
+            firstResultIndex = removedBarsCount;
+            highestResultIndex = removedBarsCount - 1;
+        } else if (removedBarsCount - firstResultIndex > results.length / 2) {
+            // More than half of the cached results have been removed: dropping them
+            int kept = highestResultIndex - removedBarsCount + 1;
+            System.arraycopy(results, removedBarsCount - firstResultIndex, results, 0, kept);
+            firstResultIndex = removedBarsCount;
+        }
+        int length = index - firstResultIndex + 1;
+        if (length > results.length) {
+            results = Arrays.copyOf(results, Math.max(length, Math.max(results.length * 2, DEFAULT_CAPACITY)));
+        }
+        for (int i = highestResultIndex + 1; i <= index; i++) {
+            final double result = calculate(i);
+            results[i - firstResultIndex] = result;
+            highestResultIndex = i;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Adapter from a {@link DoubleIndicator} to an {@link Indicator
+ * Indicator&lt;Num&gt;}.
+ *
+ * Allows to use a double indicator with the rules. The values are not cached
+ * again: they are converted into the {@link Num} type of the bar series on each
+ * call. {@link Double#NaN} is converted into {@link org.ta4j.core.num.NaN NaN}.
+ */
+public class DoubleToNumIndicator extends AbstractIndicator<Num> {
+
+    private final DoubleIndicator indicator;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator to be converted
+     */
+    public DoubleToNumIndicator(DoubleIndicator indicator) {
+        super(indicator.getBarSeries());
+        this.indicator = indicator;
+    }
+
+    @Override
+    public Num getValue(int index) {
+        double value = indicator.getDouble(index);
+        return Double.isNaN(value) ? NaN : numOf(value);
+    }
+
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        indicator.computeRange(from, to, out);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + indicator;
+    }
+}
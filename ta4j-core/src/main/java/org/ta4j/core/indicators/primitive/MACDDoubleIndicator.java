@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Moving average convergence divergence (MACD) indicator over doubles.
+ *
+ * @see org.ta4j.core.indicators.MACDIndicator
+ */
+public class MACDDoubleIndicator extends CachedDoubleIndicator {
+
+    private final EMADoubleIndicator shortTermEma;
+    private final EMADoubleIndicator longTermEma;
+
+    /**
+     * Constructor with shortBarCount "12" and longBarCount "26".
+     *
+     * @param indicator the indicator
+     */
+    public MACDDoubleIndicator(DoubleIndicator indicator) {
+        this(indicator, 12, 26);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicator     the indicator
+     * @param shortBarCount the short time frame (normally 12)
+     * @param longBarCount  the long time frame (normally 26)
+     */
+    public MACDDoubleIndicator(DoubleIndicator indicator, int shortBarCount, int longBarCount) {
+        super(indicator);
+        if (shortBarCount > longBarCount) {
+            throw new IllegalArgumentException("Long term period count must be greater than short term period count");
+        }
+        shortTermEma = new EMADoubleIndicator(indicator, shortBarCount);
+        longTermEma = new EMADoubleIndicator(indicator, longBarCount);
+    }
+
+    public EMADoubleIndicator getShortTermEma() {
+        return shortTermEma;
+    }
+
+    public EMADoubleIndicator getLongTermEma() {
+        return longTermEma;
+    }
+
+    @Override
+    protected double calculate(int index) {
+        return shortTermEma.getDouble(index) - longTermEma.getDouble(index);
+    }
+}
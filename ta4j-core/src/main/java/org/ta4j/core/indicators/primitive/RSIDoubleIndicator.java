@@ -0,0 +1,60 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Relative strength index indicator over doubles.
+ *
+ * @see org.ta4j.core.indicators.RSIIndicator
+ */
+public class RSIDoubleIndicator extends CachedDoubleIndicator {
+
+    private final MMADoubleIndicator averageGainIndicator;
+    private final MMADoubleIndicator averageLossIndicator;
+
+    public RSIDoubleIndicator(DoubleIndicator indicator, int barCount) {
+        super(indicator);
+        this.averageGainIndicator = new MMADoubleIndicator(new GainDoubleIndicator(indicator), barCount);
+        this.averageLossIndicator = new MMADoubleIndicator(new LossDoubleIndicator(indicator), barCount);
+    }
+
+    @Override
+    protected double calculate(int index) {
+        // compute relative strength
+        double averageGain = averageGainIndicator.getDouble(index);
+        double averageLoss = averageLossIndicator.getDouble(index);
+        if (averageLoss == 0) {
+            if (averageGain == 0) {
+                return 0;
+            } else {
+                return 100;
+            }
+        }
+        double relativeStrength = averageGain / averageLoss;
+        // compute relative strength index
+        return 100 - (100 / (1 + relativeStrength));
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Standard deviation indicator over doubles.
+ *
+ * @see org.ta4j.core.indicators.statistics.StandardDeviationIndicator
+ */
+public class StandardDeviationDoubleIndicator extends CachedDoubleIndicator {
+
+    private final DoubleIndicator indicator;
+    private final int barCount;
+    private final SMADoubleIndicator sma;
+
+    public StandardDeviationDoubleIndicator(DoubleIndicator indicator, int barCount) {
+        super(indicator);
+        this.indicator = indicator;
+        this.barCount = barCount;
+        this.sma = new SMADoubleIndicator(indicator, barCount);
+    }
+
+    @Override
+    protected double calculate(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        final int numberOfObservations = index - startIndex + 1;
+        double variance = 0;
+        double average = sma.getDouble(index);
+        for (int i = startIndex; i <= index; i++) {
+            double deviation = indicator.getDouble(i) - average;
+            variance += deviation * deviation;
+        }
+        return Math.sqrt(variance / numberOfObservations);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import org.ta4j.core.BarSeries;
+
+/**
+ * True range indicator over doubles.
+ *
+ * @see org.ta4j.core.indicators.helpers.TRIndicator
+ */
+public class TRDoubleIndicator extends CachedDoubleIndicator {
+
+    private final HighPriceDoubleIndicator highPrice;
+    private final LowPriceDoubleIndicator lowPrice;
+    private final ClosePriceDoubleIndicator closePrice;
+
+    public TRDoubleIndicator(BarSeries series) {
+        super(series);
+        this.highPrice = new HighPriceDoubleIndicator(series);
+        this.lowPrice = new LowPriceDoubleIndicator(series);
+        this.closePrice = new ClosePriceDoubleIndicator(series);
+    }
+
+    @Override
+    protected double calculate(int index) {
+        double high = highPrice.getDouble(index);
+        double low = lowPrice.getDouble(index);
+        double ts = Math.abs(high - low);
+        if (index == 0) {
+            return ts;
+        }
+        double previousClose = closePrice.getDouble(index - 1);
+        double ys = Math.abs(high - previousClose);
+        double yst = Math.abs(previousClose - low);
+        return Math.max(ts, Math.max(ys, yst));
+    }
+}
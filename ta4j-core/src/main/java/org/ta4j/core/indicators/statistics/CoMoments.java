@@ -0,0 +1,142 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * The first and second moments of a window of (x, y) observations: the means,
+ * the sums of squared deviations from the means and the sum of the products of
+ * the deviations (co-moment).
+ *
+ * Instances are immutable, so they can be shared by the indicators deriving
+ * their values from the same window (see {@link CoMomentsIndicator}).
+ */
+public final class CoMoments {
+
+    private final int count;
+    private final Num meanX;
+    private final Num meanY;
+    private final Num m2X;
+    private final Num m2Y;
+    private final Num cXY;
+
+    /**
+     * Constructor.
+     *
+     * @param count the number of observations
+     * @param meanX the mean of x
+     * @param meanY the mean of y
+     * @param m2X   the sum of squared deviations of x from its mean
+     * @param m2Y   the sum of squared deviations of y from its mean
+     * @param cXY   the sum of the products of the deviations of x and y
+     */
+    public CoMoments(int count, Num meanX, Num meanY, Num m2X, Num m2Y, Num cXY) {
+        this.count = count;
+        this.meanX = meanX;
+        this.meanY = meanY;
+        this.m2X = m2X;
+        this.m2Y = m2Y;
+        this.cXY = cXY;
+    }
+
+    /**
+     * @return the number of observations
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the mean of x
+     */
+    public Num getMeanX() {
+        return meanX;
+    }
+
+    /**
+     * @return the mean of y
+     */
+    public Num getMeanY() {
+        return meanY;
+    }
+
+    /**
+     * @return the sum of squared deviations of x from its mean
+     */
+    public Num getM2X() {
+        return m2X;
+    }
+
+    /**
+     * @return the sum of squared deviations of y from its mean
+     */
+    public Num getM2Y() {
+        return m2Y;
+    }
+
+    /**
+     * @return the sum of the products of the deviations of x and y from their means
+     */
+    public Num getCXY() {
+        return cXY;
+    }
+
+    /**
+     * @return the (population) variance of x
+     */
+    public Num getVarianceX() {
+        return count == 0 ? NaN : m2X.dividedBy(m2X.numOf(count));
+    }
+
+    /**
+     * @return the (population) variance of y
+     */
+    public Num getVarianceY() {
+        return count == 0 ? NaN : m2Y.dividedBy(m2Y.numOf(count));
+    }
+
+    /**
+     * @return the (population) covariance of x and y
+     */
+    public Num getCovariance() {
+        return count == 0 ? NaN : cXY.dividedBy(cXY.numOf(count));
+    }
+
+    /**
+     * @return the Pearson correlation coefficient of x and y (NaN if x or y is
+     *         constant)
+     */
+    public Num getCorrelation() {
+        return cXY.dividedBy(m2X.multipliedBy(m2Y).sqrt());
+    }
+
+    @Override
+    public String toString() {
+        return "CoMoments [count=" + count + ", meanX=" + meanX + ", meanY=" + meanY + ", m2X=" + m2X + ", m2Y=" + m2Y
+                + ", cXY=" + cXY + "]";
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Co-moments indicator.
+ *
+ * I.e.: the {@link CoMoments} of the last barCount values of two indicators,
+ * from which the covariance and the correlation of the indicators derive (see
+ * {@link CovarianceIndicator}, {@link CorrelationCoefficientIndicator} and
+ * {@link PearsonCorrelationIndicator}).
+ *
+ * The co-moments are updated in O(1) per bar when the indexes are requested in
+ * ascending order (see {@link MomentsIndicator} for a single indicator).
+ */
+public class CoMomentsIndicator extends RollingMomentsIndicator<CoMoments> {
+
+    private final Indicator<Num> indicator1;
+    private final Indicator<Num> indicator2;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator1 the first indicator (x)
+     * @param indicator2 the second indicator (y)
+     * @param barCount   the time frame
+     */
+    public CoMomentsIndicator(Indicator<Num> indicator1, Indicator<Num> indicator2, int barCount) {
+        super(indicator1, barCount);
+        this.indicator1 = indicator1;
+        this.indicator2 = indicator2;
+    }
+
+    @Override
+    protected CoMoments fullMoments(int startIndex, int index) {
+        final int count = index - startIndex + 1;
+        Num sumX = numOf(0);
+        Num sumY = numOf(0);
+        for (int i = startIndex; i <= index; i++) {
+            sumX = sumX.plus(indicator1.getValue(i));
+            sumY = sumY.plus(indicator2.getValue(i));
+        }
+        final Num n = numOf(count);
+        final Num meanX = sumX.dividedBy(n);
+        final Num meanY = sumY.dividedBy(n);
+        Num m2X = numOf(0);
+        Num m2Y = numOf(0);
+        Num cXY = numOf(0);
+        for (int i = startIndex; i <= index; i++) {
+            Num dX = indicator1.getValue(i).minus(meanX);
+            Num dY = indicator2.getValue(i).minus(meanY);
+            m2X = m2X.plus(dX.multipliedBy(dX));
+            m2Y = m2Y.plus(dY.multipliedBy(dY));
+            cXY = cXY.plus(dX.multipliedBy(dY));
+        }
+        return new CoMoments(count, meanX, meanY, m2X, m2Y, cXY);
+    }
+
+    @Override
+    protected CoMoments add(CoMoments moments, int index) {
+        final Num x = indicator1.getValue(index);
+        final Num y = indicator2.getValue(index);
+        final int count = moments.getCount() + 1;
+        final Num n = numOf(count);
+        final Num dX = x.minus(moments.getMeanX());
+        final Num dY = y.minus(moments.getMeanY());
+        final Num meanX = moments.getMeanX().plus(dX.dividedBy(n));
+        final Num meanY = moments.getMeanY().plus(dY.dividedBy(n));
+        final Num m2X = moments.getM2X().plus(dX.multipliedBy(x.minus(meanX)));
+        final Num m2Y = moments.getM2Y().plus(dY.multipliedBy(y.minus(meanY)));
+        final Num cXY = moments.getCXY().plus(dX.multipliedBy(y.minus(meanY)));
+        return new CoMoments(count, meanX, meanY, m2X, m2Y, cXY);
+    }
+
+    @Override
+    protected CoMoments remove(CoMoments moments, int index) {
+        final int count = moments.getCount() - 1;
+        if (count == 0) {
+            final Num zero = numOf(0);
+            return new CoMoments(0, zero, zero, zero, zero, zero);
+        }
+        final Num x = indicator1.getValue(index);
+        final Num y = indicator2.getValue(index);
+        final Num n = numOf(count);
+        final Num meanX = moments.getMeanX().minus(x.minus(moments.getMeanX()).dividedBy(n));
+        final Num meanY = moments.getMeanY().minus(y.minus(moments.getMeanY()).dividedBy(n));
+        final Num dX = x.minus(meanX);
+        final Num m2X = moments.getM2X().minus(dX.multipliedBy(x.minus(moments.getMeanX())));
+        final Num m2Y = moments.getM2Y().minus(y.minus(meanY).multipliedBy(y.minus(moments.getMeanY())));
+        final Num cXY = moments.getCXY().minus(dX.multipliedBy(y.minus(moments.getMeanY())));
+        return new CoMoments(count, meanX, meanY, m2X, m2Y, cXY);
+    }
+
+    @Override
+    protected boolean isValid(CoMoments moments) {
+        return !moments.getCXY().isNaN() && !moments.getM2X().isNaN() && !moments.getM2Y().isNaN();
+    }
+}
@@ -36,9 +36,7 @@ import org.ta4j.core.num.Num;
  */
 public class CorrelationCoefficientIndicator extends CachedIndicator<Num> {
 
-    private final VarianceIndicator variance1;
-    private final VarianceIndicator variance2;
-    private final CovarianceIndicator covariance;
+    private final CoMomentsIndicator coMoments;
 
     /**
      * Constructor.
@@ -48,19 +46,22 @@ public class CorrelationCoefficientIndicator extends CachedIndicator<Num> {
      * @param barCount   the time frame
      */
     public CorrelationCoefficientIndicator(Indicator<Num> indicator1, Indicator<Num> indicator2, int barCount) {
-        super(indicator1);
-        variance1 = new VarianceIndicator(indicator1, barCount);
-        variance2 = new VarianceIndicator(indicator2, barCount);
-        covariance = new CovarianceIndicator(indicator1, indicator2, barCount);
+        this(new CoMomentsIndicator(indicator1, indicator2, barCount));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param coMoments the (shared) co-moments of the indicators
+     */
+    public CorrelationCoefficientIndicator(CoMomentsIndicator coMoments) {
+        super(coMoments);
+        this.coMoments = coMoments;
     }
 
     @Override
     protected Num calculate(int index) {
-        Num cov = covariance.getValue(index);
-        Num var1 = variance1.getValue(index);
-        Num var2 = variance2.getValue(index);
-        Num multipliedSqrt = var1.multipliedBy(var2).sqrt();
-        return cov.dividedBy(multipliedSqrt);
-
+        // cov / sqrt(var1 * var2), the number of observations cancels out
+        return coMoments.getValue(index).getCorrelation();
     }
 }
@@ -25,7 +25,6 @@ package org.ta4j.core.indicators.statistics;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.num.Num;
 
 /**
@@ -33,11 +32,7 @@ import org.ta4j.core.num.Num;
  */
 public class CovarianceIndicator extends CachedIndicator<Num> {
 
-    private final Indicator<Num> indicator1;
-    private final Indicator<Num> indicator2;
-    private final int barCount;
-    private final SMAIndicator sma1;
-    private final SMAIndicator sma2;
+    private final CoMomentsIndicator coMoments;
 
     /**
      * Constructor.
@@ -47,31 +42,26 @@ public class CovarianceIndicator extends CachedIndicator<Num> {
      * @param barCount   the time frame
      */
     public CovarianceIndicator(Indicator<Num> indicator1, Indicator<Num> indicator2, int barCount) {
-        super(indicator1);
-        this.indicator1 = indicator1;
-        this.indicator2 = indicator2;
-        this.barCount = barCount;
-        sma1 = new SMAIndicator(indicator1, barCount);
-        sma2 = new SMAIndicator(indicator2, barCount);
+        this(new CoMomentsIndicator(indicator1, indicator2, barCount));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param coMoments the (shared) co-moments of the indicators
+     */
+    public CovarianceIndicator(CoMomentsIndicator coMoments) {
+        super(coMoments);
+        this.coMoments = coMoments;
     }
 
     @Override
     protected Num calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        Num covariance = numOf(0);
-        Num average1 = sma1.getValue(index);
-        Num average2 = sma2.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            Num mul = indicator1.getValue(i).minus(average1).multipliedBy(indicator2.getValue(i).minus(average2));
-            covariance = covariance.plus(mul);
-        }
-        covariance = covariance.dividedBy(numOf(numberOfObservations));
-        return covariance;
+        return coMoments.getValue(index).getCovariance();
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + " barCount: " + barCount;
+        return getClass().getSimpleName() + " barCount: " + coMoments.getBarCount();
     }
 }
@@ -24,22 +24,22 @@
 package org.ta4j.core.indicators.statistics;
 
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.OrderStatisticsTree;
 
 /**
  * Mean deviation indicator.
  *
+ * I.e.: the mean absolute deviation of the last barCount values of an indicator
+ * around their mean. The window is kept sorted: the sum of the absolute
+ * deviations is derived from the number and the sum of the values below the
+ * mean, in O(log n) per bar when the indexes are requested in ascending order.
+ *
  * @see <a href=
  *      "http://en.wikipedia.org/wiki/Mean_absolute_deviation#Average_absolute_deviation">
  *      http://en.wikipedia.org/wiki/Mean_absolute_deviation#Average_absolute_deviation</a>
  */
-public class MeanDeviationIndicator extends CachedIndicator<Num> {
-
-    private final Indicator<Num> indicator;
-    private final int barCount;
-    private final SMAIndicator sma;
+public class MeanDeviationIndicator extends SortedWindowIndicator {
 
     /**
      * Constructor.
@@ -48,29 +48,22 @@ public class MeanDeviationIndicator extends CachedIndicator<Num> {
      * @param barCount  the time frame
      */
     public MeanDeviationIndicator(Indicator<Num> indicator, int barCount) {
-        super(indicator);
-        this.indicator = indicator;
-        this.barCount = barCount;
-        sma = new SMAIndicator(indicator, barCount);
-    }
-
-    @Override
-    protected Num calculate(int index) {
-        Num absoluteDeviations = numOf(0);
-
-        final Num average = sma.getValue(index);
-        final int startIndex = Math.max(0, index - barCount + 1);
-        final int nbValues = index - startIndex + 1;
-
-        for (int i = startIndex; i <= index; i++) {
-            // For each period...
-            absoluteDeviations = absoluteDeviations.plus(indicator.getValue(i).minus(average).abs());
-        }
-        return absoluteDeviations.dividedBy(numOf(nbValues));
+        super(indicator, barCount);
     }
 
     @Override
-    public String toString() {
-        return getClass().getSimpleName() + " barCount: " + barCount;
+    protected Num calculate(OrderStatisticsTree window) {
+        final int size = window.size();
+        final Num n = numOf(size);
+        final Num sum = window.getSum();
+        final Num average = sum.dividedBy(n);
+        // Sum of |x - average| = (sum of the values above) - (sum of the values below)
+        // - average * (count above - count below)
+        final int countBelow = window.countLessThan(average);
+        final Num sumBelow = window.sumLessThan(average);
+        final Num absoluteDeviations = sum.minus(sumBelow.multipliedBy(numOf(2)))
+                .plus(average.multipliedBy(numOf(2 * countBelow - size)));
+        // Rounding errors must not make the deviation negative
+        return absoluteDeviations.isNegative() ? numOf(0) : absoluteDeviations.dividedBy(n);
     }
 }
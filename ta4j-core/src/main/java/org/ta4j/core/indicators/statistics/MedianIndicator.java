@@ -0,0 +1,61 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.OrderStatisticsTree;
+
+/**
+ * Median indicator.
+ *
+ * I.e.: the median of the last barCount values of an indicator (the mean of the
+ * two middle values for an even number of values). The window is kept sorted:
+ * O(log n) per bar when the indexes are requested in ascending order.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Median">
+ *      https://en.wikipedia.org/wiki/Median</a>
+ */
+public class MedianIndicator extends SortedWindowIndicator {
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator
+     * @param barCount  the time frame
+     */
+    public MedianIndicator(Indicator<Num> indicator, int barCount) {
+        super(indicator, barCount);
+    }
+
+    @Override
+    protected Num calculate(OrderStatisticsTree window) {
+        final int size = window.size();
+        final Num middle = window.get(size / 2);
+        if (size % 2 == 1) {
+            return middle;
+        }
+        return window.get(size / 2 - 1).plus(middle).dividedBy(numOf(2));
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * The first and second moments of a window of observations: the mean and the
+ * sum of squared deviations from the mean.
+ *
+ * Instances are immutable, so they can be shared by the indicators deriving
+ * their values from the same window (see {@link MomentsIndicator}).
+ */
+public final class Moments {
+
+    private final int count;
+    private final Num mean;
+    private final Num m2;
+
+    /**
+     * Constructor.
+     *
+     * @param count the number of observations
+     * @param mean  the mean
+     * @param m2    the sum of squared deviations from the mean
+     */
+    public Moments(int count, Num mean, Num m2) {
+        this.count = count;
+        this.mean = mean;
+        this.m2 = m2;
+    }
+
+    /**
+     * @return the number of observations
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the mean
+     */
+    public Num getMean() {
+        return mean;
+    }
+
+    /**
+     * @return the sum of squared deviations from the mean
+     */
+    public Num getM2() {
+        return m2;
+    }
+
+    /**
+     * @return the (population) variance
+     */
+    public Num getVariance() {
+        if (count == 0) {
+            return NaN;
+        }
+        // Rounding errors must not make the variance negative
+        return m2.isNegative() ? m2.numOf(0) : m2.dividedBy(m2.numOf(count));
+    }
+
+    @Override
+    public String toString() {
+        return "Moments [count=" + count + ", mean=" + mean + ", m2=" + m2 + "]";
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Moments indicator.
+ *
+ * I.e.: the {@link Moments} of the last barCount values of an indicator, from
+ * which the variance and the standard deviation of the indicator derive (see
+ * {@link VarianceIndicator} and {@link StandardDeviationIndicator}).
+ *
+ * The moments are updated in O(1) per bar when the indexes are requested in
+ * ascending order (see {@link CoMomentsIndicator} for two indicators).
+ */
+public class MomentsIndicator extends RollingMomentsIndicator<Moments> {
+
+    private final Indicator<Num> indicator;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator
+     * @param barCount  the time frame
+     */
+    public MomentsIndicator(Indicator<Num> indicator, int barCount) {
+        super(indicator, barCount);
+        this.indicator = indicator;
+    }
+
+    @Override
+    protected Moments fullMoments(int startIndex, int index) {
+        final int count = index - startIndex + 1;
+        Num sum = numOf(0);
+        for (int i = startIndex; i <= index; i++) {
+            sum = sum.plus(indicator.getValue(i));
+        }
+        final Num mean = sum.dividedBy(numOf(count));
+        Num m2 = numOf(0);
+        for (int i = startIndex; i <= index; i++) {
+            Num d = indicator.getValue(i).minus(mean);
+            m2 = m2.plus(d.multipliedBy(d));
+        }
+        return new Moments(count, mean, m2);
+    }
+
+    @Override
+    protected Moments add(Moments moments, int index) {
+        final Num x = indicator.getValue(index);
+        final int count = moments.getCount() + 1;
+        final Num d = x.minus(moments.getMean());
+        final Num mean = moments.getMean().plus(d.dividedBy(numOf(count)));
+        final Num m2 = moments.getM2().plus(d.multipliedBy(x.minus(mean)));
+        return new Moments(count, mean, m2);
+    }
+
+    @Override
+    protected Moments remove(Moments moments, int index) {
+        final int count = moments.getCount() - 1;
+        if (count == 0) {
+            final Num zero = numOf(0);
+            return new Moments(0, zero, zero);
+        }
+        final Num x = indicator.getValue(index);
+        final Num mean = moments.getMean().minus(x.minus(moments.getMean()).dividedBy(numOf(count)));
+        final Num m2 = moments.getM2().minus(x.minus(mean).multipliedBy(x.minus(moments.getMean())));
+        return new Moments(count, mean, m2);
+    }
+
+    @Override
+    protected boolean isValid(Moments moments) {
+        return !moments.getMean().isNaN() && !moments.getM2().isNaN();
+    }
+
+    /**
+     * Computes the variances of a range of indexes in a single pass over the values
+     * of the indicator, with the same rolling updates in double arithmetic (see
+     * {@link VarianceIndicator#computeRange(int, int, double[])}).
+     *
+     * @param from the first index (inclusive)
+     * @param to   the last index (exclusive)
+     * @return the variances of the indexes of the range
+     */
+    double[] variances(int from, int to) {
+        final int barCount = getBarCount();
+        final int start = Math.max(0, from - barCount + 1);
+        final double[] values = new double[to - start];
+        indicator.computeRange(start, to, values);
+        final double[] variances = new double[to - from];
+        int count = 0;
+        double mean = 0;
+        double m2 = 0;
+        // NaN values are counted, not added to the moments
+        int nanCount = 0;
+        for (int i = start; i < to; i++) {
+            final int oldestIndex = i - barCount;
+            if (oldestIndex >= start) {
+                final double x = values[oldestIndex - start];
+                if (Double.isNaN(x)) {
+                    nanCount--;
+                } else {
+                    count--;
+                    final double previousMean = mean;
+                    mean = count == 0 ? 0 : mean - (x - mean) / count;
+                    m2 = count == 0 ? 0 : m2 - (x - mean) * (x - previousMean);
+                }
+            }
+            final double x = values[i - start];
+            if (Double.isNaN(x)) {
+                nanCount++;
+            } else {
+                count++;
+                final double d = x - mean;
+                mean += d / count;
+                m2 += d * (x - mean);
+            }
+            if (i >= from) {
+                // Rounding errors must not make the variance negative
+                variances[i - from] = nanCount > 0 ? Double.NaN : Math.max(0, m2) / count;
+            }
+        }
+        return variances;
+    }
+}
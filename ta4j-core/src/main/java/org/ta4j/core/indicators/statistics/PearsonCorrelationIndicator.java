@@ -26,7 +26,7 @@ package org.ta4j.core.indicators.statistics;
 import static org.ta4j.core.num.NaN.NaN;
 
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
 
 /**
@@ -36,11 +36,9 @@ import org.ta4j.core.num.Num;
  *      "http://www.statisticshowto.com/probability-and-statistics/correlation-coefficient-formula/">
  *      http://www.statisticshowto.com/probability-and-statistics/correlation-coefficient-formula/</a>
  */
-public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Num> {
+public class PearsonCorrelationIndicator extends CachedIndicator<Num> {
 
-    private final Indicator<Num> indicator1;
-    private final Indicator<Num> indicator2;
-    private final int barCount;
+    private final CoMomentsIndicator coMoments;
 
     /**
      * Constructor.
@@ -50,45 +48,46 @@ public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Num> {
      * @param barCount   the time frame
      */
     public PearsonCorrelationIndicator(Indicator<Num> indicator1, Indicator<Num> indicator2, int barCount) {
-        super(indicator1);
-        this.indicator1 = indicator1;
-        this.indicator2 = indicator2;
-        this.barCount = barCount;
+        this(new CoMomentsIndicator(indicator1, indicator2, barCount));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param coMoments the (shared) co-moments of the indicators
+     */
+    public PearsonCorrelationIndicator(CoMomentsIndicator coMoments) {
+        super(coMoments);
+        this.coMoments = coMoments;
     }
 
     @Override
     protected Num calculate(int index) {
-
-        Num n = numOf(barCount);
-
-        Num Sx = numOf(0);
-        Num Sy = numOf(0);
-        Num Sxx = numOf(0);
-        Num Syy = numOf(0);
-        Num Sxy = numOf(0);
-
-        for (int i = Math.max(getBarSeries().getBeginIndex(), index - barCount + 1); i <= index; i++) {
-
-            Num x = indicator1.getValue(i);
-            Num y = indicator2.getValue(i);
-
-            Sx = Sx.plus(x);
-            Sy = Sy.plus(y);
-            Sxy = Sxy.plus(x.multipliedBy(y));
-            Sxx = Sxx.plus(x.multipliedBy(x));
-            Syy = Syy.plus(y.multipliedBy(y));
+        final CoMoments moments = coMoments.getValue(index);
+        final int barCount = coMoments.getBarCount();
+        if (moments.getCount() == barCount) {
+            // Full window: same formula from the deviations (no cancellation of large
+            // sums)
+            Num toSqrt = moments.getM2X().multipliedBy(moments.getM2Y());
+            return toSqrt.isGreaterThan(numOf(0)) ? moments.getCXY().dividedBy(toSqrt.sqrt()) : NaN;
         }
+        final Num n = numOf(barCount);
+        // Sums of the window, from the means and the deviations
+        final Num m = numOf(moments.getCount());
+        final Num Sx = m.multipliedBy(moments.getMeanX());
+        final Num Sy = m.multipliedBy(moments.getMeanY());
+        final Num Sxy = moments.getCXY().plus(Sx.multipliedBy(moments.getMeanY()));
+        final Num Sxx = moments.getM2X().plus(Sx.multipliedBy(moments.getMeanX()));
+        final Num Syy = moments.getM2Y().plus(Sy.multipliedBy(moments.getMeanY()));
 
         // (n * Sxx - Sx * Sx) * (n * Syy - Sy * Sy)
         Num toSqrt = (n.multipliedBy(Sxx).minus(Sx.multipliedBy(Sx)))
                 .multipliedBy(n.multipliedBy(Syy).minus(Sy.multipliedBy(Sy)));
-
         if (toSqrt.isGreaterThan(numOf(0))) {
             // pearson = (n * Sxy - Sx * Sy) / sqrt((n * Sxx - Sx * Sx) * (n * Syy - Sy *
             // Sy))
             return (n.multipliedBy(Sxy).minus(Sx.multipliedBy(Sy))).dividedBy(toSqrt.sqrt());
         }
-
         return NaN;
     }
 }
@@ -0,0 +1,80 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.OrderStatisticsTree;
+
+/**
+ * Percentile indicator.
+ *
+ * I.e.: the p-th percentile of the last barCount values of an indicator, the
+ * value below which p percent of the values fall. Between two values, the
+ * percentile is linearly interpolated: the percentile of rank p * (n - 1) / 100
+ * among the n sorted values (the R-7 method, as Excel's PERCENTILE.INC or
+ * NumPy's default). The 50th percentile is the median. The window is kept
+ * sorted: O(log n) per bar when the indexes are requested in ascending order.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Percentile">
+ *      https://en.wikipedia.org/wiki/Percentile</a>
+ */
+public class PercentileIndicator extends SortedWindowIndicator {
+
+    private final double percentile;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator  the indicator
+     * @param barCount   the time frame
+     * @param percentile the percentile, from 0 (the lowest value) to 100 (the
+     *                   highest value)
+     */
+    public PercentileIndicator(Indicator<Num> indicator, int barCount, double percentile) {
+        super(indicator, barCount);
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        this.percentile = percentile;
+    }
+
+    @Override
+    protected Num calculate(OrderStatisticsTree window) {
+        final double rank = percentile * (window.size() - 1) / 100;
+        final int lowerRank = (int) Math.floor(rank);
+        final Num lower = window.get(lowerRank);
+        final double fraction = rank - lowerRank;
+        if (fraction == 0) {
+            return lower;
+        }
+        final Num upper = window.get(lowerRank + 1);
+        return lower.plus(upper.minus(lower).multipliedBy(numOf(fraction)));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount + " percentile: " + percentile;
+    }
+}
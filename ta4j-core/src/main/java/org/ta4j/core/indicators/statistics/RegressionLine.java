@@ -0,0 +1,78 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import java.util.Objects;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * A regression line: y = slope * x + intercept, where x is a bar index.
+ *
+ * Instances are immutable, so they can be shared by the indicators deriving
+ * their values from the same regression (see {@link RegressionLineIndicator}).
+ */
+public final class RegressionLine {
+
+    private final Num slope;
+    private final Num intercept;
+
+    /**
+     * Constructor.
+     *
+     * @param slope     the slope of the line
+     * @param intercept the value of the line at index 0
+     */
+    public RegressionLine(Num slope, Num intercept) {
+        this.slope = Objects.requireNonNull(slope);
+        this.intercept = Objects.requireNonNull(intercept);
+    }
+
+    /**
+     * @return the slope of the line
+     */
+    public Num getSlope() {
+        return slope;
+    }
+
+    /**
+     * @return the value of the line at index 0
+     */
+    public Num getIntercept() {
+        return intercept;
+    }
+
+    /**
+     * @param index a bar index
+     * @return the value of the line at the index
+     */
+    public Num valueAt(int index) {
+        return slope.multipliedBy(slope.numOf(index)).plus(intercept);
+    }
+
+    @Override
+    public String toString() {
+        return "y = " + slope + " * x + " + intercept;
+    }
+}
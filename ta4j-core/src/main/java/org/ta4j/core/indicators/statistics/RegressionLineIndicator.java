@@ -0,0 +1,147 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Regression line indicator.
+ *
+ * A moving (i.e. over the time frame) simple linear regression (least squares)
+ * of the values of an indicator against their bar index. The slope, the
+ * intercept and the fitted values derive from the same {@link RegressionLine},
+ * so a single instance may be shared by several
+ * {@link SimpleLinearRegressionIndicator}s.
+ *
+ * When the indexes are requested in ascending order, the sums of the regression
+ * are updated in O(1) per bar. The x values are counted from the start of the
+ * window, which keeps the sums small whatever the index: when the window moves,
+ * every x decreases by 1, i.e. the sum of x * y decreases by the sum of y. Any
+ * other access pattern falls back to a full computation over the window.
+ */
+public class RegressionLineIndicator extends CachedIndicator<RegressionLine> {
+
+    private static final RegressionLine UNDEFINED = new RegressionLine(NaN, NaN);
+
+    private final Indicator<Num> indicator;
+    private final int barCount;
+
+    /** Index of the running sums, -1 if there are no running sums */
+    private int sumsIndex = -1;
+    /** Running sum of y */
+    private Num sumY;
+    /** Running sum of x * y, x being the position in the window */
+    private Num sumXY;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator for the y-values of the regression
+     * @param barCount  the time frame
+     */
+    public RegressionLineIndicator(Indicator<Num> indicator, int barCount) {
+        super(indicator);
+        this.indicator = indicator;
+        this.barCount = barCount;
+    }
+
+    @Override
+    protected RegressionLine calculate(int index) {
+        if (barCount < 2) {
+            // Not enough observations to compute a regression line
+            return UNDEFINED;
+        }
+        final BarSeries series = getBarSeries();
+        // The value of the last bar may still change: it is not kept in the running
+        // sums
+        final boolean keep = index < series.getEndIndex();
+        final int startIndex = Math.max(0, index - barCount + 1);
+        final int oldestIndex = index - barCount;
+        final int n = index - startIndex + 1;
+        Num newSumY;
+        Num newSumXY;
+        final Num newest = indicator.getValue(index);
+        final Num oldest = oldestIndex >= 0 ? indicator.getValue(oldestIndex) : null;
+        if (sumsIndex < 0 || sumsIndex != index - 1 || (oldestIndex >= 0 && oldestIndex < series.getRemovedBarsCount())
+                || newest.isNaN() || (oldest != null && oldest.isNaN())) {
+            // Out of order (or the value leaving the window has been removed)
+            newSumY = numOf(0);
+            newSumXY = numOf(0);
+            for (int i = startIndex; i <= index; i++) {
+                Num y = indicator.getValue(i);
+                newSumY = newSumY.plus(y);
+                newSumXY = newSumXY.plus(numOf(i - startIndex).multipliedBy(y));
+            }
+        } else if (oldest == null) {
+            // Growing window
+            newSumY = sumY.plus(newest);
+            newSumXY = sumXY.plus(numOf(n - 1).multipliedBy(newest));
+        } else {
+            // Sliding window: the x of the remaining values decrease by 1
+            newSumY = sumY.minus(oldest);
+            newSumXY = sumXY.minus(newSumY).plus(numOf(n - 1).multipliedBy(newest));
+            newSumY = newSumY.plus(newest);
+        }
+        if (keep) {
+            sumsIndex = newSumY.isNaN() || newSumXY.isNaN() ? -1 : index;
+            sumY = newSumY;
+            sumXY = newSumXY;
+        }
+        if (n < 2) {
+            return UNDEFINED;
+        }
+        return line(startIndex, n, newSumY, newSumXY);
+    }
+
+    /**
+     * @param startIndex the first index of the window
+     * @param n          the number of observations
+     * @param sumY       the sum of y
+     * @param sumXY      the sum of x * y, x being the position in the window
+     * @return the regression line
+     */
+    private RegressionLine line(int startIndex, int n, Num sumY, Num sumXY) {
+        final Num nbObservations = numOf(n);
+        // Sum of x and sum of squared deviations of x, for x = 0 .. n-1
+        final Num sumX = numOf((long) n * (n - 1) / 2);
+        final Num sxx = nbObservations.multipliedBy(numOf((long) n * n - 1)).dividedBy(numOf(12));
+        final Num sxy = sumXY.minus(sumX.multipliedBy(sumY).dividedBy(nbObservations));
+        final Num slope = sxy.dividedBy(sxx);
+        final Num xBar = numOf(n - 1).dividedBy(numOf(2));
+        final Num yBar = sumY.dividedBy(nbObservations);
+        // Intercept at the start of the window, moved to index 0
+        final Num intercept = yBar.minus(slope.multipliedBy(xBar)).minus(slope.multipliedBy(numOf(startIndex)));
+        return new RegressionLine(slope, intercept);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.ta4j.core.Indicator;
+import org.ta4j.core.num.Num;
+
+/**
+ * Rolling correlation matrix.
+ *
+ * Computes the Pearson correlation coefficients of every pair of N aligned
+ * indicators (i.e. indicators whose indexes refer to the same bar times, e.g.
+ * the close prices of N aligned bar series) over the last barCount bars.
+ *
+ * The matrix keeps the sums of the window of every indicator and every pair in
+ * double precision. When the matrix is requested for consecutive indexes, the
+ * sums are updated in O(N²) per bar (the oldest observations leave the window,
+ * the newest ones enter it), instead of O(N² * barCount) for a full
+ * computation. The sums are fully recomputed once per window, which bounds the
+ * accumulation of rounding errors without changing the amortized cost. The
+ * values are shifted by the first value of the window of each indicator to
+ * limit the cancellation of large sums. The rows of the matrix are processed in
+ * parallel (common fork-join pool) unless parallelism is disabled.
+ *
+ * Each observation (indicator value) is read once per index and converted to a
+ * double, so the indicators are evaluated from a single thread.
+ */
+public class RollingCorrelationMatrix {
+
+    private final List<Indicator<Num>> indicators;
+    private final int barCount;
+    private final boolean parallel;
+    private final int size;
+
+    /** Index of the sums, -1 if there are no valid sums */
+    private int sumsIndex = -1;
+    /** Number of rolling updates since the last full computation of the sums */
+    private int rollingUpdates;
+    /** Shift of the values of each indicator */
+    private final double[] shifts;
+    /** Sum of the shifted values of each indicator */
+    private final double[] sums;
+    /** Sum of the products of the shifted values, for j >= i */
+    private final double[][] productSums;
+
+    /**
+     * Constructor (rows processed in parallel).
+     *
+     * @param indicators the aligned indicators
+     * @param barCount   the time frame
+     */
+    public RollingCorrelationMatrix(List<? extends Indicator<Num>> indicators, int barCount) {
+        this(indicators, barCount, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicators the aligned indicators
+     * @param barCount   the time frame
+     * @param parallel   true to process the rows of the matrix in parallel
+     */
+    public RollingCorrelationMatrix(List<? extends Indicator<Num>> indicators, int barCount, boolean parallel) {
+        if (barCount < 1) {
+            throw new IllegalArgumentException("Bar count must be greater than 0: " + barCount);
+        }
+        this.indicators = new ArrayList<>(Objects.requireNonNull(indicators));
+        this.barCount = barCount;
+        this.parallel = parallel;
+        this.size = this.indicators.size();
+        this.shifts = new double[size];
+        this.sums = new double[size];
+        this.productSums = new double[size][];
+        for (int i = 0; i < size; i++) {
+            productSums[i] = new double[size - i];
+        }
+    }
+
+    /**
+     * @return the number of indicators (i.e. the size of the matrix)
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the time frame
+     */
+    public int getBarCount() {
+        return barCount;
+    }
+
+    /**
+     * Returns the correlation matrix of the window ending at an index.
+     *
+     * The correlation of a constant indicator (or of a window containing NaN
+     * values) is NaN.
+     *
+     * @param index the bar index
+     * @return the (symmetric) matrix of the correlation coefficients, a new array
+     */
+    public synchronized double[][] getMatrix(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        final int count = index - startIndex + 1;
+        // The sums are recomputed once per window: amortized O(N²) per bar, and no
+        // accumulation of rounding errors
+        if (sumsIndex >= 0 && sumsIndex == index - 1 && rollingUpdates < barCount) {
+            rollingUpdates++;
+            final double[] newest = shiftedValues(index);
+            final double[] oldest = index - barCount >= 0 ? shiftedValues(index - barCount) : null;
+            forEachRow(i -> {
+                final double[] row = productSums[i];
+                for (int j = i; j < size; j++) {
+                    row[j - i] += newest[i] * newest[j];
+                    if (oldest != null) {
+                        row[j - i] -= oldest[i] * oldest[j];
+                    }
+                }
+            });
+            for (int i = 0; i < size; i++) {
+                sums[i] += newest[i] - (oldest != null ? oldest[i] : 0);
+            }
+        } else {
+            rollingUpdates = 0;
+            fullSums(startIndex, index);
+        }
+        boolean valid = true;
+        for (int i = 0; i < size && valid; i++) {
+            valid = !Double.isNaN(sums[i]);
+        }
+        sumsIndex = valid ? index : -1;
+        return correlations(count);
+    }
+
+    /**
+     * Computes the sums of a window.
+     */
+    private void fullSums(int startIndex, int index) {
+        final double[][] window = new double[index - startIndex + 1][];
+        for (int i = 0; i < size; i++) {
+            shifts[i] = indicators.get(i).getValue(startIndex).doubleValue();
+        }
+        for (int t = startIndex; t <= index; t++) {
+            window[t - startIndex] = shiftedValues(t);
+        }
+        forEachRow(i -> {
+            final double[] row = productSums[i];
+            for (int j = i; j < size; j++) {
+                double sum = 0;
+                for (double[] values : window) {
+                    sum += values[i] * values[j];
+                }
+                row[j - i] = sum;
+            }
+        });
+        for (int i = 0; i < size; i++) {
+            double sum = 0;
+            for (double[] values : window) {
+                sum += values[i];
+            }
+            sums[i] = sum;
+        }
+    }
+
+    /**
+     * @return the values of the indicators at an index, minus their shifts
+     */
+    private double[] shiftedValues(int index) {
+        final double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = indicators.get(i).getValue(index).doubleValue() - shifts[i];
+        }
+        return values;
+    }
+
+    /**
+     * @param count the number of observations
+     * @return the correlation matrix from the sums
+     */
+    private double[][] correlations(int count) {
+        final double[][] matrix = new double[size][size];
+        final double[] deviations = new double[size];
+        for (int i = 0; i < size; i++) {
+            // n * sum of squared deviations
+            double m2 = count * productSums[i][0] - sums[i] * sums[i];
+            deviations[i] = m2 > 0 ? Math.sqrt(m2) : Double.NaN;
+        }
+        forEachRow(i -> {
+            final double[] row = productSums[i];
+            for (int j = i; j < size; j++) {
+                double correlation = (count * row[j - i] - sums[i] * sums[j]) / (deviations[i] * deviations[j]);
+                // Rounding errors must not give a correlation outside of [-1, 1]
+                correlation = Math.max(-1, Math.min(1, correlation));
+                matrix[i][j] = correlation;
+                matrix[j][i] = correlation;
+            }
+        });
+        return matrix;
+    }
+
+    private void forEachRow(IntConsumer action) {
+        IntStream rows = IntStream.range(0, size);
+        if (parallel) {
+            rows = rows.parallel();
+        }
+        rows.forEach(action);
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+
+/**
+ * Base of the indicators of the moments of the last barCount observations (see
+ * {@link MomentsIndicator} and {@link CoMomentsIndicator}).
+ *
+ * When the indexes are requested in ascending order, the moments are updated in
+ * O(1) per bar with Welford's algorithm: the oldest observation is removed from
+ * the window and the newest one is added, without cancellation of large sums.
+ * Any other access pattern falls back to a two-pass computation over the
+ * window.
+ *
+ * @param <M> the type of the moments
+ */
+abstract class RollingMomentsIndicator<M> extends CachedIndicator<M> {
+
+    private final int barCount;
+
+    /** Index of the running moments, -1 if there are no running moments */
+    private int momentsIndex = -1;
+    /** Running moments */
+    private M moments;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator an indicator of the observations
+     * @param barCount  the time frame
+     */
+    protected RollingMomentsIndicator(Indicator<?> indicator, int barCount) {
+        super(indicator);
+        this.barCount = barCount;
+    }
+
+    /**
+     * @return the time frame (the number of observations of a full window)
+     */
+    public int getBarCount() {
+        return barCount;
+    }
+
+    @Override
+    protected M calculate(int index) {
+        final BarSeries series = getBarSeries();
+        // The value of the last bar may still change: it is not kept in the running
+        // moments
+        final boolean keep = index < series.getEndIndex();
+        final int oldestIndex = index - barCount;
+        M result;
+        if (momentsIndex < 0 || momentsIndex != index - 1
+                || (oldestIndex >= 0 && oldestIndex < series.getRemovedBarsCount())) {
+            // Out of order (or the value leaving the window has been removed)
+            result = fullMoments(Math.max(0, index - barCount + 1), index);
+        } else {
+            result = moments;
+            if (oldestIndex >= 0) {
+                result = remove(result, oldestIndex);
+            }
+            result = add(result, index);
+        }
+        if (keep) {
+            momentsIndex = isValid(result) ? index : -1;
+            moments = result;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the moments of a window in two passes (means, then deviations).
+     *
+     * @param startIndex the first index of the window
+     * @param index      the last index of the window
+     * @return the moments of the window
+     */
+    protected abstract M fullMoments(int startIndex, int index);
+
+    /**
+     * @param moments the moments of a window
+     * @param index   the index of the observation to be added
+     * @return the moments with the observation
+     */
+    protected abstract M add(M moments, int index);
+
+    /**
+     * Inverse of {@link #add(Object, int)}.
+     *
+     * @param moments the moments of a window
+     * @param index   the index of the observation to be removed
+     * @return the moments without the observation
+     */
+    protected abstract M remove(M moments, int index);
+
+    /**
+     * @param moments moments
+     * @return false if the moments cannot be updated (e.g. NaN moments)
+     */
+    protected abstract boolean isValid(M moments);
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
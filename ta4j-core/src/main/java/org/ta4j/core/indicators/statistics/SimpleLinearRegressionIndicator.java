@@ -23,8 +23,6 @@
  */
 package org.ta4j.core.indicators.statistics;
 
-import static org.ta4j.core.num.NaN.NaN;
-
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
@@ -35,6 +33,10 @@ import org.ta4j.core.num.Num;
  * A moving (i.e. over the time frame) simple linear regression (least squares).
  * y = slope * x + intercept See also:
  * http://introcs.cs.princeton.edu/java/97data/LinearRegression.java.html
+ *
+ * The regression line is computed by a {@link RegressionLineIndicator}, which
+ * may be shared by the indicators of the y, slope and intercept of the same
+ * regression.
  */
 public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
 
@@ -45,11 +47,8 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
         Y, SLOPE, INTERCEPT
     }
 
-    private Indicator<Num> indicator;
-    private int barCount;
-    private Num slope;
-    private Num intercept;
-    private SimpleLinearRegressionType type;
+    private final RegressionLineIndicator regressionLine;
+    private final SimpleLinearRegressionType type;
 
     /**
      * Constructor for the y-values of the formula (y = slope * x + intercept).
@@ -69,61 +68,33 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Num> {
      * @param type      the type of the outcome value (y, slope, intercept)
      */
     public SimpleLinearRegressionIndicator(Indicator<Num> indicator, int barCount, SimpleLinearRegressionType type) {
-        super(indicator);
-        this.indicator = indicator;
-        this.barCount = barCount;
+        this(new RegressionLineIndicator(indicator, barCount), type);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param regressionLine the (shared) regression line indicator
+     * @param type           the type of the outcome value (y, slope, intercept)
+     */
+    public SimpleLinearRegressionIndicator(RegressionLineIndicator regressionLine, SimpleLinearRegressionType type) {
+        super(regressionLine);
+        this.regressionLine = regressionLine;
         this.type = type;
     }
 
     @Override
     protected Num calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        if (index - startIndex + 1 < 2) {
-            // Not enough observations to compute a regression line
-            return NaN;
-        }
-        calculateRegressionLine(startIndex, index);
+        final RegressionLine line = regressionLine.getValue(index);
 
         if (type == SimpleLinearRegressionType.SLOPE) {
-            return slope;
+            return line.getSlope();
         }
 
         if (type == SimpleLinearRegressionType.INTERCEPT) {
-            return intercept;
-        }
-
-        return slope.multipliedBy(numOf(index)).plus(intercept);
-    }
-
-    /**
-     * Calculates the regression line.
-     *
-     * @param startIndex the start index (inclusive) in the bar series
-     * @param endIndex   the end index (inclusive) in the bar series
-     */
-    private void calculateRegressionLine(int startIndex, int endIndex) {
-        // First pass: compute xBar and yBar
-        Num sumX = numOf(0);
-        Num sumY = numOf(0);
-        for (int i = startIndex; i <= endIndex; i++) {
-            sumX = sumX.plus(numOf(i));
-            sumY = sumY.plus(indicator.getValue(i));
-        }
-        Num nbObservations = numOf(endIndex - startIndex + 1);
-        Num xBar = sumX.dividedBy(nbObservations);
-        Num yBar = sumY.dividedBy(nbObservations);
-
-        // Second pass: compute slope and intercept
-        Num xxBar = numOf(0);
-        Num xyBar = numOf(0);
-        for (int i = startIndex; i <= endIndex; i++) {
-            Num dX = numOf(i).minus(xBar);
-            Num dY = indicator.getValue(i).minus(yBar);
-            xxBar = xxBar.plus(dX.multipliedBy(dX));
-            xyBar = xyBar.plus(dX.multipliedBy(dY));
+            return line.getIntercept();
         }
 
-        slope = xyBar.dividedBy(xxBar);
-        intercept = yBar.minus(slope.multipliedBy(xBar));
+        return line.valueAt(index);
     }
 }
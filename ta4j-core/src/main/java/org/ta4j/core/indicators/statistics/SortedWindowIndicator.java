@@ -0,0 +1,122 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.OrderStatisticsTree;
+
+/**
+ * Base of the order statistics indicators (median, percentile, mean deviation).
+ *
+ * The values of the window are kept sorted in an {@link OrderStatisticsTree}:
+ * when the indexes are requested in ascending order, each new index costs O(log
+ * n) (the newest value enters the window and the oldest one leaves it). Any
+ * other index is calculated by rebuilding the tree from its window. NaN is
+ * returned if the window contains a NaN value.
+ */
+abstract class SortedWindowIndicator extends CachedIndicator<Num> {
+
+    private final Indicator<Num> indicator;
+
+    protected final int barCount;
+
+    private final OrderStatisticsTree window = new OrderStatisticsTree();
+
+    /** Number of NaN values of the window (not in the tree) */
+    private int nanCount;
+
+    /** Index of the last value added to the tree, -1 if none */
+    private int lastIndex = -1;
+
+    protected SortedWindowIndicator(Indicator<Num> indicator, int barCount) {
+        super(indicator);
+        this.indicator = indicator;
+        this.barCount = barCount;
+    }
+
+    /**
+     * @param window the sorted values of the window (not empty, without NaN)
+     * @return the value of the indicator for the window
+     */
+    protected abstract Num calculate(OrderStatisticsTree window);
+
+    @Override
+    protected Num calculate(int index) {
+        final BarSeries series = getBarSeries();
+        final int oldestIndex = index - barCount;
+        if (lastIndex != index - 1 || Math.max(0, oldestIndex) < series.getRemovedBarsCount()) {
+            // Out of order (or removed bars in the window): rebuild the tree
+            window.clear();
+            nanCount = 0;
+            for (int i = Math.max(0, oldestIndex); i < index; i++) {
+                add(indicator.getValue(i));
+            }
+            lastIndex = index - 1;
+        }
+        Num oldest = null;
+        if (oldestIndex >= 0) {
+            oldest = indicator.getValue(oldestIndex);
+            remove(oldest);
+        }
+        final Num newest = indicator.getValue(index);
+        add(newest);
+        final Num result = nanCount > 0 || window.isEmpty() ? NaN : calculate(window);
+        if (index < series.getEndIndex()) {
+            lastIndex = index;
+        } else {
+            // The value of the last bar may still change: it is not kept in the tree
+            remove(newest);
+            if (oldest != null) {
+                add(oldest);
+            }
+        }
+        return result;
+    }
+
+    private void add(Num value) {
+        if (value.isNaN()) {
+            nanCount++;
+        } else {
+            window.add(value);
+        }
+    }
+
+    private void remove(Num value) {
+        if (value.isNaN()) {
+            nanCount--;
+        } else {
+            window.remove(value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
@@ -26,6 +26,7 @@ package org.ta4j.core.indicators.statistics;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Standard deviation indicator.
@@ -45,12 +46,36 @@ public class StandardDeviationIndicator extends CachedIndicator<Num> {
      * @param barCount  the time frame
      */
     public StandardDeviationIndicator(Indicator<Num> indicator, int barCount) {
-        super(indicator);
-        variance = new VarianceIndicator(indicator, barCount);
+        this(new MomentsIndicator(indicator, barCount));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param moments the (shared) moments of the indicator
+     */
+    public StandardDeviationIndicator(MomentsIndicator moments) {
+        super(moments);
+        variance = new VarianceIndicator(moments);
     }
 
     @Override
     protected Num calculate(int index) {
         return variance.getValue(index).sqrt();
     }
+
+    /**
+     * Computes the standard deviations of a range of indexes from the variances of
+     * {@link VarianceIndicator#computeRange(int, int, double[])}.
+     */
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        final int begin = computeRemovedRange(from, to, out);
+        final double[] variances = new double[to - begin];
+        variance.computeRange(begin, to, variances);
+        for (int i = begin; i < to; i++) {
+            out[i - from] = Math.sqrt(variances[i - begin]);
+        }
+    }
 }
@@ -25,17 +25,19 @@ package org.ta4j.core.indicators.statistics;
 
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Variance indicator.
+ *
+ * I.e.: the population variance of the last barCount values of an indicator,
+ * derived from their {@link Moments} (updated in O(1) per bar, see
+ * {@link MomentsIndicator}).
  */
 public class VarianceIndicator extends CachedIndicator<Num> {
 
-    private final Indicator<Num> indicator;
-    private final int barCount;
-    private final SMAIndicator sma;
+    private final MomentsIndicator moments;
 
     /**
      * Constructor.
@@ -44,28 +46,40 @@ public class VarianceIndicator extends CachedIndicator<Num> {
      * @param barCount  the time frame
      */
     public VarianceIndicator(Indicator<Num> indicator, int barCount) {
-        super(indicator);
-        this.indicator = indicator;
-        this.barCount = barCount;
-        this.sma = new SMAIndicator(indicator, barCount);
+        this(new MomentsIndicator(indicator, barCount));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param moments the (shared) moments of the indicator
+     */
+    public VarianceIndicator(MomentsIndicator moments) {
+        super(moments);
+        this.moments = moments;
     }
 
     @Override
     protected Num calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        Num variance = numOf(0);
-        Num average = sma.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            Num pow = indicator.getValue(i).minus(average).pow(2);
-            variance = variance.plus(pow);
+        return moments.getValue(index).getVariance();
+    }
+
+    /**
+     * Computes the variances of a range of indexes in a single pass, in double
+     * arithmetic: the variances may differ from the values of
+     * {@link #getValue(int)} by rounding errors.
+     */
+    @Override
+    public void computeRange(int from, int to, double[] out) {
+        IndicatorUtils.checkRange(from, to, out);
+        final int begin = computeRemovedRange(from, to, out);
+        if (begin < to) {
+            System.arraycopy(moments.variances(begin, to), 0, out, begin - from, to - begin);
         }
-        variance = variance.dividedBy(numOf(numberOfObservations));
-        return variance;
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + " barCount: " + barCount;
+        return getClass().getSimpleName() + " barCount: " + moments.getBarCount();
     }
 }
@@ -280,7 +280,7 @@ public final class DecimalNum implements Num {
         if (augend.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) augend).delegate;
+        BigDecimal bigDecimal = bigDecimalValueOf(augend);
         int precision = mathContext.getPrecision();
         BigDecimal result = delegate.add(bigDecimal, mathContext);
         return new DecimalNum(result, precision);
@@ -299,7 +299,7 @@ public final class DecimalNum implements Num {
         if (subtrahend.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) subtrahend).delegate;
+        BigDecimal bigDecimal = bigDecimalValueOf(subtrahend);
         int precision = mathContext.getPrecision();
         BigDecimal result = delegate.subtract(bigDecimal, mathContext);
         return new DecimalNum(result, precision);
@@ -318,7 +318,7 @@ public final class DecimalNum implements Num {
         if (multiplicand.isNaN()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) multiplicand).delegate;
+        BigDecimal bigDecimal = bigDecimalValueOf(multiplicand);
         int precision = mathContext.getPrecision();
         BigDecimal result = delegate.multiply(bigDecimal, new MathContext(precision, RoundingMode.HALF_UP));
         return new DecimalNum(result, precision);
@@ -337,7 +337,7 @@ public final class DecimalNum implements Num {
         if (divisor.isNaN() || divisor.isZero()) {
             return NaN;
         }
-        BigDecimal bigDecimal = ((DecimalNum) divisor).delegate;
+        BigDecimal bigDecimal = bigDecimalValueOf(divisor);
         int precision = mathContext.getPrecision();
         BigDecimal result = delegate.divide(bigDecimal, new MathContext(precision, RoundingMode.HALF_UP));
         return new DecimalNum(result, precision);
@@ -353,7 +353,7 @@ public final class DecimalNum implements Num {
      */
     @Override
     public Num remainder(Num divisor) {
-        BigDecimal bigDecimal = ((DecimalNum) divisor).delegate;
+        BigDecimal bigDecimal = bigDecimalValueOf(divisor);
         int precision = mathContext.getPrecision();
         BigDecimal result = delegate.remainder(bigDecimal, new MathContext(precision, RoundingMode.HALF_UP));
         return new DecimalNum(result, precision);
@@ -673,12 +673,12 @@ public final class DecimalNum implements Num {
 
     @Override
     public boolean isLessThanOrEqual(Num other) {
-        return !other.isNaN() && delegate.compareTo(((DecimalNum) other).delegate) < 1;
+        return !other.isNaN() && delegate.compareTo(bigDecimalValueOf(other)) < 1;
     }
 
     @Override
     public int compareTo(Num other) {
-        return other.isNaN() ? 0 : delegate.compareTo(((DecimalNum) other).delegate);
+        return other.isNaN() ? 0 : delegate.compareTo(bigDecimalValueOf(other));
     }
 
     /**
@@ -729,6 +729,18 @@ public final class DecimalNum implements Num {
         return delegate.toString();
     }
 
+    /**
+     * @param num a {@code DecimalNum} or a {@link FixedNum} (e.g. the operand of a
+     *            result which has overflowed a {@code FixedNum})
+     * @return the value as {@link BigDecimal}
+     */
+    private static BigDecimal bigDecimalValueOf(Num num) {
+        if (num instanceof FixedNum) {
+            return ((FixedNum) num).bigDecimalValue();
+        }
+        return ((DecimalNum) num).delegate;
+    }
+
     @Override
     public Num pow(Num n) {
         // There is no BigDecimal.pow(BigDecimal). We could do:
@@ -747,7 +759,7 @@ public final class DecimalNum implements Num {
         // As suggested: https://stackoverflow.com/a/3590314
 
         // get n = a+b, same precision as n
-        BigDecimal aplusb = (((DecimalNum) n).delegate);
+        BigDecimal aplusb = bigDecimalValueOf(n);
         // get the remainder 0 <= b < 1, looses precision as double
         BigDecimal b = aplusb.remainder(BigDecimal.ONE);
         // bDouble looses precision
@@ -59,11 +59,19 @@ public class DoubleNum implements Num {
         return new DoubleNum((double) i);
     }
 
+    public static DoubleNum valueOf(double i) {
+        return new DoubleNum(i);
+    }
+
     public static DoubleNum valueOf(String i) {
         return new DoubleNum(Double.parseDouble(i));
     }
 
     public static DoubleNum valueOf(Number i) {
+        if (i instanceof Double || i instanceof Integer || i instanceof Long) {
+            // exact conversion, no need to parse the string representation
+            return new DoubleNum(i.doubleValue());
+        }
         return new DoubleNum(Double.parseDouble(i.toString()));
     }
 
@@ -0,0 +1,650 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.function.Function;
+
+/**
+ * Representation of a fixed-scale decimal number. A {@code FixedNum} consists
+ * of a {@code long} unscaled value and a scale (the number of decimal places, 8
+ * by default): the value is {@code unscaledValue / 10^scale}.
+ *
+ * The arithmetic works on the unscaled {@code long} values, without allocating
+ * anything but the result. The additions and subtractions are exact, the other
+ * operations are rounded to the scale ({@link RoundingMode#HALF_UP}). When a
+ * result does not fit into a {@code long}, the operation falls back to a
+ * {@link DecimalNum}.
+ *
+ * @see DecimalNum
+ * @see Num
+ */
+public final class FixedNum implements Num {
+
+    private static final long serialVersionUID = -5268468418839014376L;
+
+    /** The default number of decimal places */
+    public static final int DEFAULT_SCALE = 8;
+
+    /** The maximum number of decimal places */
+    public static final int MAXIMUM_SCALE = 18;
+
+    /** The precision of the {@link DecimalNum} used when a result overflows */
+    private static final int FALLBACK_PRECISION = 32;
+
+    /** 10^i */
+    private static final long[] POWERS_OF_TEN = new long[MAXIMUM_SCALE + 1];
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAXIMUM_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final long unscaledValue;
+    private final int scale;
+
+    private FixedNum(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code long}, with the default
+     * scale.
+     *
+     * @param val the number
+     * @return the {@code Num} (a {@code DecimalNum} if it does not fit)
+     */
+    public static Num valueOf(long val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code double}, with the default
+     * scale. Using the double version could introduce inaccuracies.
+     *
+     * @param val the number
+     * @return the {@code Num} (a {@code DecimalNum} if it does not fit)
+     */
+    public static Num valueOf(double val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code String}, with the default
+     * scale.
+     *
+     * @param val the number
+     * @return the {@code Num} (a {@code DecimalNum} if it does not fit)
+     */
+    public static Num valueOf(String val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code Number}, with the default
+     * scale.
+     *
+     * @param val the number
+     * @return the {@code Num} (a {@code DecimalNum} if it does not fit)
+     */
+    public static Num valueOf(Number val) {
+        return valueOf(val, DEFAULT_SCALE);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code long}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num} (a {@code DecimalNum} if it does not fit)
+     */
+    public static Num valueOf(long val, int scale) {
+        checkScale(scale);
+        final long unscaled = val * POWERS_OF_TEN[scale];
+        if (unscaled / POWERS_OF_TEN[scale] != val) {
+            return fallback(BigDecimal.valueOf(val));
+        }
+        return new FixedNum(unscaled, scale);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code double}. Using the double
+     * version could introduce inaccuracies. The value is rounded as its decimal
+     * representation (see {@link BigDecimal#valueOf(double)}), as with
+     * {@link #valueOf(String, int)}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num} (a {@code DecimalNum} if it does not fit)
+     */
+    public static Num valueOf(double val, int scale) {
+        checkScale(scale);
+        if (Double.isNaN(val) || Double.isInfinite(val)) {
+            throw new NumberFormatException("Cannot convert " + val);
+        }
+        return valueOf(BigDecimal.valueOf(val), scale);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code String}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num} (a {@code DecimalNum} if it does not fit)
+     */
+    public static Num valueOf(String val, int scale) {
+        if (val.equalsIgnoreCase("NAN")) {
+            throw new NumberFormatException();
+        }
+        return valueOf(new BigDecimal(val), scale);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code BigDecimal}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num} (a {@code DecimalNum} if it does not fit)
+     */
+    public static Num valueOf(BigDecimal val, int scale) {
+        checkScale(scale);
+        final BigDecimal rounded = val.setScale(scale, RoundingMode.HALF_UP);
+        final BigInteger unscaled = rounded.unscaledValue();
+        if (unscaled.bitLength() > 63) {
+            return fallback(val);
+        }
+        return new FixedNum(unscaled.longValue(), scale);
+    }
+
+    /**
+     * Returns a {@code Num} version of the given {@code Number}.
+     *
+     * @param val   the number
+     * @param scale the number of decimal places
+     * @return the {@code Num} (a {@code DecimalNum} if it does not fit)
+     */
+    public static Num valueOf(Number val, int scale) {
+        if (val instanceof Integer || val instanceof Long || val instanceof Short || val instanceof Byte) {
+            return valueOf(val.longValue(), scale);
+        }
+        if (val instanceof Double || val instanceof Float) {
+            return valueOf(val.doubleValue(), scale);
+        }
+        if (val instanceof BigDecimal) {
+            return valueOf((BigDecimal) val, scale);
+        }
+        return valueOf(val.toString(), scale);
+    }
+
+    /**
+     * Returns the function converting a {@code Number} into a {@code Num} with a
+     * scale. Can be given to
+     * {@link org.ta4j.core.BaseBarSeriesBuilder#withNumTypeOf(Function)}.
+     *
+     * @param scale the number of decimal places
+     * @return the function
+     */
+    public static Function<Number, Num> functionOf(int scale) {
+        checkScale(scale);
+        return number -> valueOf(number, scale);
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > MAXIMUM_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAXIMUM_SCALE + ": " + scale);
+        }
+    }
+
+    private static Num fallback(BigDecimal val) {
+        return DecimalNum.valueOf(val, Math.max(val.precision(), FALLBACK_PRECISION));
+    }
+
+    @Override
+    public Function<Number, Num> function() {
+        return functionOf(scale);
+    }
+
+    /**
+     * Returns the value as {@link BigDecimal}
+     *
+     * @return the BigDecimal value of this instance
+     */
+    @Override
+    public BigDecimal getDelegate() {
+        return bigDecimalValue();
+    }
+
+    /**
+     * @return the unscaled value, i.e. this * 10^scale
+     */
+    public long getUnscaledValue() {
+        return unscaledValue;
+    }
+
+    /**
+     * @return the number of decimal places
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    @Override
+    public String getName() {
+        return this.getClass().getSimpleName();
+    }
+
+    @Override
+    public Num plus(Num augend) {
+        if (augend.isNaN()) {
+            return NaN;
+        }
+        if (augend instanceof FixedNum) {
+            final FixedNum other = (FixedNum) augend;
+            final int resultScale = Math.max(scale, other.scale);
+            try {
+                return new FixedNum(Math.addExact(unscaledValue(resultScale), other.unscaledValue(resultScale)),
+                        resultScale);
+            } catch (ArithmeticException e) {
+                // overflow, see below
+            }
+        }
+        return fallback(bigDecimalValue().add(bigDecimalValueOf(augend)));
+    }
+
+    @Override
+    public Num minus(Num subtrahend) {
+        if (subtrahend.isNaN()) {
+            return NaN;
+        }
+        if (subtrahend instanceof FixedNum) {
+            final FixedNum other = (FixedNum) subtrahend;
+            final int resultScale = Math.max(scale, other.scale);
+            try {
+                return new FixedNum(Math.subtractExact(unscaledValue(resultScale), other.unscaledValue(resultScale)),
+                        resultScale);
+            } catch (ArithmeticException e) {
+                // overflow, see below
+            }
+        }
+        return fallback(bigDecimalValue().subtract(bigDecimalValueOf(subtrahend)));
+    }
+
+    @Override
+    public Num multipliedBy(Num multiplicand) {
+        if (multiplicand.isNaN()) {
+            return NaN;
+        }
+        if (isSameScale(multiplicand)) {
+            final long a = unscaledValue;
+            final long b = ((FixedNum) multiplicand).unscaledValue;
+            if (a != Long.MIN_VALUE && b != Long.MIN_VALUE) {
+                // |a| * |b| / 10^scale, with a = ah * 10^scale + al and b = bh * 10^scale +
+                // bl: a * bh + ah * bl + al * bl / 10^scale
+                final long factor = POWERS_OF_TEN[scale];
+                final long absA = Math.abs(a);
+                final long absB = Math.abs(b);
+                final long ah = absA / factor;
+                final long al = absA % factor;
+                final long bh = absB / factor;
+                final long bl = absB % factor;
+                try {
+                    long result = Math.multiplyExact(absA, bh);
+                    result = Math.addExact(result, Math.multiplyExact(ah, bl));
+                    // al, bl < 10^scale: al * bl < 10^(2 * scale) may still overflow if scale > 9
+                    result = Math.addExact(result, divideHalfUp(Math.multiplyExact(al, bl), factor));
+                    return new FixedNum((a < 0) == (b < 0) ? result : -result, scale);
+                } catch (ArithmeticException e) {
+                    // overflow, see below
+                }
+            }
+        }
+        return valueOfResult(bigDecimalValue().multiply(bigDecimalValueOf(multiplicand)));
+    }
+
+    @Override
+    public Num dividedBy(Num divisor) {
+        if (divisor.isNaN() || divisor.isZero()) {
+            return NaN;
+        }
+        if (isSameScale(divisor)) {
+            final long a = unscaledValue;
+            final long b = ((FixedNum) divisor).unscaledValue;
+            if (a != Long.MIN_VALUE && b != Long.MIN_VALUE) {
+                // Long division: integer part, then the decimal places by chunks of digits
+                final long absA = Math.abs(a);
+                final long absB = Math.abs(b);
+                long remainder = absA % absB;
+                long fraction = 0;
+                int remainingDigits = scale;
+                while (remainingDigits > 0) {
+                    int digits = remainingDigits;
+                    while (digits > 0 && remainder > Long.MAX_VALUE / POWERS_OF_TEN[digits]) {
+                        digits--;
+                    }
+                    if (digits == 0) {
+                        // huge divisor
+                        break;
+                    }
+                    final long dividend = remainder * POWERS_OF_TEN[digits];
+                    fraction = fraction * POWERS_OF_TEN[digits] + dividend / absB;
+                    remainder = dividend % absB;
+                    remainingDigits -= digits;
+                }
+                if (remainingDigits == 0) {
+                    if (remainder >= absB - remainder) {
+                        fraction++;
+                    }
+                    try {
+                        final long result = Math.addExact(Math.multiplyExact(absA / absB, POWERS_OF_TEN[scale]),
+                                fraction);
+                        return new FixedNum((a < 0) == (b < 0) ? result : -result, scale);
+                    } catch (ArithmeticException e) {
+                        // overflow, see below
+                    }
+                }
+            }
+        }
+        return valueOfResult(bigDecimalValue().divide(bigDecimalValueOf(divisor), scale, RoundingMode.HALF_UP));
+    }
+
+    @Override
+    public Num remainder(Num divisor) {
+        if (divisor.isNaN()) {
+            return NaN;
+        }
+        if (isSameScale(divisor)) {
+            return new FixedNum(unscaledValue % ((FixedNum) divisor).unscaledValue, scale);
+        }
+        return valueOfResult(bigDecimalValue().remainder(bigDecimalValueOf(divisor)));
+    }
+
+    @Override
+    public Num floor() {
+        final long factor = POWERS_OF_TEN[scale];
+        final long remainder = Math.floorMod(unscaledValue, factor);
+        if (remainder == 0) {
+            return this;
+        }
+        final long result = unscaledValue - remainder;
+        if (result > unscaledValue) {
+            // overflow
+            return fallback(bigDecimalValue().setScale(0, RoundingMode.FLOOR));
+        }
+        return new FixedNum(result, scale);
+    }
+
+    @Override
+    public Num ceil() {
+        final long factor = POWERS_OF_TEN[scale];
+        final long remainder = Math.floorMod(unscaledValue, factor);
+        if (remainder == 0) {
+            return this;
+        }
+        final long result = unscaledValue - remainder + factor;
+        if (result < unscaledValue) {
+            // overflow
+            return fallback(bigDecimalValue().setScale(0, RoundingMode.CEILING));
+        }
+        return new FixedNum(result, scale);
+    }
+
+    @Override
+    public Num pow(int n) {
+        if (n < 0) {
+            return valueOf(1, scale).dividedBy(pow(-n));
+        }
+        // Exponentiation by squaring
+        Num result = valueOf(1, scale);
+        Num base = this;
+        int exponent = n;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result.multipliedBy(base);
+            }
+            exponent >>= 1;
+            if (exponent > 0) {
+                base = base.multipliedBy(base);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Num pow(Num n) {
+        if (n.isNaN()) {
+            return NaN;
+        }
+        return valueOfResult(Math.pow(doubleValue(), n.doubleValue()));
+    }
+
+    @Override
+    public Num log() {
+        if (isNegativeOrZero()) {
+            return NaN;
+        }
+        return valueOfResult(Math.log(doubleValue()));
+    }
+
+    @Override
+    public Num sqrt() {
+        if (isNegative()) {
+            return NaN;
+        }
+        return valueOfResult(Math.sqrt(doubleValue()));
+    }
+
+    @Override
+    public Num sqrt(int precision) {
+        return sqrt();
+    }
+
+    @Override
+    public Num abs() {
+        return unscaledValue >= 0 ? this : negate();
+    }
+
+    @Override
+    public Num negate() {
+        if (unscaledValue == Long.MIN_VALUE) {
+            return fallback(bigDecimalValue().negate());
+        }
+        return new FixedNum(-unscaledValue, scale);
+    }
+
+    @Override
+    public boolean isZero() {
+        return unscaledValue == 0;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return unscaledValue > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return unscaledValue >= 0;
+    }
+
+    @Override
+    public boolean isNegative() {
+        return unscaledValue < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return unscaledValue <= 0;
+    }
+
+    @Override
+    public boolean isEqual(Num other) {
+        return !other.isNaN() && compareTo(other) == 0;
+    }
+
+    @Override
+    public boolean isGreaterThan(Num other) {
+        return !other.isNaN() && compareTo(other) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqual(Num other) {
+        return !other.isNaN() && compareTo(other) > -1;
+    }
+
+    @Override
+    public boolean isLessThan(Num other) {
+        return !other.isNaN() && compareTo(other) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqual(Num other) {
+        return !other.isNaN() && compareTo(other) < 1;
+    }
+
+    @Override
+    public int compareTo(Num other) {
+        if (other.isNaN()) {
+            return 0;
+        }
+        if (isSameScale(other)) {
+            return Long.compare(unscaledValue, ((FixedNum) other).unscaledValue);
+        }
+        return bigDecimalValue().compareTo(bigDecimalValueOf(other));
+    }
+
+    @Override
+    public Num min(Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) <= 0 ? this : other);
+    }
+
+    @Override
+    public Num max(Num other) {
+        return other.isNaN() ? NaN : (compareTo(other) >= 0 ? this : other);
+    }
+
+    @Override
+    public double doubleValue() {
+        return (double) unscaledValue / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public long longValue() {
+        return unscaledValue / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public int hashCode() {
+        // Consistent with equals: same hash code for the same value with another scale
+        long value = unscaledValue;
+        int digits = scale;
+        while (digits > 0 && value % 10 == 0) {
+            value /= 10;
+            digits--;
+        }
+        return 31 * Long.hashCode(value) + digits;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FixedNum)) {
+            return false;
+        }
+        return compareTo((FixedNum) obj) == 0;
+    }
+
+    @Override
+    public String toString() {
+        return bigDecimalValue().toPlainString();
+    }
+
+    /**
+     * @return the value as {@link BigDecimal}
+     */
+    BigDecimal bigDecimalValue() {
+        return BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    /**
+     * @param newScale a scale greater than or equal to the scale of this instance
+     * @return the unscaled value at the new scale
+     * @throws ArithmeticException if it does not fit into a {@code long}
+     */
+    private long unscaledValue(int newScale) {
+        return newScale == scale ? unscaledValue : Math.multiplyExact(unscaledValue, POWERS_OF_TEN[newScale - scale]);
+    }
+
+    private boolean isSameScale(Num other) {
+        return other instanceof FixedNum && ((FixedNum) other).scale == scale;
+    }
+
+    private static BigDecimal bigDecimalValueOf(Num num) {
+        if (num instanceof FixedNum) {
+            return ((FixedNum) num).bigDecimalValue();
+        }
+        return ((DecimalNum) num).getDelegate();
+    }
+
+    /**
+     * @param val the result of an operation
+     * @return the result with the scale of this instance (a {@code DecimalNum} if
+     *         it does not fit)
+     */
+    private Num valueOfResult(BigDecimal val) {
+        return valueOf(val, scale);
+    }
+
+    private Num valueOfResult(double val) {
+        if (Double.isNaN(val) || Double.isInfinite(val)) {
+            return NaN;
+        }
+        return valueOf(val, scale);
+    }
+
+    /**
+     * @param dividend a positive dividend
+     * @param divisor  a positive divisor
+     * @return dividend / divisor, rounded half up
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        final long quotient = dividend / divisor;
+        final long remainder = dividend % divisor;
+        return remainder >= divisor - remainder ? quotient + 1 : quotient;
+    }
+}
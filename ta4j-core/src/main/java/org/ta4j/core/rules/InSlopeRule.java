@@ -45,6 +45,8 @@ public class InSlopeRule extends AbstractRule {
     private Indicator<Num> ref;
     /** The previous n-th value of ref */
     private PreviousValueIndicator prev;
+    /** The difference between ref and prev */
+    private DifferenceIndicator diff;
     /** The minimum slope between ref and prev */
     private Num minSlope;
     /** The maximum slope between ref and prev */
@@ -98,13 +100,13 @@ public class InSlopeRule extends AbstractRule {
     public InSlopeRule(Indicator<Num> ref, int nthPrevious, Num minSlope, Num maxSlope) {
         this.ref = ref;
         this.prev = new PreviousValueIndicator(ref, nthPrevious);
+        this.diff = new DifferenceIndicator(ref, prev);
         this.minSlope = minSlope;
         this.maxSlope = maxSlope;
     }
 
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        DifferenceIndicator diff = new DifferenceIndicator(ref, prev);
         Num val = diff.getValue(index);
         boolean minSlopeSatisfied = minSlope.isNaN() || val.isGreaterThanOrEqual(minSlope);
         boolean maxSlopeSatisfied = maxSlope.isNaN() || val.isLessThanOrEqual(maxSlope);
@@ -0,0 +1,79 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * Common utilities and helper methods for indicators.
+ */
+public final class IndicatorUtils {
+
+    private IndicatorUtils() {
+    }
+
+    /**
+     * Checks the arguments of a range computation (see
+     * {@link org.ta4j.core.Indicator#computeRange(int, int, double[])}).
+     *
+     * @param from the first index (inclusive)
+     * @param to   the last index (exclusive)
+     * @param out  the array receiving the values
+     * @throws IllegalArgumentException if the range is invalid or the array is too
+     *                                  short
+     */
+    public static void checkRange(int from, int to, double[] out) {
+        if (from < 0 || from > to) {
+            throw new IllegalArgumentException("Invalid range: [" + from + ", " + to + ")");
+        }
+        if (out.length < to - from) {
+            throw new IllegalArgumentException(
+                    "Array of length " + out.length + " too short for " + (to - from) + " values");
+        }
+    }
+
+    /**
+     * Converts the value of an indicator to a double.
+     *
+     * @param value the value: a {@link Num}, a {@link Number} or a {@link Boolean}
+     *              (1 for true, 0 for false)
+     * @return the value as a double ({@link Double#NaN} for null)
+     * @throws IllegalArgumentException if the value is not numeric
+     */
+    public static double toDouble(Object value) {
+        if (value instanceof Num) {
+            return ((Num) value).doubleValue();
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1 : 0;
+        }
+        if (value == null) {
+            return Double.NaN;
+        }
+        throw new IllegalArgumentException("Not a numeric value: " + value);
+    }
+}
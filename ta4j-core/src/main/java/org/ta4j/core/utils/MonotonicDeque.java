@@ -0,0 +1,235 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.io.Serializable;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * Sliding window extremum (highest or lowest value) based on a monotonic deque.
+ *
+ * The values are added in ascending index order. The deque only keeps the
+ * values which may still become the extremum of the window: each value is added
+ * and removed once, hence an amortized O(1) per added value. Among equal
+ * values, the latest one is the extremum. {@link Num#isNaN() NaN} values are
+ * ignored.
+ *
+ * The storage grows with the number of kept values (up to the window size), so
+ * that a large window does not allocate memory it never uses.
+ */
+public class MonotonicDeque implements Serializable {
+
+    private static final long serialVersionUID = 5473615702614815406L;
+
+    /** Position returned when the peeked value is the extremum */
+    private static final int CANDIDATE = -1;
+
+    /** Initial capacity of the storage */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int windowSize;
+    private final boolean highest;
+
+    /** Indexes of the kept values, circular */
+    private int[] indexes;
+    /** Kept values, circular */
+    private Num[] values;
+    /** Position of the first kept value */
+    private int head;
+    /** Number of kept values */
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param windowSize the number of indexes of the window
+     * @param highest    true for the highest value, false for the lowest one
+     */
+    public MonotonicDeque(int windowSize, boolean highest) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be strictly positive");
+        }
+        this.windowSize = windowSize;
+        this.highest = highest;
+        final int capacity = Math.min(windowSize, INITIAL_CAPACITY);
+        this.indexes = new int[capacity];
+        this.values = new Num[capacity];
+    }
+
+    /**
+     * Removes all the values.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            values[(head + i) % values.length] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds a value and moves the window to [index - windowSize + 1, index].
+     *
+     * @param index the index of the value, greater than the previous one
+     * @param value the value
+     */
+    public void add(int index, Num value) {
+        evictUpTo(index - windowSize);
+        if (value.isNaN()) {
+            return;
+        }
+        while (size > 0 && !dominates(values[last()], value)) {
+            values[last()] = null;
+            size--;
+        }
+        if (size == values.length) {
+            grow();
+        }
+        int position = (head + size) % values.length;
+        indexes[position] = index;
+        values[position] = value;
+        size++;
+    }
+
+    /**
+     * @return true if there is no extremum (empty window or only NaN values)
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the index of the extremum of the window, -1 if there is none
+     */
+    public int getExtremumIndex() {
+        return size == 0 ? -1 : indexes[head];
+    }
+
+    /**
+     * @return the extremum of the window, null if there is none
+     */
+    public Num getExtremum() {
+        return size == 0 ? null : values[head];
+    }
+
+    /**
+     * Gives the index of the extremum of the window ending at index, as if value
+     * was added, without modifying this deque.
+     *
+     * @param index the index of the value, greater than the previous one
+     * @param value the value
+     * @return the index of the extremum, -1 if there is none
+     */
+    public int peekExtremumIndex(int index, Num value) {
+        final int position = peekPosition(index, value);
+        if (position == CANDIDATE) {
+            return value.isNaN() ? -1 : index;
+        }
+        return indexes[position];
+    }
+
+    /**
+     * Gives the extremum of the window ending at index, as if value was added,
+     * without modifying this deque.
+     *
+     * @param index the index of the value, greater than the previous one
+     * @param value the value
+     * @return the extremum, null if there is none
+     */
+    public Num peekExtremum(int index, Num value) {
+        final int position = peekPosition(index, value);
+        if (position == CANDIDATE) {
+            return value.isNaN() ? null : value;
+        }
+        return values[position];
+    }
+
+    /**
+     * @param index the index of the value
+     * @param value the value
+     * @return the position of the extremum, {@link #CANDIDATE} for the value
+     */
+    private int peekPosition(int index, Num value) {
+        final int firstIndex = index - windowSize + 1;
+        int i = 0;
+        while (i < size && indexes[(head + i) % values.length] < firstIndex) {
+            i++;
+        }
+        if (i == size) {
+            return CANDIDATE;
+        }
+        final int position = (head + i) % values.length;
+        if (value.isNaN() || dominates(values[position], value)) {
+            return position;
+        }
+        return CANDIDATE;
+    }
+
+    /**
+     * @return the number of indexes of the window
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * @param kept  a kept value
+     * @param added a value added after it
+     * @return true if the kept value remains a candidate for the extremum
+     */
+    private boolean dominates(Num kept, Num added) {
+        return highest ? kept.isGreaterThan(added) : kept.isLessThan(added);
+    }
+
+    private int last() {
+        return (head + size - 1) % values.length;
+    }
+
+    /**
+     * Doubles the capacity of the storage (up to the window size), the kept values
+     * being moved to its beginning.
+     */
+    private void grow() {
+        final int capacity = (int) Math.min(windowSize, 2L * values.length);
+        final int[] newIndexes = new int[capacity];
+        final Num[] newValues = new Num[capacity];
+        final int firstPart = Math.min(size, values.length - head);
+        System.arraycopy(indexes, head, newIndexes, 0, firstPart);
+        System.arraycopy(values, head, newValues, 0, firstPart);
+        System.arraycopy(indexes, 0, newIndexes, firstPart, size - firstPart);
+        System.arraycopy(values, 0, newValues, firstPart, size - firstPart);
+        indexes = newIndexes;
+        values = newValues;
+        head = 0;
+    }
+
+    private void evictUpTo(int index) {
+        while (size > 0 && indexes[head] <= index) {
+            values[head] = null;
+            head = (head + 1) % values.length;
+            size--;
+        }
+    }
+}
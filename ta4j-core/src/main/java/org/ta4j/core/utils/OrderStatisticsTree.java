@@ -0,0 +1,309 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.io.Serializable;
+
+import org.ta4j.core.num.Num;
+
+/**
+ * Sorted multiset of values indexable by rank, based on a balanced (AVL) binary
+ * search tree.
+ *
+ * Each node keeps the number of values and the sum of the values of its
+ * subtree: adding or removing a value, getting the k-th smallest value, and
+ * counting or summing the values less than a given one cost O(log n). It is the
+ * sorted window of the rolling order statistics (median, percentiles, mean
+ * absolute deviation). Equal values share a node. {@link Num#isNaN() NaN}
+ * values cannot be ordered and are not supported.
+ */
+public class OrderStatisticsTree implements Serializable {
+
+    private static final long serialVersionUID = -2301567383845386045L;
+
+    private static final class Node implements Serializable {
+
+        private static final long serialVersionUID = 6915429184532873912L;
+
+        private final Num value;
+        /** Number of values equal to value */
+        private int count = 1;
+        /** Number of values of the subtree */
+        private int size = 1;
+        private int height = 1;
+        /** Sum of the values of the subtree */
+        private Num sum;
+        private Node left;
+        private Node right;
+
+        private Node(Num value) {
+            this.value = value;
+            this.sum = value;
+        }
+    }
+
+    private Node root;
+
+    /** True if the last removal found the value */
+    private boolean removed;
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value (not NaN)
+     */
+    public void add(Num value) {
+        if (value.isNaN()) {
+            throw new IllegalArgumentException("NaN values cannot be ordered");
+        }
+        root = insert(root, value);
+    }
+
+    /**
+     * Removes one occurrence of a value.
+     *
+     * @param value the value
+     * @return true if the value was found and removed
+     */
+    public boolean remove(Num value) {
+        removed = false;
+        if (!value.isNaN()) {
+            root = delete(root, value);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the values.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * @return the number of values
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * @return true if there is no value
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * @param rank the rank of the value, from 0 (the smallest value) to size - 1
+     *             (the greatest value)
+     * @return the value of the given rank
+     */
+    public Num get(int rank) {
+        if (rank < 0 || rank >= size()) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of [0, " + size() + ")");
+        }
+        Node node = root;
+        int k = rank;
+        while (true) {
+            final int leftSize = size(node.left);
+            if (k < leftSize) {
+                node = node.left;
+            } else if (k < leftSize + node.count) {
+                return node.value;
+            } else {
+                k -= leftSize + node.count;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * @return the sum of the values, null if there is no value
+     */
+    public Num getSum() {
+        return root == null ? null : root.sum;
+    }
+
+    /**
+     * @param value a value
+     * @return the number of values strictly less than the given value
+     */
+    public int countLessThan(Num value) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (value.isLessThanOrEqual(node.value)) {
+                node = node.left;
+            } else {
+                count += size(node.left) + node.count;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param value a value
+     * @return the sum of the values strictly less than the given value (zero if
+     *         there is none)
+     */
+    public Num sumLessThan(Num value) {
+        Num sum = value.numOf(0);
+        Node node = root;
+        while (node != null) {
+            if (value.isLessThanOrEqual(node.value)) {
+                node = node.left;
+            } else {
+                if (node.left != null) {
+                    sum = sum.plus(node.left.sum);
+                }
+                sum = sum.plus(multiple(node));
+                node = node.right;
+            }
+        }
+        return sum;
+    }
+
+    private Node insert(Node node, Num value) {
+        if (node == null) {
+            return new Node(value);
+        }
+        final int comparison = value.compareTo(node.value);
+        if (comparison == 0) {
+            node.count++;
+        } else if (comparison < 0) {
+            node.left = insert(node.left, value);
+        } else {
+            node.right = insert(node.right, value);
+        }
+        return balance(node);
+    }
+
+    private Node delete(Node node, Num value) {
+        if (node == null) {
+            return null;
+        }
+        final int comparison = value.compareTo(node.value);
+        if (comparison < 0) {
+            node.left = delete(node.left, value);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, value);
+        } else {
+            removed = true;
+            if (node.count > 1) {
+                node.count--;
+            } else if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            } else {
+                // The successor takes the place of the node
+                Node successor = node.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                successor.right = deleteMin(node.right);
+                successor.left = node.left;
+                node = successor;
+            }
+        }
+        return balance(node);
+    }
+
+    private Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private Node balance(Node node) {
+        update(node);
+        final int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        final Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private Node rotateLeft(Node node) {
+        final Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    /**
+     * Updates the height, size and sum of a node from its children.
+     */
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.size = node.count + size(node.left) + size(node.right);
+        Num sum = multiple(node);
+        if (node.left != null) {
+            sum = sum.plus(node.left.sum);
+        }
+        if (node.right != null) {
+            sum = sum.plus(node.right.sum);
+        }
+        node.sum = sum;
+    }
+
+    /**
+     * @return the sum of the values equal to the value of the node
+     */
+    private static Num multiple(Node node) {
+        return node.count == 1 ? node.value : node.value.multipliedBy(node.value.numOf(node.count));
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,246 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Circular array-backed list with a maximum size.
+ *
+ * The first elements can be removed in O(1), without shifting the remaining
+ * ones. When the maximum size is reached, adding an element removes the first
+ * one. The backing array grows like an {@link java.util.ArrayList} until it
+ * reaches the maximum size, then it is reused: adding and removing elements
+ * does not allocate anymore.
+ *
+ * @param <T> the type of the elements
+ */
+public class RingBuffer<T> extends AbstractList<T> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 2367437282718424575L;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private Object[] elements;
+    /** Array index of the first element */
+    private int head;
+    /** Number of elements */
+    private int size;
+    /** Maximum number of elements */
+    private int maximumSize;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of elements
+     */
+    public RingBuffer(int maximumSize) {
+        checkMaximumSize(maximumSize);
+        this.maximumSize = maximumSize;
+        this.elements = new Object[Math.min(maximumSize, DEFAULT_CAPACITY)];
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of elements
+     * @param elements    the initial elements (only the last maximumSize ones are
+     *                    kept)
+     */
+    public RingBuffer(int maximumSize, Collection<? extends T> elements) {
+        checkMaximumSize(maximumSize);
+        this.maximumSize = maximumSize;
+        this.elements = new Object[Math.max(Math.min(maximumSize, elements.size()), 1)];
+        addAll(elements);
+    }
+
+    private static void checkMaximumSize(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be strictly positive");
+        }
+    }
+
+    /**
+     * @return the maximum number of elements
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of elements. If the buffer holds more elements, the
+     * first ones are removed.
+     *
+     * @param maximumSize the maximum number of elements
+     */
+    public void setMaximumSize(int maximumSize) {
+        checkMaximumSize(maximumSize);
+        this.maximumSize = maximumSize;
+        if (size > maximumSize) {
+            removeRange(0, size - maximumSize);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) elements[slot(index)];
+    }
+
+    @Override
+    public T set(int index, T element) {
+        checkIndex(index);
+        int slot = slot(index);
+        @SuppressWarnings("unchecked")
+        T previous = (T) elements[slot];
+        elements[slot] = element;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends an element. If the maximum size is reached, the first element is
+     * removed.
+     *
+     * @param element the element to be added
+     * @return true
+     */
+    @Override
+    public boolean add(T element) {
+        modCount++;
+        if (size == maximumSize) {
+            elements[head] = null;
+            head = slot(1);
+            size--;
+        }
+        if (size == elements.length) {
+            grow();
+        }
+        elements[slot(size)] = element;
+        size++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        if (index != size) {
+            throw new UnsupportedOperationException("Elements can only be added at the end of a ring buffer");
+        }
+        add(element);
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    String.format("fromIndex: %s, toIndex: %s, size: %s", fromIndex, toIndex, size));
+        }
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        modCount++;
+        if (fromIndex == 0) {
+            // removing the first elements: moving the head
+            for (int i = 0; i < count; i++) {
+                elements[slot(i)] = null;
+            }
+            head = size == count ? 0 : slot(count);
+        } else {
+            // shifting the following elements
+            for (int i = toIndex; i < size; i++) {
+                elements[slot(i - count)] = elements[slot(i)];
+            }
+            for (int i = size - count; i < size; i++) {
+                elements[slot(i)] = null;
+            }
+        }
+        size -= count;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, size: %s", index, size));
+        }
+    }
+
+    /**
+     * @param index the index of an element
+     * @return the array index of the element
+     */
+    private int slot(int index) {
+        int slot = head + index;
+        return slot < elements.length ? slot : slot - elements.length;
+    }
+
+    private void grow() {
+        long newCapacity = Math.max((long) elements.length * 2, DEFAULT_CAPACITY);
+        newCapacity = Math.min(newCapacity, Math.min(maximumSize, MAX_ARRAY_SIZE));
+        if (newCapacity <= elements.length) {
+            throw new OutOfMemoryError("Ring buffer cannot grow beyond " + elements.length + " elements");
+        }
+        Object[] grown = new Object[(int) newCapacity];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, array, 0, firstPart);
+        System.arraycopy(elements, 0, array, firstPart, size - firstPart);
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.reports.TradingStatement;
+import org.ta4j.core.rules.BooleanRule;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+
+public class BacktestExecutorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+
+    public BacktestExecutorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        Random random = new Random(42);
+        ZonedDateTime time = ZonedDateTime.now().minusDays(500);
+        double close = 100;
+        for (int i = 0; i < 500; i++) {
+            close = Math.max(1, close + random.nextGaussian());
+            series.addBar(new MockBar(time.plusDays(i), close, numFunction));
+        }
+    }
+
+    /**
+     * @return strategies sharing their indicators
+     */
+    private List<Strategy> buildStrategies() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        List<SMAIndicator> smas = new ArrayList<>();
+        for (int barCount = 2; barCount <= 30; barCount++) {
+            smas.add(new SMAIndicator(closePrice, barCount));
+        }
+        List<Strategy> strategies = new ArrayList<>();
+        for (SMAIndicator shortSma : smas) {
+            for (SMAIndicator longSma : smas) {
+                strategies.add(new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                        new CrossedDownIndicatorRule(shortSma, longSma)));
+            }
+        }
+        return strategies;
+    }
+
+    private static void assertSameStatements(List<TradingStatement> expected, List<TradingStatement> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).getStrategy(), actual.get(i).getStrategy());
+            assertEquals(expected.get(i).getPerformanceReport().getTotalProfitLoss(),
+                    actual.get(i).getPerformanceReport().getTotalProfitLoss());
+            assertEquals(expected.get(i).getPositionStatsReport().getProfitCount(),
+                    actual.get(i).getPositionStatsReport().getProfitCount());
+        }
+    }
+
+    @Test
+    public void executeParallelKeepsTheOrderOfTheStrategies() {
+        List<Strategy> strategies = buildStrategies();
+        BacktestExecutor executor = new BacktestExecutor(series);
+        List<TradingStatement> expected = executor.execute(strategies, numOf(50), Trade.TradeType.BUY);
+
+        // new indicators, filled concurrently
+        strategies = buildStrategies();
+        List<TradingStatement> actual = executor.executeParallel(strategies, numOf(50), Trade.TradeType.BUY);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(strategies.get(i), actual.get(i).getStrategy());
+            assertEquals(expected.get(i).getPerformanceReport().getTotalProfitLoss(),
+                    actual.get(i).getPerformanceReport().getTotalProfitLoss());
+        }
+    }
+
+    @Test
+    public void executeWithBoundedConcurrency() throws InterruptedException {
+        List<Strategy> strategies = buildStrategies();
+        BacktestExecutor executor = new BacktestExecutor(series);
+        List<TradingStatement> expected = executor.execute(strategies, numOf(50), Trade.TradeType.SELL);
+
+        ExecutorService executorService = new ForkJoinPool(4);
+        try {
+            assertSameStatements(expected,
+                    executor.execute(strategies, numOf(50), Trade.TradeType.SELL, executorService, 3));
+            assertSameStatements(expected,
+                    executor.execute(strategies, numOf(50), Trade.TradeType.SELL, executorService, 1));
+        } finally {
+            executorService.shutdown();
+            executorService.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    @Test
+    public void failureIsRethrown() throws InterruptedException {
+        List<Strategy> strategies = buildStrategies();
+        strategies.add(10, new BaseStrategy(new BooleanRule(true), (index, tradingRecord) -> {
+            throw new IllegalStateException("failing rule");
+        }));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            new BacktestExecutor(series).execute(strategies, numOf(50), Trade.TradeType.BUY, executorService, 4);
+            fail("the failure of a strategy should be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals("failing rule", e.getMessage());
+        } finally {
+            executorService.shutdown();
+            executorService.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Function;
@@ -362,4 +363,41 @@ public class BarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
             assertEquals(subSeriesLastBar.getVolume(), seriesLastBar.getVolume());
         });
     }
+
+    @Test
+    public void listenersAreNotifiedOfTheChanges() {
+        final BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withMaxBarCount(3).build();
+        final List<String> events = new LinkedList<>();
+        BarSeriesListener listener = new BarSeriesListener() {
+            @Override
+            public void onBarAdded(BarSeries s, int index) {
+                assertSame(series, s);
+                events.add("added " + index + " " + s.getBar(index).getClosePrice().intValue());
+            }
+
+            @Override
+            public void onLastBarChanged(BarSeries s, int index) {
+                events.add("changed " + index + " " + s.getBar(index).getClosePrice().intValue());
+            }
+
+            @Override
+            public void onRemoved(BarSeries s) {
+                events.add("removed");
+            }
+        };
+        series.addListener(listener);
+        ZonedDateTime time = ZonedDateTime.now(ZoneId.systemDefault());
+        for (int i = 0; i < 4; i++) {
+            series.addBar(new MockBar(time.plusMinutes(i), i, numFunction));
+        }
+        series.addPrice(10);
+        series.addTrade(1, 11);
+        series.addBar(new MockBar(time.plusMinutes(3), 12, numFunction), true);
+        series.removeListener(listener);
+        series.removeListener(listener);
+        series.addBar(new MockBar(time.plusMinutes(4), 13, numFunction));
+
+        assertEquals(Arrays.asList("added 0 0", "added 1 1", "added 2 2", "added 3 3", "changed 3 10", "changed 3 11",
+                "changed 3 12", "removed"), events);
+    }
 }
@@ -0,0 +1,215 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighPriceIndicator;
+import org.ta4j.core.indicators.helpers.VolumeIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.num.Num;
+
+public class ColumnarBarSeriesTest extends AbstractIndicatorTest<BarSeries, Num> {
+
+    private List<Bar> bars;
+
+    private ZonedDateTime time;
+
+    public ColumnarBarSeriesTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        time = ZonedDateTime.of(2021, 6, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+        bars = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            bars.add(new MockBar(time.plusDays(i), i, i + 2, i + 3, i - 1, i * 10, i * 100, i, numFunction));
+        }
+    }
+
+    @Test
+    public void builderCreatesColumnarSeries() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withBars(bars)
+                .withColumnarStorage(true).build();
+        assertTrue(series instanceof ColumnarBarSeries);
+        assertEquals(10, series.getBarCount());
+        assertEquals(0, series.getBeginIndex());
+        assertEquals(9, series.getEndIndex());
+        for (int i = 0; i < bars.size(); i++) {
+            Bar expected = bars.get(i);
+            Bar actual = series.getBar(i);
+            assertNumEquals(expected.getOpenPrice(), actual.getOpenPrice());
+            assertNumEquals(expected.getHighPrice(), actual.getHighPrice());
+            assertNumEquals(expected.getLowPrice(), actual.getLowPrice());
+            assertNumEquals(expected.getClosePrice(), actual.getClosePrice());
+            assertNumEquals(expected.getVolume(), actual.getVolume());
+            assertNumEquals(expected.getAmount(), actual.getAmount());
+            assertEquals(expected.getTrades(), actual.getTrades());
+            assertEquals(expected.getTimePeriod(), actual.getTimePeriod());
+            assertEquals(expected.getBeginTime(), actual.getBeginTime());
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertEquals(numOf(1).getClass(), actual.getClosePrice().getClass());
+        }
+    }
+
+    @Test
+    public void equalsToOtherBars() {
+        BarSeries series = new ColumnarBarSeries("columnar", bars, numFunction);
+        for (int i = 0; i < bars.size(); i++) {
+            assertEquals(bars.get(i), series.getBar(i));
+            assertEquals(series.getBar(i), bars.get(i));
+        }
+        assertNotEquals(series.getBar(1), bars.get(2));
+        assertNotEquals(bars.get(2), series.getBar(1));
+
+        BarSeries other = new ColumnarBarSeries("other", bars, numFunction);
+        assertEquals(series.getBar(3), other.getBar(3));
+        assertEquals(series.getBar(3).hashCode(), other.getBar(3).hashCode());
+    }
+
+    @Test
+    public void serialization() throws IOException, ClassNotFoundException {
+        BarSeries series = new ColumnarBarSeries("columnar", bars, numFunction);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(series);
+        }
+        BarSeries deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (BarSeries) in.readObject();
+        }
+        for (int i = 0; i < bars.size(); i++) {
+            assertEquals(series.getBar(i), deserialized.getBar(i));
+            assertEquals(numOf(1).getClass(), deserialized.getBar(i).getClosePrice().getClass());
+        }
+    }
+
+    @Test
+    public void indicatorsOnColumnarSeries() {
+        BarSeries base = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withBars(new ArrayList<>(bars)).build();
+        BarSeries columnar = new ColumnarBarSeries("columnar", bars, numFunction);
+
+        TestUtils.assertIndicatorEquals(new ClosePriceIndicator(base), new ClosePriceIndicator(columnar));
+        TestUtils.assertIndicatorEquals(new HighPriceIndicator(base), new HighPriceIndicator(columnar));
+        TestUtils.assertIndicatorEquals(new VolumeIndicator(base), new VolumeIndicator(columnar));
+        TestUtils.assertIndicatorEquals(new SMAIndicator(new ClosePriceIndicator(base), 3),
+                new SMAIndicator(new ClosePriceIndicator(columnar), 3));
+    }
+
+    @Test
+    public void addTradeAndPriceWriteThrough() {
+        BarSeries series = new ColumnarBarSeries("columnar", numFunction);
+        series.addBar(Duration.ofMinutes(1), time);
+        series.addTrade(numOf(2), numOf(10));
+        series.addPrice(numOf(12));
+        series.addTrade(numOf(1), numOf(8));
+
+        Bar bar = series.getLastBar();
+        assertNumEquals(10, bar.getOpenPrice());
+        assertNumEquals(12, bar.getHighPrice());
+        assertNumEquals(8, bar.getLowPrice());
+        assertNumEquals(8, bar.getClosePrice());
+        assertNumEquals(3, bar.getVolume());
+        assertNumEquals(28, bar.getAmount());
+        assertEquals(2, bar.getTrades());
+        assertEquals(time.minusMinutes(1), bar.getBeginTime());
+    }
+
+    @Test
+    public void replaceLastBar() {
+        BarSeries series = new ColumnarBarSeries("columnar", bars, numFunction);
+        series.addBar(new MockBar(time.plusDays(20), 42, numFunction), true);
+        assertEquals(10, series.getBarCount());
+        assertNumEquals(42, series.getLastBar().getClosePrice());
+        assertEquals(time.plusDays(20), series.getLastBar().getEndTime());
+    }
+
+    @Test
+    public void maximumBarCount() {
+        BarSeries series = new ColumnarBarSeries("columnar", numFunction);
+        series.setMaximumBarCount(5);
+        for (int i = 0; i < 100; i++) {
+            series.addBar(new MockBar(time.plusDays(i), i, numFunction));
+        }
+        assertEquals(5, series.getBarCount());
+        assertEquals(95, series.getRemovedBarsCount());
+        assertEquals(99, series.getEndIndex());
+        for (int i = 95; i < 100; i++) {
+            assertNumEquals(i, series.getBar(i).getClosePrice());
+        }
+        // removed bars: the first remaining bar is returned
+        assertNumEquals(95, series.getBar(10).getClosePrice());
+    }
+
+    @Test
+    public void subSeries() {
+        ColumnarBarSeries series = new ColumnarBarSeries("columnar", bars, numFunction);
+        ColumnarBarSeries subSeries = series.getSubSeries(2, 5);
+        assertEquals(3, subSeries.getBarCount());
+        assertNumEquals(bars.get(2).getClosePrice(), subSeries.getBar(0).getClosePrice());
+        assertNumEquals(bars.get(4).getClosePrice(), subSeries.getBar(2).getClosePrice());
+
+        // the sub series is a copy
+        subSeries.getBar(0).addPrice(numOf(100));
+        assertNumEquals(bars.get(2).getClosePrice(), series.getBar(2).getClosePrice());
+
+        // the sub series keeps the cache policy of the series
+        CachePolicy policy = CachePolicy.lru(10);
+        series.setCachePolicy(policy);
+        assertSame(policy, series.getSubSeries(2, 5).getCachePolicy());
+        ColumnarBarSeries empty = new ColumnarBarSeries("empty", numFunction);
+        empty.setCachePolicy(policy);
+        assertSame(policy, empty.getSubSeries(0, 1).getCachePolicy());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void removedBarCannotBeUsed() {
+        BarSeries series = new ColumnarBarSeries("columnar", bars, numFunction);
+        Bar first = series.getFirstBar();
+        series.setMaximumBarCount(5);
+        first.getClosePrice();
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -59,4 +60,33 @@ public class IndicatorTest {
         assertTrue(doubles[2] == 10d);
     }
 
+    @Test
+    public void computeRange() {
+        BarSeries series = new BaseBarSeries();
+        List<Num> values = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            values.add(series.numOf(i * 2));
+        }
+        Indicator<Num> indicator = new MockIndicator(series, values);
+
+        double[] out = new double[4];
+        indicator.computeRange(3, 6, out);
+        assertArrayEquals(new double[] { 6, 8, 10, 0 }, out, 0);
+
+        // empty range
+        indicator.computeRange(5, 5, new double[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void computeRangeInvalidRange() {
+        BarSeries series = new BaseBarSeries();
+        new MockIndicator(series, new ArrayList<>()).computeRange(3, 2, new double[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void computeRangeTooShortArray() {
+        BarSeries series = new BaseBarSeries();
+        new MockIndicator(series, new ArrayList<>()).computeRange(0, 3, new double[2]);
+    }
+
 }
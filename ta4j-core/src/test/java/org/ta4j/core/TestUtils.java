@@ -27,11 +27,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 
 import java.math.BigDecimal;
+import java.util.Random;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.ta4j.core.mocks.MockBar;
 import org.ta4j.core.num.DecimalNum;
 import org.ta4j.core.num.Num;
+import org.ta4j.core.utils.IndicatorUtils;
 
 /**
  * Utility class for {@code Num} tests.
@@ -241,4 +246,92 @@ public class TestUtils {
         throw new AssertionError("Indicators match to " + delta);
     }
 
+    /**
+     * Gives random values, the same ones on each call.
+     *
+     * @param count   the number of values
+     * @param bound   the bound of the random integers (exclusive)
+     * @param divisor the divisor of the random integers (e.g. 100 for values with 2
+     *                decimals)
+     * @return the values
+     */
+    public static double[] randomValues(int count, int bound, double divisor) {
+        Random random = new Random(42);
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextInt(bound) / divisor;
+        }
+        return values;
+    }
+
+    /**
+     * Verifies that an indicator gives the same values to an offset whatever the
+     * order in which its indexes are requested (e.g. an indicator updating a
+     * running state when the indexes are requested in ascending order).
+     *
+     * @param factory  creates a new instance of the indicator
+     * @param expected the expected value of an index (e.g. computed by brute force
+     *                 over its window), null to only compare the orders
+     */
+    public static void assertSameValuesInAnyOrder(Supplier<? extends Indicator<?>> factory,
+            IntToDoubleFunction expected) {
+        Indicator<?> ascending = factory.get();
+        Indicator<?> descending = factory.get();
+        BarSeries series = ascending.getBarSeries();
+        double[] values = new double[series.getEndIndex() + 1];
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            values[i] = IndicatorUtils.toDouble(ascending.getValue(i));
+            if (expected != null) {
+                assertEquals("index " + i, expected.applyAsDouble(i), values[i], GENERAL_OFFSET);
+            }
+        }
+        for (int i = series.getEndIndex(); i >= series.getBeginIndex(); i--) {
+            assertEquals("index " + i, values[i], IndicatorUtils.toDouble(descending.getValue(i)), GENERAL_OFFSET);
+        }
+    }
+
+    /**
+     * Verifies that the value of the last bar of an indicator follows the changes
+     * of the bar, and is kept once a new bar has been added.
+     *
+     * @param indicator    the indicator
+     * @param price        the price added to the last bar
+     * @param expected     the expected value of the last bar after the price
+     * @param nextClose    the close price of a new bar
+     * @param expectedNext the expected value of the new bar
+     */
+    public static void assertLastBarMayChange(Indicator<Num> indicator, double price, double expected, double nextClose,
+            double expectedNext) {
+        BarSeries series = indicator.getBarSeries();
+        int endIndex = series.getEndIndex();
+        indicator.getValue(endIndex);
+        series.addPrice(series.numOf(price));
+        assertNumEquals(expected, indicator.getValue(endIndex));
+        series.addBar(new MockBar(series.getLastBar().getEndTime().plusDays(1), nextClose, series.function()));
+        assertNumEquals(expected, indicator.getValue(endIndex));
+        assertNumEquals(expectedNext, indicator.getValue(endIndex + 1));
+    }
+
+    /**
+     * Verifies that the values of the range computations of an indicator (the whole
+     * series, then its second half) are its values to an offset.
+     *
+     * @param indicator the indicator, not used yet
+     */
+    public static void assertComputeRange(Indicator<Num> indicator) {
+        int from = Math.max(0, indicator.getBarSeries().getBeginIndex());
+        int to = indicator.getBarSeries().getEndIndex() + 1;
+        double[] values = new double[to - from];
+        indicator.computeRange(from, to, values);
+        int middle = (from + to) / 2;
+        double[] secondHalf = new double[to - middle];
+        indicator.computeRange(middle, to, secondHalf);
+        for (int i = from; i < to; i++) {
+            double expected = indicator.getValue(i).doubleValue();
+            assertEquals("index " + i, expected, values[i - from], GENERAL_OFFSET);
+            if (i >= middle) {
+                assertEquals("index " + i, expected, secondHalf[i - middle], GENERAL_OFFSET);
+            }
+        }
+    }
 }
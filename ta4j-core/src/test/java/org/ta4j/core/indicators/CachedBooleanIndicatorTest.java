@@ -0,0 +1,172 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.CachePolicy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class CachedBooleanIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public CachedBooleanIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void valuesAreCached() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 4, 2, 5, 3);
+        CountingIndicator overThree = new CountingIndicator(new ClosePriceIndicator(series));
+        boolean[] expected = { false, true, false, true, false };
+        for (int i = expected.length - 2; i >= 0; i--) {
+            assertEquals(expected[i], overThree.getValue(i));
+        }
+        assertEquals(4, overThree.calculations);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], overThree.getValue(i));
+        }
+        // The last bar is not cached
+        assertEquals(expected[4], overThree.getValue(4));
+        assertEquals(6, overThree.calculations);
+    }
+
+    @Test
+    public void lastBarCachedUntilChangedWhenListening() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3);
+        CountingIndicator overThree = new CountingIndicator(new ClosePriceIndicator(series));
+        series.addListener(overThree);
+
+        series.addPrice(numOf(4));
+        assertEquals(true, overThree.getValue(2));
+        assertEquals(true, overThree.getValue(2));
+        assertEquals(1, overThree.calculations);
+
+        series.addPrice(numOf(1));
+        assertEquals(false, overThree.getValue(2));
+        assertEquals(2, overThree.calculations);
+
+        // The value of the former last bar is kept when a bar is added
+        series.addBar(new MockBar(series.getLastBar().getEndTime().plusDays(1), 6, numFunction));
+        assertEquals(false, overThree.getValue(2));
+        assertEquals(true, overThree.getValue(3));
+        assertEquals(3, overThree.calculations);
+    }
+
+    @Test
+    public void lastBarNotCachedAfterListenerRemoval() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 2, 3);
+        CountingIndicator overThree = new CountingIndicator(new ClosePriceIndicator(series));
+        series.addListener(overThree);
+        series.addPrice(numOf(4));
+        assertEquals(true, overThree.getValue(2));
+        assertEquals(1, overThree.calculations);
+
+        series.removeListener(overThree);
+        series.addPrice(numOf(1));
+        assertEquals(false, overThree.getValue(2));
+        assertEquals(false, overThree.getValue(2));
+        assertEquals(3, overThree.calculations);
+    }
+
+    @Test
+    public void cachePolicies() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 4, 2, 5, 3, 6);
+        CountingIndicator overThree = new CountingIndicator(new ClosePriceIndicator(series));
+        overThree.setCachePolicy(CachePolicy.NO_CACHE);
+        assertEquals(true, overThree.getValue(1));
+        assertEquals(true, overThree.getValue(1));
+        assertEquals(2, overThree.calculations);
+
+        overThree = new CountingIndicator(new ClosePriceIndicator(series));
+        overThree.setCachePolicy(CachePolicy.slidingWindow(2));
+        for (int i = 0; i < 5; i++) {
+            overThree.getValue(i);
+        }
+        assertEquals(true, overThree.getValue(3));
+        assertEquals(false, overThree.getValue(4));
+        assertEquals(5, overThree.calculations);
+        assertEquals(false, overThree.getValue(2));
+        assertEquals(6, overThree.calculations);
+
+        overThree = new CountingIndicator(new ClosePriceIndicator(series));
+        overThree.setCachePolicy(CachePolicy.lru(2));
+        assertEquals(false, overThree.getValue(0));
+        assertEquals(true, overThree.getValue(1));
+        assertEquals(false, overThree.getValue(0));
+        assertEquals(2, overThree.calculations);
+
+        series.setCachePolicy(CachePolicy.NO_CACHE);
+        overThree = new CountingIndicator(new ClosePriceIndicator(series));
+        overThree.getValue(0);
+        overThree.getValue(0);
+        assertEquals(2, overThree.calculations);
+    }
+
+    @Test
+    public void resultsOfRemovedBarsAreEvicted() {
+        BarSeries series = new BaseBarSeries("evicted", numFunction);
+        series.setMaximumBarCount(100);
+        CountingIndicator overThree = new CountingIndicator(new ClosePriceIndicator(series));
+        MockBar first = new MockBar(1, numFunction);
+        for (int i = 0; i < 70000; i++) {
+            series.addBar(new MockBar(first.getEndTime().plusMinutes(i), i % 7, numFunction));
+            if (i > 0) {
+                assertEquals((i - 1) % 7 > 3, overThree.getValue(i - 1));
+            }
+        }
+        final int endIndex = series.getEndIndex();
+        assertEquals(endIndex, overThree.calculations);
+        for (int i = endIndex - 99; i < endIndex; i++) {
+            assertEquals(i % 7 > 3, overThree.getValue(i));
+        }
+        assertEquals(endIndex, overThree.calculations);
+    }
+
+    private static class CountingIndicator extends CachedBooleanIndicator {
+
+        private final Indicator<Num> indicator;
+
+        private int calculations;
+
+        CountingIndicator(Indicator<Num> indicator) {
+            super(indicator);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected Boolean calculate(int index) {
+            calculations++;
+            return indicator.getValue(index).isGreaterThan(numOf(3));
+        }
+    }
+}
@@ -30,6 +30,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.function.Function;
 
@@ -38,10 +39,12 @@ import org.junit.Test;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.BaseBarSeriesBuilder;
 import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.CachePolicy;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Strategy;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
+import org.ta4j.core.mocks.MockBar;
 import org.ta4j.core.mocks.MockBarSeries;
 import org.ta4j.core.num.Num;
 import org.ta4j.core.rules.OverIndicatorRule;
@@ -144,6 +147,23 @@ public class CachedIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, N
         assertFalse(strategy.shouldExit(7));
     }
 
+    @Test
+    public void getValueOnMovingBarSeries() {
+        BarSeries barSeries = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).withMaxBarCount(10).build();
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(barSeries), 3);
+        ZonedDateTime time = ZonedDateTime.now();
+        for (int i = 0; i < 100; i++) {
+            barSeries.addBar(new MockBar(time.plusMinutes(i), i, numFunction));
+            if (i >= 12) {
+                assertNumEquals(i - 1, sma.getValue(i));
+                assertNumEquals(i - 2, sma.getValue(i - 1));
+                assertNumEquals(i - 8, sma.getValue(i - 7));
+            }
+        }
+        assertEquals(10, barSeries.getBarCount());
+        assertEquals(10, barSeries.getBarData().size());
+    }
+
     @Test
     public void getValueOnResultsCalculatedFromRemovedBarsShouldReturnFirstRemainingResult() {
         BarSeries barSeries = new MockBarSeries(numFunction, 1, 1, 1, 1, 1);
@@ -186,6 +206,7 @@ public class CachedIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, N
     public void leaveBarsBeforeLastBarCached() {
         BarSeries barSeries = new MockBarSeries(numFunction);
         ClosePriceIndicator closePrice = new ClosePriceIndicator(barSeries);
+        closePrice.setCachePolicy(CachePolicy.FULL);
 
         // Add a forgotten trade, should be ignored in the cached indicator
         assertNumEquals(2, closePrice.getValue(1));
@@ -193,4 +214,222 @@ public class CachedIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, N
         assertNumEquals(2, closePrice.getValue(1));
     }
 
+    @Test
+    public void lastBarCachedUntilChangedWhenListening() {
+        BarSeries barSeries = new MockBarSeries(numFunction, 1, 2, 3);
+        CountingIndicator closePrice = new CountingIndicator(new ClosePriceIndicator(barSeries));
+        barSeries.addListener(closePrice);
+
+        barSeries.addPrice(numOf(4));
+        assertNumEquals(4, closePrice.getValue(2));
+        assertNumEquals(4, closePrice.getValue(2));
+        assertEquals(1, closePrice.calculations);
+
+        // Only the value of the last bar is rolled back
+        barSeries.addTrade(numOf(1), numOf(5));
+        assertNumEquals(2, closePrice.getValue(1));
+        assertNumEquals(5, closePrice.getValue(2));
+        assertNumEquals(5, closePrice.getValue(2));
+        assertEquals(3, closePrice.calculations);
+
+        // The value of the former last bar is kept when a bar is added
+        barSeries.addBar(new MockBar(barSeries.getLastBar().getEndTime().plusDays(1), 6, numFunction));
+        assertNumEquals(5, closePrice.getValue(2));
+        assertNumEquals(6, closePrice.getValue(3));
+        assertEquals(4, closePrice.calculations);
+
+        barSeries.addBar(new MockBar(barSeries.getLastBar().getEndTime(), 7, numFunction), true);
+        assertNumEquals(7, closePrice.getValue(3));
+        assertEquals(5, closePrice.calculations);
+    }
+
+    @Test
+    public void lastBarNotCachedAfterListenerRemoval() {
+        BarSeries barSeries = new MockBarSeries(numFunction, 1, 2, 3);
+        CountingIndicator closePrice = new CountingIndicator(new ClosePriceIndicator(barSeries));
+        barSeries.addListener(closePrice);
+        barSeries.addPrice(numOf(4));
+        assertNumEquals(4, closePrice.getValue(2));
+
+        barSeries.removeListener(closePrice);
+        barSeries.addPrice(numOf(5));
+        assertNumEquals(5, closePrice.getValue(2));
+        // the changes of the bar are not notified anymore: the value is not kept
+        barSeries.getLastBar().addPrice(numOf(6));
+        assertNumEquals(6, closePrice.getValue(2));
+    }
+
+    @Test
+    public void lastBarUncachedWhenNotListening() {
+        BarSeries barSeries = new MockBarSeries(numFunction, 1, 2, 3);
+        CountingIndicator closePrice = new CountingIndicator(new ClosePriceIndicator(barSeries));
+        closePrice.getValue(2);
+        closePrice.getValue(2);
+        assertEquals(2, closePrice.calculations);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void highestResultIndex() {
+        CountingIndicator closePrice = new CountingIndicator(new ClosePriceIndicator(series));
+        assertEquals(-1, closePrice.highestResultIndex);
+        closePrice.getValue(3);
+        closePrice.getValue(1);
+        assertEquals(3, closePrice.highestResultIndex);
+        closePrice.setCachePolicy(CachePolicy.slidingWindow(2));
+        assertEquals(-1, closePrice.highestResultIndex);
+    }
+
+    @Test
+    public void noCachePolicy() {
+        CountingIndicator closePrice = new CountingIndicator(new ClosePriceIndicator(series));
+        closePrice.setCachePolicy(CachePolicy.NO_CACHE);
+        assertNumEquals(2, closePrice.getValue(1));
+        assertNumEquals(2, closePrice.getValue(1));
+        assertEquals(2, closePrice.calculations);
+    }
+
+    @Test
+    public void slidingWindowPolicy() {
+        CountingIndicator closePrice = new CountingIndicator(new ClosePriceIndicator(series));
+        closePrice.setCachePolicy(CachePolicy.slidingWindow(3));
+        for (int i = 0; i <= 10; i++) {
+            closePrice.getValue(i);
+        }
+        assertEquals(11, closePrice.calculations);
+        // Last 3 indexes cached
+        assertNumEquals(3, closePrice.getValue(8));
+        assertNumEquals(4, closePrice.getValue(10));
+        assertEquals(11, closePrice.calculations);
+        assertNumEquals(3, closePrice.getValue(2));
+        assertEquals(12, closePrice.calculations);
+    }
+
+    @Test
+    public void lruPolicy() {
+        CountingIndicator closePrice = new CountingIndicator(new ClosePriceIndicator(series));
+        closePrice.setCachePolicy(CachePolicy.lru(2));
+        closePrice.getValue(1);
+        closePrice.getValue(2);
+        closePrice.getValue(1);
+        closePrice.getValue(3);
+        assertEquals(3, closePrice.calculations);
+        // 2 is the least recently used one
+        closePrice.getValue(1);
+        closePrice.getValue(3);
+        assertEquals(3, closePrice.calculations);
+        closePrice.getValue(2);
+        assertEquals(4, closePrice.calculations);
+    }
+
+    @Test
+    public void cachePolicyPrecedence() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        CountingIndicator counting = new CountingIndicator(closePrice);
+        assertEquals(CachePolicy.getDefault(), counting.getCachePolicy());
+        // Default policy of the class
+        assertEquals(CachePolicy.NO_CACHE, closePrice.getCachePolicy());
+
+        series.setCachePolicy(CachePolicy.slidingWindow(5));
+        assertEquals(CachePolicy.slidingWindow(5), counting.getCachePolicy());
+        assertEquals(CachePolicy.NO_CACHE, closePrice.getCachePolicy());
+
+        counting.setCachePolicy(CachePolicy.lru(10));
+        closePrice.setCachePolicy(CachePolicy.FULL);
+        assertEquals(CachePolicy.lru(10), counting.getCachePolicy());
+        assertEquals(CachePolicy.FULL, closePrice.getCachePolicy());
+
+        counting.setCachePolicy(null);
+        series.setCachePolicy(null);
+        assertEquals(CachePolicy.getDefault(), counting.getCachePolicy());
+        assertEquals(CachePolicy.slidingWindow(5).hashCode(), CachePolicy.slidingWindow(5).hashCode());
+        assertEquals("LRU(10)", CachePolicy.lru(10).toString());
+    }
+
+    @Test
+    public void globalDefaultCachePolicy() {
+        CachePolicy defaultPolicy = CachePolicy.getDefault();
+        try {
+            CachePolicy.setDefault(CachePolicy.NO_CACHE);
+            CountingIndicator closePrice = new CountingIndicator(new ClosePriceIndicator(series));
+            closePrice.getValue(1);
+            closePrice.getValue(1);
+            assertEquals(2, closePrice.calculations);
+        } finally {
+            CachePolicy.setDefault(defaultPolicy);
+        }
+    }
+
+    @Test
+    public void computeRange() {
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        double[] out = new double[series.getBarCount()];
+        sma.computeRange(0, series.getBarCount(), out);
+        for (int i = 0; i < out.length; i++) {
+            assertNumEquals(out[i], sma.getValue(i));
+        }
+
+        // partial range, already cached
+        double[] partial = new double[3];
+        sma.computeRange(4, 7, partial);
+        assertEquals(out[4], partial[0], 0);
+        assertEquals(out[6], partial[2], 0);
+
+        // constant and non cached indicators
+        ConstantIndicator<Num> constant = new ConstantIndicator<>(series, numOf(5));
+        constant.computeRange(2, 5, partial);
+        assertEquals(5, partial[1], 0);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        closePrice.computeRange(10, 13, partial);
+        assertEquals(4, partial[0], 0);
+        assertEquals(2, partial[2], 0);
+    }
+
+    @Test
+    public void computeRangeOfRemovedBars() {
+        series.setMaximumBarCount(5);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 2);
+        double[] out = new double[series.getEndIndex() + 1];
+        sma.computeRange(0, out.length, out);
+        for (int i = 0; i < out.length; i++) {
+            assertNumEquals(out[i], sma.getValue(i));
+        }
+    }
+
+    @Test
+    public void recursiveComputeRange() {
+        double[] prices = new double[10000];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = 100 + i % 17;
+        }
+        BarSeries longSeries = new MockBarSeries(numFunction, prices);
+        EMAIndicator ema = new EMAIndicator(new ClosePriceIndicator(longSeries), 10);
+        double[] out = new double[longSeries.getBarCount()];
+        ema.computeRange(0, out.length, out);
+        assertNumEquals(out[out.length - 1], ema.getValue(longSeries.getEndIndex()));
+        assertNumEquals(out[5000], ema.getValue(5000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCacheSize() {
+        CachePolicy.slidingWindow(0);
+    }
+
+    private static class CountingIndicator extends CachedIndicator<Num> {
+
+        private final Indicator<Num> indicator;
+
+        private int calculations;
+
+        CountingIndicator(Indicator<Num> indicator) {
+            super(indicator);
+            this.indicator = indicator;
+        }
+
+        @Override
+        protected Num calculate(int index) {
+            calculations++;
+            return indicator.getValue(index);
+        }
+    }
 }
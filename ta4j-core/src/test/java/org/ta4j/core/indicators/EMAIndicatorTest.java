@@ -24,6 +24,7 @@
 package org.ta4j.core.indicators;
 
 import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertComputeRange;
 import static org.ta4j.core.TestUtils.assertIndicatorEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
@@ -87,6 +88,12 @@ public class EMAIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num>
         assertNumEquals(9994.5, indicator.getValue(9999));
     }
 
+    @Test
+    public void computeRange() {
+        assertComputeRange(new EMAIndicator(new ClosePriceIndicator(data), 10));
+        assertComputeRange(new MMAIndicator(new ClosePriceIndicator(data), 10));
+    }
+
     @Test
     public void externalData() throws Exception {
         BarSeries xlsSeries = xls.getSeries();
@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class EfficiencyRatioIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public EfficiencyRatioIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void efficiencyRatio() {
+        BarSeries series = new MockBarSeries(numFunction, 1, 3, 2, 5, 5, 1, 2, 3, 4);
+        EfficiencyRatioIndicator er = new EfficiencyRatioIndicator(new ClosePriceIndicator(series), 3);
+
+        assertNumEquals(1, er.getValue(1));
+        assertNumEquals(1d / 3, er.getValue(2));
+        assertNumEquals(4d / 6, er.getValue(3));
+        assertNumEquals(0.5, er.getValue(4));
+        assertNumEquals(1d / 7, er.getValue(5));
+        assertNumEquals(1, er.getValue(8));
+    }
+
+    @Test
+    public void zeroWhenThePriceDoesNotMove() {
+        BarSeries series = new MockBarSeries(numFunction, 2, 2, 2, 2, 2);
+        EfficiencyRatioIndicator er = new EfficiencyRatioIndicator(new ClosePriceIndicator(series), 3);
+
+        assertNumEquals(0, er.getValue(0));
+        assertNumEquals(0, er.getValue(4));
+    }
+}
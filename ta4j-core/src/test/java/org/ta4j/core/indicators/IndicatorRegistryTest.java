@@ -0,0 +1,97 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighPriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class IndicatorRegistryTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+
+    private IndicatorRegistry registry;
+
+    public IndicatorRegistryTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(numFunction, 1, 2, 3, 4, 5, 6);
+        registry = new IndicatorRegistry(series);
+    }
+
+    private ClosePriceIndicator closePrice() {
+        return registry.get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(series), series);
+    }
+
+    private SMAIndicator sma(Indicator<Num> indicator, int barCount) {
+        return registry.get(SMAIndicator.class, () -> new SMAIndicator(indicator, barCount), indicator, barCount);
+    }
+
+    @Test
+    public void structurallyEqualIndicatorsAreShared() {
+        SMAIndicator sma = sma(closePrice(), 3);
+        assertSame(closePrice(), closePrice());
+        assertSame(sma, sma(closePrice(), 3));
+        assertNotSame(sma, sma(closePrice(), 4));
+        assertEquals(3, registry.size());
+        assertNumEquals(5, sma(closePrice(), 3).getValue(5));
+    }
+
+    @Test
+    public void inputsAreComparedByIdentity() {
+        HighPriceIndicator highPrice = new HighPriceIndicator(series);
+        HighPriceIndicator otherHighPrice = new HighPriceIndicator(series);
+        assertNotSame(sma(highPrice, 3), sma(otherHighPrice, 3));
+        assertSame(sma(highPrice, 3), sma(highPrice, 3));
+    }
+
+    @Test
+    public void clear() {
+        ClosePriceIndicator closePrice = closePrice();
+        registry.clear();
+        assertEquals(0, registry.size());
+        assertNotSame(closePrice, closePrice());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indicatorOfAnotherSeries() {
+        BarSeries otherSeries = new MockBarSeries(numFunction, 1, 2, 3);
+        registry.get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(otherSeries), otherSeries);
+    }
+}
@@ -24,14 +24,20 @@
 package org.ta4j.core.indicators;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Function;
 
 import org.junit.Test;
 import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.CachePolicy;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.mocks.MockBar;
 import org.ta4j.core.mocks.MockBarSeries;
@@ -124,4 +130,70 @@ public class ParabolicSarIndicatorTest extends AbstractIndicatorTest<Indicator<N
         assertNumEquals(3460.81265600, sar.getValue(9));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void sameValuesInAnyOrder() {
+        Random random = new Random(42);
+        List<Bar> bars = new ArrayList<>();
+        double close = 100;
+        for (int i = 0; i < 300; i++) {
+            double open = close;
+            close = open + random.nextGaussian();
+            double high = Math.max(open, close) + random.nextDouble();
+            double low = Math.min(open, close) - random.nextDouble();
+            bars.add(new MockBar(open, close, high, low, numFunction));
+        }
+        MockBarSeries series = new MockBarSeries(bars);
+        ParabolicSarIndicator ascending = new ParabolicSarIndicator(series);
+        ParabolicSarIndicator descending = new ParabolicSarIndicator(series);
+        List<Num> values = new ArrayList<>();
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            values.add(ascending.getValue(i));
+        }
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            assertEquals(values.get(i).toString(), descending.getValue(i).toString());
+        }
+        // The value of the last bar may be requested again, and may change
+        final int endIndex = series.getEndIndex();
+        assertEquals(values.get(endIndex), ascending.getValue(endIndex));
+        for (int i = 0; i < 5; i++) {
+            series.addPrice(series.getLastBar().getClosePrice().plus(numOf(i - 2)));
+            ParabolicSarIndicator fresh = new ParabolicSarIndicator(series);
+            assertEquals(fresh.getValue(endIndex).toString(), ascending.getValue(endIndex).toString());
+        }
+    }
+
+    @Test
+    public void restartsAfterEviction() {
+        BarSeries series = new BaseBarSeries("moving", numFunction);
+        series.setMaximumBarCount(20);
+        ParabolicSarIndicator fed = new ParabolicSarIndicator(series);
+        ZonedDateTime endTime = ZonedDateTime.now();
+        double close = 100;
+        for (int i = 0; i < 60; i++) {
+            // Trend reversal every 5 bars
+            double open = close;
+            close = open + ((i / 5) % 2 == 0 ? 1.5 : -1.5);
+            series.addBar(new MockBar(endTime.plusDays(i), open, close, Math.max(open, close) + 0.5,
+                    Math.min(open, close) - 0.5, 0, 0, 0, numFunction));
+            fed.getValue(series.getEndIndex());
+        }
+        final int beginIndex = series.getRemovedBarsCount();
+        final int endIndex = series.getEndIndex();
+
+        ParabolicSarIndicator created = new ParabolicSarIndicator(series);
+        ParabolicSarIndicator cleared = new ParabolicSarIndicator(series);
+        for (int i = beginIndex; i <= endIndex; i++) {
+            cleared.getValue(i);
+        }
+        cleared.setCachePolicy(CachePolicy.FULL);
+        for (int i = beginIndex + 1; i <= endIndex; i++) {
+            assertFalse(created.getValue(i).isNaN());
+            assertFalse(cleared.getValue(i).isNaN());
+        }
+        // Same values as the fed indicator from the second trend reversal
+        for (int i = endIndex - 5; i <= endIndex; i++) {
+            assertEquals(fed.getValue(i), created.getValue(i));
+            assertEquals(fed.getValue(i), cleared.getValue(i));
+        }
+    }
+}
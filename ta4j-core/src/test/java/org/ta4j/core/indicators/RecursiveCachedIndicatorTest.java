@@ -0,0 +1,111 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.CachePolicy;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class RecursiveCachedIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public RecursiveCachedIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void previousValuesAreCalculatedForward() {
+        BarSeries series = new MockBarSeries(numFunction, new double[300]);
+        StackDepthIndicator indicator = new StackDepthIndicator(series);
+        for (int index : new int[] { 50, 51, 150, 299 }) {
+            assertNumEquals(index, indicator.getValue(index));
+        }
+        // Each value has been calculated once, from the same stack depth
+        assertEquals(300, indicator.calculations);
+        assertEquals(indicator.minDepth, indicator.maxDepth);
+    }
+
+    @Test
+    public void boundedCachePolicies() {
+        BarSeries series = new MockBarSeries(numFunction, new double[3000]);
+        for (CachePolicy policy : new CachePolicy[] { CachePolicy.NO_CACHE, CachePolicy.slidingWindow(2),
+                CachePolicy.lru(2) }) {
+            StackDepthIndicator indicator = new StackDepthIndicator(series);
+            indicator.setCachePolicy(policy);
+            for (int index : new int[] { 2000, 2001, 2999, 10, 1500 }) {
+                assertNumEquals(index, indicator.getValue(index));
+            }
+            // No recursion through the previous values, whatever the cache policy
+            assertEquals(policy.toString(), indicator.minDepth, indicator.maxDepth);
+        }
+    }
+
+    @Test
+    public void nestedRecursiveIndicators() {
+        double[] prices = new double[5000];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = i;
+        }
+        BarSeries series = new MockBarSeries(numFunction, prices);
+        Indicator<Num> indicator = new ClosePriceIndicator(series);
+        for (int i = 0; i < 50; i++) {
+            indicator = new EMAIndicator(new MMAIndicator(indicator, 2), 2);
+        }
+        // Lagging by 1 bar per MMA and 0.5 bar per EMA
+        for (int index = 3000; index < prices.length; index += 99) {
+            assertNumEquals(index - 75.0, indicator.getValue(index));
+        }
+    }
+
+    /**
+     * Counts its previous values and records the stack depth of its calculations.
+     */
+    private static class StackDepthIndicator extends RecursiveCachedIndicator<Num> {
+
+        private int calculations;
+        private int minDepth = Integer.MAX_VALUE;
+        private int maxDepth;
+
+        StackDepthIndicator(BarSeries series) {
+            super(series);
+        }
+
+        @Override
+        protected Num calculate(int index) {
+            calculations++;
+            final int depth = new Throwable().getStackTrace().length;
+            minDepth = Math.min(minDepth, depth);
+            maxDepth = Math.max(maxDepth, depth);
+            return index == 0 ? numOf(0) : getValue(index - 1).plus(numOf(1));
+        }
+    }
+}
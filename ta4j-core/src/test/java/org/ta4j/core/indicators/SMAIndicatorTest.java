@@ -24,6 +24,7 @@
 package org.ta4j.core.indicators;
 
 import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertComputeRange;
 import static org.ta4j.core.TestUtils.assertIndicatorEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
@@ -82,6 +83,11 @@ public class SMAIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num>
         }
     }
 
+    @Test
+    public void computeRange() {
+        assertComputeRange(new SMAIndicator(new ClosePriceIndicator(data), 3));
+    }
+
     @Test
     public void externalData() throws Exception {
         Indicator<Num> xlsClose = new ClosePriceIndicator(xls.getSeries());
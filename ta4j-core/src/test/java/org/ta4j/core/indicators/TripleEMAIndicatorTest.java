@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import static org.ta4j.core.TestUtils.assertComputeRange;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
 import java.util.function.Function;
@@ -66,4 +67,9 @@ public class TripleEMAIndicatorTest extends AbstractIndicatorTest<Indicator<Num>
         assertNumEquals(0.6994, tripleEma.getValue(13));
         assertNumEquals(0.6876, tripleEma.getValue(14));
     }
+
+    @Test
+    public void computeRange() {
+        assertComputeRange(new TripleEMAIndicator(closePrice, 5));
+    }
 }
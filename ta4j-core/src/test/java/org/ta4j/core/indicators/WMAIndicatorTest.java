@@ -23,7 +23,10 @@
  */
 package org.ta4j.core.indicators;
 
+import static org.ta4j.core.TestUtils.assertLastBarMayChange;
 import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.TestUtils.assertSameValuesInAnyOrder;
+import static org.ta4j.core.TestUtils.randomValues;
 
 import java.util.function.Function;
 
@@ -90,4 +93,27 @@ public class WMAIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num>
         assertNumEquals(78.1504, wma.getValue(19));
         assertNumEquals(77.6133, wma.getValue(20));
     }
+
+    @Test
+    public void sameValuesInAnyOrder() {
+        double[] values = randomValues(300, 10_000, 100);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockBarSeries(numFunction, values));
+        assertSameValuesInAnyOrder(() -> new WMAIndicator(closePrice, 20), i -> {
+            int loopLength = Math.min(i + 1, 20);
+            double expected = 0;
+            for (int k = 1; k <= loopLength; k++) {
+                expected += k * values[i - loopLength + k];
+            }
+            return expected / (loopLength * (loopLength + 1) / 2d);
+        });
+    }
+
+    @Test
+    public void lastBarMayChange() {
+        MockBarSeries series = new MockBarSeries(numFunction, 1d, 2d, 3d, 4d, 5d, 6d);
+        WMAIndicator wma = new WMAIndicator(new ClosePriceIndicator(series), 3);
+        assertNumEquals(4.3333, wma.getValue(4));
+        assertNumEquals(5.3333, wma.getValue(5));
+        assertLastBarMayChange(wma, 9, 6.8333, 7, 7.3333);
+    }
 }
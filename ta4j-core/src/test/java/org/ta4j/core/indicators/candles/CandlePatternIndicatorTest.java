@@ -0,0 +1,81 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.candles;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class CandlePatternIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+
+    public CandlePatternIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        List<Bar> bars = new ArrayList<Bar>();
+        // open, close, high, low
+        bars.add(new MockBar(10, 18, 20, 10, numFunction));
+        bars.add(new MockBar(21, 15, 22, 14, numFunction));
+        bars.add(new MockBar(17, 20, 21, 17, numFunction));
+        series = new MockBarSeries(bars);
+    }
+
+    @Test
+    public void barsAreReadFromTheSeries() {
+        CandlePatternIndicator bullish = new CandlePatternIndicator(series, (bars, index) -> bars.isBullish(index));
+        assertTrue(bullish.getValue(0));
+        assertFalse(bullish.getValue(1));
+        assertTrue(bullish.getValue(2));
+
+        series.addPrice(numOf(16));
+        assertFalse(bullish.getValue(2));
+    }
+
+    @Test
+    public void averagesAreTheSmaOfTheMeasures() {
+        CandleBars bars = CandleBars.of(series);
+        assertNumEquals(8, bars.getAverageBodyHeight(0, 2));
+        assertNumEquals(7, bars.getAverageBodyHeight(1, 2));
+        assertNumEquals(4.5, bars.getAverageBodyHeight(2, 2));
+        assertNumEquals(CandleBars.snapshot(series).getAverageLowerShadow(2, 3), bars.getAverageLowerShadow(2, 3));
+    }
+}
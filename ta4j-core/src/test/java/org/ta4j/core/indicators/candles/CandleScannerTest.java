@@ -0,0 +1,170 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.candles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class CandleScannerTest extends AbstractIndicatorTest<Indicator<Boolean>, Num> {
+
+    public CandleScannerTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    private CandleScanner scanner() {
+        Map<String, CandlePattern> patterns = new LinkedHashMap<>();
+        patterns.put("bearishEngulfing", CandlePatterns.bearishEngulfing());
+        patterns.put("bearishHarami", CandlePatterns.bearishHarami());
+        patterns.put("bullishEngulfing", CandlePatterns.bullishEngulfing());
+        patterns.put("bullishHarami", CandlePatterns.bullishHarami());
+        patterns.put("doji", CandlePatterns.doji(5, 0.3));
+        patterns.put("threeBlackCrows", CandlePatterns.threeBlackCrows(3, 0.5));
+        patterns.put("threeWhiteSoldiers", CandlePatterns.threeWhiteSoldiers(3, 0.5));
+        return new CandleScanner(patterns);
+    }
+
+    private Map<String, Indicator<Boolean>> indicators(BarSeries series) {
+        Map<String, Indicator<Boolean>> indicators = new LinkedHashMap<>();
+        indicators.put("bearishEngulfing", new BearishEngulfingIndicator(series));
+        indicators.put("bearishHarami", new BearishHaramiIndicator(series));
+        indicators.put("bullishEngulfing", new BullishEngulfingIndicator(series));
+        indicators.put("bullishHarami", new BullishHaramiIndicator(series));
+        indicators.put("doji", new DojiIndicator(series, 5, 0.3));
+        indicators.put("threeBlackCrows", new ThreeBlackCrowsIndicator(series, 3, 0.5));
+        indicators.put("threeWhiteSoldiers", new ThreeWhiteSoldiersIndicator(series, 3, numOf(0.5)));
+        return indicators;
+    }
+
+    private BarSeries randomSeries(long seed) {
+        Random random = new Random(seed);
+        List<Bar> bars = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int open = 50 + random.nextInt(20);
+            int close = 50 + random.nextInt(20);
+            int high = Math.max(open, close) + random.nextInt(5);
+            int low = Math.min(open, close) - random.nextInt(5);
+            bars.add(new MockBar(open, close, high, low, numFunction));
+        }
+        return new MockBarSeries(bars);
+    }
+
+    private void assertSameAsIndicators(CandleScan scan) {
+        BarSeries series = scan.getBarSeries();
+        Map<String, Indicator<Boolean>> indicators = indicators(series);
+        assertEquals(indicators.keySet(), scan.getPatternNames());
+        for (Map.Entry<String, Indicator<Boolean>> indicator : indicators.entrySet()) {
+            int count = 0;
+            for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+                boolean expected = indicator.getValue().getValue(i);
+                assertEquals(indicator.getKey() + " at " + i, expected, scan.matches(indicator.getKey(), i));
+                count += expected ? 1 : 0;
+            }
+            assertEquals(count, scan.getMatchCount(indicator.getKey()));
+        }
+    }
+
+    @Test
+    public void sameMatchesAsIndicators() {
+        CandleScan scan = scanner().scan(randomSeries(42));
+        assertEquals(0, scan.getBeginIndex());
+        assertEquals(499, scan.getEndIndex());
+        assertTrue(scan.getMatchCount("bullishEngulfing") > 0);
+        assertTrue(scan.getMatchCount("doji") > 0);
+        assertSameAsIndicators(scan);
+    }
+
+    @Test
+    public void threeBlackCrows() {
+        List<Bar> bars = new ArrayList<>();
+        // open, close, high, low
+        bars.add(new MockBar(19, 19, 22, 15, numFunction));
+        bars.add(new MockBar(10, 18, 20, 8, numFunction));
+        bars.add(new MockBar(17, 20, 21, 17, numFunction));
+        bars.add(new MockBar(19, 17, 20, 16.9, numFunction));
+        bars.add(new MockBar(17.5, 14, 18, 13.9, numFunction));
+        bars.add(new MockBar(15, 11, 15, 11, numFunction));
+        bars.add(new MockBar(12, 14, 15, 8, numFunction));
+        bars.add(new MockBar(13, 16, 16, 11, numFunction));
+        Map<String, CandlePattern> patterns = new LinkedHashMap<>();
+        patterns.put("crows", CandlePatterns.threeBlackCrows(3, 0.1));
+        CandleScan scan = new CandleScanner(patterns).scan(new MockBarSeries(bars));
+        assertEquals(1, scan.getMatchCount("crows"));
+        assertTrue(scan.matches("crows", 5));
+        assertTrue(scan.getMatches("crows").get(5));
+    }
+
+    @Test
+    public void scanSeriesInParallel() {
+        List<BarSeries> seriesList = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            seriesList.add(randomSeries(i));
+        }
+        CandleScanner scanner = scanner();
+        List<CandleScan> scans = scanner.scan(seriesList);
+        assertEquals(seriesList.size(), scans.size());
+        for (int i = 0; i < seriesList.size(); i++) {
+            CandleScan scan = scans.get(i);
+            assertEquals(seriesList.get(i), scan.getBarSeries());
+            CandleScan sequential = scanner.scan(seriesList.get(i));
+            for (String pattern : scanner.getPatternNames()) {
+                assertEquals(sequential.getMatches(pattern), scan.getMatches(pattern));
+            }
+        }
+        assertSameAsIndicators(scans.get(3));
+    }
+
+    @Test
+    public void emptySeries() {
+        CandleScan scan = scanner().scan(new MockBarSeries(new ArrayList<>()));
+        assertEquals(-1, scan.getEndIndex());
+        assertEquals(0, scan.getMatchCount("doji"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownPattern() {
+        scanner().scan(randomSeries(42)).matches("hammer", 10);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexOutOfScan() {
+        assertFalse(scanner().scan(randomSeries(42)).matches("doji", 500));
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertLastBarMayChange;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class ExpressionTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries series;
+    private ClosePriceIndicator closePrice;
+
+    public ExpressionTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(numFunction, 1, 4, 2, 8, 5, 7, 3, 9, 6, 10, 2, 4);
+        closePrice = new ClosePriceIndicator(series);
+    }
+
+    @Test
+    public void sameValuesAsChainedIndicators() {
+        SMAIndicator sma = new SMAIndicator(closePrice, 5);
+        StandardDeviationIndicator standardDeviation = new StandardDeviationIndicator(closePrice, 5);
+        Indicator<Num> chained = TransformIndicator.multiply(new DifferenceIndicator(closePrice, sma), 100);
+        Expression fused = Expression.of(closePrice).minus(sma).dividedBy(standardDeviation).multipliedBy(100);
+        Expression cached = fused.cached();
+        for (int i = 1; i <= series.getEndIndex(); i++) {
+            Num difference = closePrice.getValue(i).minus(sma.getValue(i));
+            assertNumEquals(difference.dividedBy(standardDeviation.getValue(i)).multipliedBy(numOf(100)),
+                    fused.getValue(i));
+            assertNumEquals(chained.getValue(i).dividedBy(standardDeviation.getValue(i)), cached.getValue(i));
+        }
+    }
+
+    @Test
+    public void operations() {
+        Expression close = Expression.of(closePrice);
+        assertNumEquals(7, close.plus(3).getValue(1));
+        assertNumEquals(1, close.minus(3).getValue(1));
+        assertNumEquals(8, close.multipliedBy(2).getValue(1));
+        assertNumEquals(2, close.dividedBy(2).getValue(1));
+        assertNumEquals(5, close.max(5).getValue(1));
+        assertNumEquals(3, close.min(3).getValue(1));
+        assertNumEquals(-4, close.negate().getValue(1));
+        assertNumEquals(4, close.negate().abs().getValue(1));
+        assertNumEquals(2, close.sqrt().getValue(1));
+        assertNumEquals(16, close.map("square", v -> v.multipliedBy(v)).getValue(1));
+        assertNumEquals(3, Expression.constant(series, 3).getValue(5));
+        Expression previous = Expression.of(new PreviousValueIndicator(closePrice));
+        assertNumEquals(2, close.minus(previous).getValue(3).dividedBy(numOf(3)));
+        assertNumEquals(8, close.max(previous).getValue(3));
+        assertNumEquals(2, close.min(previous).getValue(3));
+    }
+
+    @Test
+    public void onlyRootIsCached() {
+        Expression expression = Expression.of(closePrice).minus(1).abs();
+        Expression cached = expression.cached();
+        assertTrue(cached instanceof CachedExpressionIndicator);
+        assertSame(cached, cached.cached());
+        assertSame(expression, Expression.of(expression));
+        assertEquals(series, cached.getBarSeries());
+        assertNumEquals(3, cached.getValue(1));
+        assertEquals("abs((ClosePriceIndicator - 1))", cached.toString().replace("1.0", "1"));
+    }
+
+    @Test
+    public void lastBarMayChange() {
+        Expression difference = Expression.of(closePrice).minus(new PreviousValueIndicator(closePrice)).cached();
+        assertNumEquals(2, difference.getValue(11));
+        assertLastBarMayChange(difference, 8, 6, 1, -7);
+    }
+}
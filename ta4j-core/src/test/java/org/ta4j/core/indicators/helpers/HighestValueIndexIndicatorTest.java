@@ -0,0 +1,84 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertSameValuesInAnyOrder;
+import static org.ta4j.core.TestUtils.randomValues;
+
+import java.time.ZonedDateTime;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+
+public class HighestValueIndexIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    public HighestValueIndexIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Test
+    public void indexOfTheHighestValueUsingBarCount3() {
+        BarSeries series = new MockBarSeries(numFunction, 5, 1, 5, 0, 4, 4, 2);
+        HighestValueIndexIndicator index = new HighestValueIndexIndicator(new ClosePriceIndicator(series), 3);
+        int[] expected = { 0, 0, 2, 2, 2, 5, 5 };
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], index.getValue(i).intValue());
+        }
+    }
+
+    @Test
+    public void onlyNaNValues() {
+        BaseBarSeries series = new BaseBarSeries("NaN test");
+        for (long i = 0; i <= 5; i++) {
+            series.addBar(ZonedDateTime.now().plusDays(i), NaN.NaN, NaN.NaN, NaN.NaN, NaN.NaN, NaN.NaN);
+        }
+        HighestValueIndexIndicator index = new HighestValueIndexIndicator(new ClosePriceIndicator(series), 2);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            assertEquals(-1, index.getValue(i).intValue());
+        }
+    }
+
+    @Test
+    public void sameValuesInAnyOrder() {
+        double[] values = randomValues(300, 100, 1);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockBarSeries(numFunction, values));
+        assertSameValuesInAnyOrder(() -> new HighestValueIndexIndicator(closePrice, 20), i -> {
+            int expected = i;
+            for (int j = i - 1; j >= Math.max(0, i - 19); j--) {
+                if (Math.max(values[expected], values[j]) != values[expected]) {
+                    expected = j;
+                }
+            }
+            return expected;
+        });
+    }
+}
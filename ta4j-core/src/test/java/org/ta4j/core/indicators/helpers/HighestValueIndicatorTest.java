@@ -24,7 +24,10 @@
 package org.ta4j.core.indicators.helpers;
 
 import static junit.framework.TestCase.assertEquals;
+import static org.ta4j.core.TestUtils.assertLastBarMayChange;
 import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.TestUtils.assertSameValuesInAnyOrder;
+import static org.ta4j.core.TestUtils.randomValues;
 import static org.ta4j.core.num.NaN.NaN;
 
 import java.time.ZonedDateTime;
@@ -79,6 +82,14 @@ public class HighestValueIndicatorTest extends AbstractIndicatorTest<Indicator<N
         assertNumEquals("6.0", highestValue.getValue(12));
     }
 
+    @Test
+    public void highestValueIndicatorWithMaximumBarCount() {
+        HighestValueIndicator highestValue = new HighestValueIndicator(new ClosePriceIndicator(data),
+                Integer.MAX_VALUE);
+        assertNumEquals("4.0", highestValue.getValue(3));
+        assertNumEquals("6.0", highestValue.getValue(13));
+    }
+
     @Test
     public void onlyNaNValues() {
         BaseBarSeries series = new BaseBarSeries("NaN test");
@@ -110,4 +121,25 @@ public class HighestValueIndicatorTest extends AbstractIndicatorTest<Indicator<N
                 assertEquals(series.getBar(i).getClosePrice().toString(), highestValue.getValue(i).toString());
         }
     }
+
+    @Test
+    public void sameValuesInAnyOrder() {
+        double[] values = randomValues(300, 100, 1);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockBarSeries(numFunction, values));
+        assertSameValuesInAnyOrder(() -> new HighestValueIndicator(closePrice, 20), i -> {
+            double expected = values[i];
+            for (int j = Math.max(0, i - 19); j < i; j++) {
+                expected = Math.max(expected, values[j]);
+            }
+            return expected;
+        });
+    }
+
+    @Test
+    public void lastBarMayChange() {
+        HighestValueIndicator highestValue = new HighestValueIndicator(new ClosePriceIndicator(data), 3);
+        assertNumEquals("4.0", highestValue.getValue(12));
+        assertNumEquals("4.0", highestValue.getValue(13));
+        assertLastBarMayChange(highestValue, 7, 7, 1, 7);
+    }
 }
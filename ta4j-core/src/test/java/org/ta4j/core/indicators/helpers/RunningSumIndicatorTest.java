@@ -0,0 +1,150 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertComputeRange;
+import static org.ta4j.core.TestUtils.assertLastBarMayChange;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+
+public class RunningSumIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries data;
+
+    public RunningSumIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        data = new MockBarSeries(numFunction, 1, 2, 3, 4, 3, 4, 5, 6, 4, 3, 3, 4, 3, 2);
+    }
+
+    @Test
+    public void runningSumInAscendingOrder() {
+        RunningSumIndicator sum = new RunningSumIndicator(new ClosePriceIndicator(data), 3);
+        assertNumEquals(1, sum.getValue(0));
+        assertNumEquals(3, sum.getValue(1));
+        assertNumEquals(6, sum.getValue(2));
+        assertNumEquals(9, sum.getValue(3));
+        assertNumEquals(10, sum.getValue(4));
+        assertNumEquals(11, sum.getValue(5));
+        assertNumEquals(12, sum.getValue(6));
+        assertNumEquals(15, sum.getValue(7));
+        assertNumEquals(15, sum.getValue(8));
+        assertNumEquals(13, sum.getValue(9));
+        assertNumEquals(10, sum.getValue(10));
+        assertNumEquals(10, sum.getValue(11));
+        assertNumEquals(10, sum.getValue(12));
+        assertNumEquals(9, sum.getValue(13));
+    }
+
+    @Test
+    public void runningSumOutOfOrder() {
+        RunningSumIndicator sum = new RunningSumIndicator(new ClosePriceIndicator(data), 3);
+        assertNumEquals(10, sum.getValue(11));
+        assertNumEquals(15, sum.getValue(7));
+        assertNumEquals(15, sum.getValue(8));
+        assertNumEquals(10, sum.getValue(4));
+        assertNumEquals(13, sum.getValue(9));
+        assertNumEquals(1, sum.getValue(0));
+        assertNumEquals(9, sum.getValue(13));
+    }
+
+    @Test
+    public void sameValuesAsFullSum() {
+        Random random = new Random(42);
+        double[] values = new double[500];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 1000;
+        }
+        BarSeries series = new MockBarSeries(numFunction, values);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        RunningSumIndicator sum = new RunningSumIndicator(closePrice, 20);
+        for (int i = 0; i < values.length; i++) {
+            Num expected = numOf(0);
+            for (int j = Math.max(0, i - 19); j <= i; j++) {
+                expected = expected.plus(closePrice.getValue(j));
+            }
+            assertNumEquals(expected, sum.getValue(i));
+        }
+    }
+
+    @Test
+    public void nanLeavesTheWindow() {
+        Num one = numOf(1);
+        FixedIndicator<Num> indicator = new FixedIndicator<>(data, one, one, NaN.NaN, one, one, one, one, one);
+        RunningSumIndicator sum = new RunningSumIndicator(indicator, 2);
+        assertNumEquals(2, sum.getValue(1));
+        assertTrue(sum.getValue(2).isNaN());
+        assertTrue(sum.getValue(3).isNaN());
+        assertNumEquals(2, sum.getValue(4));
+        assertNumEquals(2, sum.getValue(5));
+    }
+
+    @Test
+    public void computeRange() {
+        assertComputeRange(new RunningSumIndicator(new ClosePriceIndicator(data), 3));
+        Num one = numOf(1);
+        BarSeries series = new MockBarSeries(numFunction, 1, 1, 1, 1, 1, 1, 1, 1);
+        FixedIndicator<Num> indicator = new FixedIndicator<>(series, one, one, NaN.NaN, one, one, one, one, one);
+        assertComputeRange(new RunningSumIndicator(indicator, 2));
+    }
+
+    @Test
+    public void lastBarIsNotKept() {
+        RunningSumIndicator sum = new RunningSumIndicator(new ClosePriceIndicator(data), 2);
+        assertNumEquals(5, sum.getValue(13));
+        assertLastBarMayChange(sum, 10, 13, 5, 15);
+    }
+
+    @Test
+    public void onMovingBarSeries() {
+        data.setMaximumBarCount(4);
+        RunningSumIndicator sum = new RunningSumIndicator(new ClosePriceIndicator(data), 3);
+        int previous = 2;
+        int beforePrevious = 3;
+        for (int i = 0; i < 20; i++) {
+            data.addBar(new MockBar(data.getLastBar().getEndTime().plusDays(1), i, numFunction));
+            int endIndex = data.getEndIndex();
+            assertEquals(beforePrevious + previous + i, sum.getValue(endIndex).intValue());
+            beforePrevious = previous;
+            previous = i;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.pivotpoints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+
+public class PeriodIndexTest {
+
+    private static final ZonedDateTime MONDAY = ZonedDateTime.of(2021, 3, 1, 10, 0, 0, 0, ZoneId.systemDefault());
+
+    private static BarSeries series(ZonedDateTime... endTimes) {
+        BarSeries series = new BaseBarSeries();
+        for (int i = 0; i < endTimes.length; i++) {
+            series.addBar(endTimes[i], 10 + i, 20 + i, 5 + i, 15 + i, 100);
+        }
+        return series;
+    }
+
+    private static void assertPeriod(int beginIndex, int endIndex, PeriodBars period) {
+        assertEquals(beginIndex, period.getBeginIndex());
+        assertEquals(endIndex, period.getEndIndex());
+    }
+
+    @Test
+    public void previousDaySkippingDaysWithoutBars() {
+        BarSeries series = series(MONDAY, MONDAY.plusHours(1), MONDAY.plusDays(1), MONDAY.plusDays(3),
+                MONDAY.plusDays(4));
+        PeriodIndex index = new PeriodIndex(series, TimeLevel.DAY);
+
+        assertNull(index.getPreviousPeriod(0));
+        assertNull(index.getPreviousPeriod(1));
+        PeriodBars monday = index.getPreviousPeriod(2);
+        assertPeriod(0, 1, monday);
+        assertNumEquals(10, monday.getOpenPrice());
+        assertNumEquals(21, monday.getHighPrice());
+        assertNumEquals(5, monday.getLowPrice());
+        assertNumEquals(16, monday.getClosePrice());
+        assertPeriod(2, 2, index.getPreviousPeriod(3));
+        assertPeriod(3, 3, index.getPreviousPeriod(4));
+    }
+
+    @Test
+    public void sameValuesInAnyOrder() {
+        BarSeries series = series(MONDAY, MONDAY.plusHours(1), MONDAY.plusDays(1), MONDAY.plusDays(1).plusHours(1),
+                MONDAY.plusDays(3), MONDAY.plusDays(4));
+        PeriodIndex descending = new PeriodIndex(series, TimeLevel.DAY);
+        for (int i = series.getEndIndex(); i >= 0; i--) {
+            PeriodIndex fresh = new PeriodIndex(series, TimeLevel.DAY);
+            assertEquals(String.valueOf(fresh.getPreviousPeriod(i)), String.valueOf(descending.getPreviousPeriod(i)));
+        }
+        assertPeriod(2, 3, descending.getPreviousPeriod(4));
+    }
+
+    @Test
+    public void previousDayAcrossTheEndOfTheYear() {
+        ZonedDateTime lastDay = ZonedDateTime.of(2020, 12, 30, 10, 0, 0, 0, ZoneId.systemDefault());
+        BarSeries series = series(lastDay, lastDay.plusDays(1), lastDay.plusDays(3), lastDay.plusDays(4));
+        PeriodIndex index = new PeriodIndex(series, TimeLevel.DAY);
+
+        assertPeriod(0, 0, index.getPreviousPeriod(1));
+        // Jan 2 (no bar on Jan 1): the previous day is Dec 31
+        assertPeriod(1, 1, index.getPreviousPeriod(2));
+        assertPeriod(2, 2, index.getPreviousPeriod(3));
+    }
+
+    @Test
+    public void periodsStartAtTheFirstRemainingBar() {
+        BarSeries series = series(MONDAY, MONDAY.plusHours(1), MONDAY.plusDays(1), MONDAY.plusDays(1).plusHours(1),
+                MONDAY.plusDays(2), MONDAY.plusDays(3));
+        series.setMaximumBarCount(3);
+        assertEquals(3, series.getRemovedBarsCount());
+        PeriodIndex index = new PeriodIndex(series, TimeLevel.DAY);
+
+        assertNull(index.getPreviousPeriod(3));
+        assertPeriod(3, 3, index.getPreviousPeriod(4));
+        assertPeriod(4, 4, index.getPreviousPeriod(5));
+    }
+
+    @Test
+    public void previousWeekOnly() {
+        BarSeries series = series(MONDAY, MONDAY.plusDays(1), MONDAY.plusWeeks(1), MONDAY.plusWeeks(3));
+        PeriodIndex index = new PeriodIndex(series, TimeLevel.WEEK);
+
+        assertNull(index.getPreviousPeriod(1));
+        assertPeriod(0, 1, index.getPreviousPeriod(2));
+        // The previous week has no bar
+        assertNull(index.getPreviousPeriod(3));
+    }
+
+    @Test
+    public void previousBar() {
+        BarSeries series = series(MONDAY, MONDAY.plusDays(1));
+        PeriodIndex index = new PeriodIndex(series, TimeLevel.BARBASED);
+
+        assertPeriod(0, 0, index.getPreviousPeriod(0));
+        assertPeriod(0, 0, index.getPreviousPeriod(1));
+    }
+}
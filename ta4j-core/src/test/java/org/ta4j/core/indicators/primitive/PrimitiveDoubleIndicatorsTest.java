@@ -0,0 +1,235 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.primitive;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.StochasticOscillatorDIndicator;
+import org.ta4j.core.indicators.StochasticOscillatorKIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsLowerIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.OverIndicatorRule;
+
+public class PrimitiveDoubleIndicatorsTest extends AbstractIndicatorTest<DoubleIndicator, Num> {
+
+    private static final double DELTA = 1e-6;
+
+    private BarSeries series;
+
+    public PrimitiveDoubleIndicatorsTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        series = new BaseBarSeriesBuilder().withNumTypeOf(numFunction).build();
+        Random random = new Random(42);
+        ZonedDateTime time = ZonedDateTime.now().minusDays(200);
+        double close = 100;
+        for (int i = 0; i < 200; i++) {
+            double open = close;
+            close = Math.max(1, open + random.nextGaussian() * 2);
+            double high = Math.max(open, close) + random.nextDouble();
+            double low = Math.min(open, close) - random.nextDouble();
+            series.addBar(new MockBar(time.plusDays(i), open, close, high, low, 0, 1000, 0, numFunction));
+        }
+    }
+
+    private static void assertSameValues(Indicator<Num> expected, DoubleIndicator actual) {
+        for (int i = expected.getBarSeries().getBeginIndex(); i <= expected.getBarSeries().getEndIndex(); i++) {
+            Num value = expected.getValue(i);
+            if (value.isNaN()) {
+                assertTrue(Double.isNaN(actual.getDouble(i)));
+            } else {
+                assertEquals("index " + i, value.doubleValue(), actual.getDouble(i), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void movingAverages() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        ClosePriceDoubleIndicator closeDouble = new ClosePriceDoubleIndicator(series);
+        assertSameValues(closePrice, closeDouble);
+        assertSameValues(new SMAIndicator(closePrice, 14), new SMADoubleIndicator(closeDouble, 14));
+        assertSameValues(new EMAIndicator(closePrice, 14), new EMADoubleIndicator(closeDouble, 14));
+        assertSameValues(new MACDIndicator(closePrice, 12, 26), new MACDDoubleIndicator(closeDouble, 12, 26));
+    }
+
+    @Test
+    public void oscillators() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        ClosePriceDoubleIndicator closeDouble = new ClosePriceDoubleIndicator(series);
+        assertSameValues(new RSIIndicator(closePrice, 14), new RSIDoubleIndicator(closeDouble, 14));
+        assertSameValues(new ATRIndicator(series, 14), new ATRDoubleIndicator(series, 14));
+
+        StochasticOscillatorKIndicator k = new StochasticOscillatorKIndicator(series, 14);
+        StochasticOscillatorKDoubleIndicator kDouble = new StochasticOscillatorKDoubleIndicator(series, 14);
+        assertSameValues(k, kDouble);
+        assertSameValues(new StochasticOscillatorDIndicator(k), new StochasticOscillatorDDoubleIndicator(kDouble));
+    }
+
+    @Test
+    public void bollingerBands() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        BollingerBandsMiddleIndicator middle = new BollingerBandsMiddleIndicator(new SMAIndicator(closePrice, 20));
+        StandardDeviationIndicator deviation = new StandardDeviationIndicator(closePrice, 20);
+
+        ClosePriceDoubleIndicator closeDouble = new ClosePriceDoubleIndicator(series);
+        SMADoubleIndicator middleDouble = new SMADoubleIndicator(closeDouble, 20);
+        StandardDeviationDoubleIndicator deviationDouble = new StandardDeviationDoubleIndicator(closeDouble, 20);
+
+        assertSameValues(deviation, deviationDouble);
+        assertSameValues(new BollingerBandsUpperIndicator(middle, deviation),
+                new BollingerBandsUpperDoubleIndicator(middleDouble, deviationDouble));
+        assertSameValues(new BollingerBandsLowerIndicator(middle, deviation, numOf(1.5)),
+                new BollingerBandsLowerDoubleIndicator(middleDouble, deviationDouble, 1.5));
+    }
+
+    @Test
+    public void adapters() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        EMAIndicator ema = new EMAIndicator(closePrice, 10);
+        assertSameValues(ema, new EMADoubleIndicator(new NumToDoubleIndicator(closePrice), 10));
+
+        DoubleToNumIndicator emaNum = new DoubleToNumIndicator(
+                new EMADoubleIndicator(new ClosePriceDoubleIndicator(series), 10));
+        assertEquals(numFunction.apply(1).getClass(), emaNum.getValue(10).getClass());
+        assertSameValues(ema, new NumToDoubleIndicator(emaNum));
+
+        // the adapted indicators behave as the Num ones in the rules
+        SMAIndicator sma = new SMAIndicator(closePrice, 30);
+        DoubleToNumIndicator smaNum = new DoubleToNumIndicator(
+                new SMADoubleIndicator(new ClosePriceDoubleIndicator(series), 30));
+        CrossedUpIndicatorRule crossedUp = new CrossedUpIndicatorRule(ema, sma);
+        CrossedUpIndicatorRule crossedUpDouble = new CrossedUpIndicatorRule(emaNum, smaNum);
+        OverIndicatorRule over = new OverIndicatorRule(ema, sma);
+        OverIndicatorRule overDouble = new OverIndicatorRule(emaNum, smaNum);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            assertEquals(crossedUp.isSatisfied(i), crossedUpDouble.isSatisfied(i));
+            assertEquals(over.isSatisfied(i), overDouble.isSatisfied(i));
+        }
+    }
+
+    @Test
+    public void computeRange() {
+        SMADoubleIndicator sma = new SMADoubleIndicator(new ClosePriceDoubleIndicator(series), 14);
+        SMADoubleIndicator expected = new SMADoubleIndicator(new ClosePriceDoubleIndicator(series), 14);
+        double[] out = new double[series.getBarCount()];
+
+        // partially cached
+        sma.getDouble(50);
+        sma.computeRange(0, out.length, out);
+        for (int i = 0; i < out.length; i++) {
+            assertEquals("index " + i, expected.getDouble(i), out[i], 0);
+        }
+
+        double[] partial = new double[10];
+        sma.computeRange(out.length - 10, out.length, partial);
+        assertEquals(out[out.length - 10], partial[0], 0);
+        assertEquals(out[out.length - 1], partial[9], 0);
+
+        DoubleToNumIndicator smaNum = new DoubleToNumIndicator(sma);
+        smaNum.computeRange(20, 30, partial);
+        assertEquals(out[20], partial[0], 0);
+        assertEquals(out[29], partial[9], 0);
+    }
+
+    @Test
+    public void computeRangeOnMovingBarSeries() {
+        BarSeries movingSeries = new MockBarSeries(numFunction, 1, 2, 3, 4, 5, 6);
+        movingSeries.setMaximumBarCount(4);
+        SMADoubleIndicator sma = new SMADoubleIndicator(new ClosePriceDoubleIndicator(movingSeries), 2);
+        double[] out = new double[movingSeries.getEndIndex() + 1];
+        sma.computeRange(0, out.length, out);
+        for (int i = 0; i < out.length; i++) {
+            assertEquals("index " + i, sma.getDouble(i), out[i], 0);
+        }
+    }
+
+    @Test
+    public void nanIsConvertedToNaNNum() {
+        BarSeries flatSeries = new MockBarSeries(numFunction, 1, 1, 1, 1);
+        DoubleToNumIndicator k = new DoubleToNumIndicator(
+                new StochasticOscillatorKDoubleIndicator(new ClosePriceDoubleIndicator(flatSeries), 3,
+                        new ClosePriceDoubleIndicator(flatSeries), new ClosePriceDoubleIndicator(flatSeries)));
+        assertTrue(k.getValue(2).isNaN());
+    }
+
+    @Test
+    public void lastBarIsNotCached() {
+        BarSeries liveSeries = new MockBarSeries(numFunction, 1, 2, 3, 4);
+        SMADoubleIndicator sma = new SMADoubleIndicator(new ClosePriceDoubleIndicator(liveSeries), 2);
+        assertEquals(3.5, sma.getDouble(3), DELTA);
+        liveSeries.addPrice(numOf(6));
+        assertEquals(4.5, sma.getDouble(3), DELTA);
+        assertEquals(2.5, sma.getDouble(2), DELTA);
+    }
+
+    @Test
+    public void onMovingBarSeries() {
+        BarSeries movingSeries = new MockBarSeries(numFunction, 1, 2, 3, 4, 5, 6);
+        movingSeries.setMaximumBarCount(4);
+        EMADoubleIndicator ema = new EMADoubleIndicator(new ClosePriceDoubleIndicator(movingSeries), 3);
+        for (int i = 0; i < 30; i++) {
+            movingSeries
+                    .addBar(new MockBar(movingSeries.getLastBar().getEndTime().plusDays(1), 7 + i % 5, numFunction));
+            assertEquals(movingSeries.getRemovedBarsCount() + 3, movingSeries.getEndIndex());
+            for (int j = movingSeries.getRemovedBarsCount(); j <= movingSeries.getEndIndex(); j++) {
+                assertFalse(Double.isNaN(ema.getDouble(j)));
+            }
+            int endIndex = movingSeries.getEndIndex();
+            double previous = ema.getDouble(endIndex - 1);
+            double close = movingSeries.getBar(endIndex).getClosePrice().doubleValue();
+            assertEquals((close - previous) * 0.5 + previous, ema.getDouble(endIndex), DELTA);
+        }
+        // removed bars: first remaining value
+        assertEquals(ema.getDouble(movingSeries.getRemovedBarsCount()), ema.getDouble(0), 0);
+    }
+}
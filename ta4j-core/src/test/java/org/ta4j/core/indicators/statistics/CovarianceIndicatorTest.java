@@ -23,7 +23,9 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import static org.junit.Assert.assertEquals;
 import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.TestUtils.assertSameValuesInAnyOrder;
 
 import java.time.ZonedDateTime;
 import java.util.function.Function;
@@ -114,4 +116,23 @@ public class CovarianceIndicatorTest extends AbstractIndicatorTest<Indicator<Num
         assertNumEquals(0, covar.getValue(3));
         assertNumEquals(0, covar.getValue(8));
     }
+
+    @Test
+    public void sameValuesInAnyOrder() {
+        assertSameValuesInAnyOrder(() -> new CovarianceIndicator(close, volume, 5), null);
+    }
+
+    @Test
+    public void sharedCoMoments() {
+        CoMomentsIndicator coMoments = new CoMomentsIndicator(close, volume, 5);
+        CovarianceIndicator covar = new CovarianceIndicator(coMoments);
+        CorrelationCoefficientIndicator coef = new CorrelationCoefficientIndicator(coMoments);
+        PearsonCorrelationIndicator pearson = new PearsonCorrelationIndicator(coMoments);
+        assertNumEquals(156, covar.getValue(4));
+        assertNumEquals(0.9219, coef.getValue(4));
+        assertNumEquals(0.9219, pearson.getValue(4));
+        assertNumEquals(33.4, covar.getValue(19));
+        assertEquals(5, coMoments.getValue(19).getCount());
+        assertEquals(5, coMoments.getBarCount());
+    }
 }
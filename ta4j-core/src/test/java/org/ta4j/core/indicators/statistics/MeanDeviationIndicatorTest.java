@@ -23,7 +23,10 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import static org.ta4j.core.TestUtils.assertLastBarMayChange;
 import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.TestUtils.assertSameValuesInAnyOrder;
+import static org.ta4j.core.TestUtils.randomValues;
 
 import java.util.function.Function;
 
@@ -72,4 +75,31 @@ public class MeanDeviationIndicatorTest extends AbstractIndicatorTest<Indicator<
         assertNumEquals(0, meanDeviation.getValue(2));
         assertNumEquals(0, meanDeviation.getValue(7));
     }
+
+    @Test
+    public void sameValuesInAnyOrder() {
+        double[] values = randomValues(300, 100, 1);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockBarSeries(numFunction, values));
+        assertSameValuesInAnyOrder(() -> new MeanDeviationIndicator(closePrice, 20), i -> {
+            int startIndex = Math.max(0, i - 19);
+            double mean = 0;
+            for (int j = startIndex; j <= i; j++) {
+                mean += values[j];
+            }
+            mean /= i - startIndex + 1;
+            double expected = 0;
+            for (int j = startIndex; j <= i; j++) {
+                expected += Math.abs(values[j] - mean);
+            }
+            return expected / (i - startIndex + 1);
+        });
+    }
+
+    @Test
+    public void lastBarMayChange() {
+        MeanDeviationIndicator meanDeviation = new MeanDeviationIndicator(new ClosePriceIndicator(data), 5);
+        assertNumEquals(2.72, meanDeviation.getValue(9));
+        assertNumEquals(3.52, meanDeviation.getValue(10));
+        assertLastBarMayChange(meanDeviation, 3, 2.88, 6, 3.12);
+    }
 }
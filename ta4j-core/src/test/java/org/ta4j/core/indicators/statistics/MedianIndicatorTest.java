@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import static org.ta4j.core.TestUtils.assertLastBarMayChange;
+import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.TestUtils.assertSameValuesInAnyOrder;
+import static org.ta4j.core.TestUtils.randomValues;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class MedianIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries data;
+
+    public MedianIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        data = new MockBarSeries(numFunction, 1, 2, 7, 6, 3, 4, 5, 11, 3, 0, 9);
+    }
+
+    @Test
+    public void medianUsingBarCount4UsingClosePrice() {
+        MedianIndicator median = new MedianIndicator(new ClosePriceIndicator(data), 4);
+
+        assertNumEquals(1, median.getValue(0));
+        assertNumEquals(1.5, median.getValue(1));
+        assertNumEquals(2, median.getValue(2));
+        assertNumEquals(4, median.getValue(3));
+        assertNumEquals(4.5, median.getValue(4));
+        assertNumEquals(4.5, median.getValue(7));
+        assertNumEquals(4.5, median.getValue(8));
+        assertNumEquals(4, median.getValue(9));
+        assertNumEquals(6, median.getValue(10));
+    }
+
+    @Test
+    public void sameValuesInAnyOrder() {
+        double[] values = randomValues(300, 100, 1);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockBarSeries(numFunction, values));
+        assertSameValuesInAnyOrder(() -> new MedianIndicator(closePrice, 21), i -> {
+            double[] window = Arrays.copyOfRange(values, Math.max(0, i - 20), i + 1);
+            Arrays.sort(window);
+            int n = window.length;
+            return n % 2 == 1 ? window[n / 2] : (window[n / 2 - 1] + window[n / 2]) / 2;
+        });
+    }
+
+    @Test
+    public void lastBarMayChange() {
+        MedianIndicator median = new MedianIndicator(new ClosePriceIndicator(data), 3);
+        assertNumEquals(3, median.getValue(9));
+        assertNumEquals(3, median.getValue(10));
+        assertLastBarMayChange(median, -1, 0, 5, 0);
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import static org.ta4j.core.TestUtils.assertNumEquals;
+
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class PercentileIndicatorTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private BarSeries data;
+
+    public PercentileIndicatorTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        data = new MockBarSeries(numFunction, 1, 2, 7, 6, 3, 4, 5, 11, 3, 0, 9);
+    }
+
+    @Test
+    public void percentilesUsingBarCount5UsingClosePrice() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(data);
+        PercentileIndicator lowest = new PercentileIndicator(closePrice, 5, 0);
+        PercentileIndicator quartile = new PercentileIndicator(closePrice, 5, 25);
+        PercentileIndicator median = new PercentileIndicator(closePrice, 5, 50);
+        PercentileIndicator ninetieth = new PercentileIndicator(closePrice, 5, 90);
+        PercentileIndicator highest = new PercentileIndicator(closePrice, 5, 100);
+
+        // Window of index 8: 3, 4, 5, 11, 3 -> sorted 3, 3, 4, 5, 11
+        assertNumEquals(3, lowest.getValue(8));
+        assertNumEquals(3, quartile.getValue(8));
+        assertNumEquals(4, median.getValue(8));
+        assertNumEquals(8.6, ninetieth.getValue(8));
+        assertNumEquals(11, highest.getValue(8));
+
+        // Window of index 1: 1, 2
+        assertNumEquals(1.25, quartile.getValue(1));
+        assertNumEquals(1.5, median.getValue(1));
+        assertNumEquals(2, highest.getValue(1));
+    }
+
+    @Test
+    public void medianPercentileIsTheMedian() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(data);
+        PercentileIndicator percentile = new PercentileIndicator(closePrice, 4, 50);
+        MedianIndicator median = new MedianIndicator(closePrice, 4);
+        for (int i = data.getBeginIndex(); i <= data.getEndIndex(); i++) {
+            assertNumEquals(median.getValue(i).doubleValue(), percentile.getValue(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentileOutOfBounds() {
+        new PercentileIndicator(new ClosePriceIndicator(data), 5, 101);
+    }
+}
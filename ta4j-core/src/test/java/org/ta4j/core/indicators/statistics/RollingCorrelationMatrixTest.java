@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicatorTest;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.num.Num;
+
+public class RollingCorrelationMatrixTest extends AbstractIndicatorTest<Indicator<Num>, Num> {
+
+    private static final double DELTA = 1e-9;
+
+    private List<Indicator<Num>> closePrices;
+
+    public RollingCorrelationMatrixTest(Function<Number, Num> numFunction) {
+        super(numFunction);
+    }
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        closePrices = new ArrayList<>();
+        double[] common = new double[200];
+        for (int t = 0; t < common.length; t++) {
+            common[t] = random.nextGaussian();
+        }
+        for (int i = 0; i < 5; i++) {
+            double[] values = new double[common.length];
+            double price = 10_000 * (i + 1);
+            for (int t = 0; t < values.length; t++) {
+                // Correlated random walks around a large price
+                price += (i % 2 == 0 ? 1 : -1) * common[t] + random.nextGaussian() * i;
+                values[t] = price;
+            }
+            closePrices.add(new ClosePriceIndicator(new MockBarSeries(numFunction, values)));
+        }
+    }
+
+    @Test
+    public void sameAsCorrelationCoefficients() {
+        RollingCorrelationMatrix matrix = new RollingCorrelationMatrix(closePrices, 20);
+        assertEquals(5, matrix.getSize());
+        List<CorrelationCoefficientIndicator[]> coefficients = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CorrelationCoefficientIndicator[] row = new CorrelationCoefficientIndicator[5];
+            for (int j = 0; j < 5; j++) {
+                row[j] = new CorrelationCoefficientIndicator(closePrices.get(i), closePrices.get(j), 20);
+            }
+            coefficients.add(row);
+        }
+        for (int index = 1; index < 200; index++) {
+            double[][] correlations = matrix.getMatrix(index);
+            for (int i = 0; i < 5; i++) {
+                for (int j = 0; j < 5; j++) {
+                    assertEquals(coefficients.get(i)[j].getValue(index).doubleValue(), correlations[i][j], 1e-6);
+                    assertEquals(correlations[i][j], correlations[j][i], 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sameMatrixInAnyOrder() {
+        RollingCorrelationMatrix rolling = new RollingCorrelationMatrix(closePrices, 30);
+        RollingCorrelationMatrix sequential = new RollingCorrelationMatrix(closePrices, 30, false);
+        double[][][] rollingMatrices = new double[200][][];
+        for (int index = 0; index < 200; index++) {
+            rollingMatrices[index] = rolling.getMatrix(index);
+        }
+        for (int index = 199; index >= 0; index -= 7) {
+            double[][] correlations = sequential.getMatrix(index);
+            for (int i = 0; i < 5; i++) {
+                for (int j = 0; j < 5; j++) {
+                    assertEquals(correlations[i][j], rollingMatrices[index][i][j], DELTA);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void constantIndicatorIsNaN() {
+        List<Indicator<Num>> indicators = new ArrayList<>(closePrices);
+        indicators.add(new ClosePriceIndicator(new MockBarSeries(numFunction, new double[200])));
+        double[][] correlations = new RollingCorrelationMatrix(indicators, 10).getMatrix(50);
+        assertTrue(Double.isNaN(correlations[5][5]));
+        assertTrue(Double.isNaN(correlations[0][5]));
+        assertEquals(1, correlations[0][0], DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void barCountMustBePositive() {
+        new RollingCorrelationMatrix(closePrices, 0);
+    }
+}
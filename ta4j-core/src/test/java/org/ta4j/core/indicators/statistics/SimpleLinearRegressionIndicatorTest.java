@@ -25,7 +25,10 @@ package org.ta4j.core.indicators.statistics;
 
 import static org.junit.Assert.assertTrue;
 import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.TestUtils.assertSameValuesInAnyOrder;
+import static org.ta4j.core.TestUtils.randomValues;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
 import org.apache.commons.math3.stat.regression.SimpleRegression;
@@ -34,6 +37,7 @@ import org.junit.Test;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicatorTest;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.SimpleLinearRegressionIndicator.SimpleLinearRegressionType;
 import org.ta4j.core.mocks.MockBarSeries;
 import org.ta4j.core.num.Num;
 
@@ -107,6 +111,29 @@ public class SimpleLinearRegressionIndicatorTest extends AbstractIndicatorTest<I
         assertNumEquals(origReg.predict(4), reg.getValue(4));
     }
 
+    @Test
+    public void sameValuesInAnyOrder() {
+        double[] values = randomValues(300, 10_000, 100);
+        for (int i = 0; i < values.length; i++) {
+            values[i] += 1000;
+        }
+        ClosePriceIndicator indicator = new ClosePriceIndicator(new MockBarSeries(numFunction, values));
+        assertSameValuesInAnyOrder(() -> new SimpleLinearRegressionIndicator(indicator, 20),
+                i -> regression(values, i).predict(i - Math.max(0, i - 19)));
+        assertSameValuesInAnyOrder(
+                () -> new SimpleLinearRegressionIndicator(indicator, 20, SimpleLinearRegressionType.SLOPE),
+                i -> regression(values, i).getSlope());
+    }
+
+    /**
+     * @param values values
+     * @param index  the last index of the window
+     * @return a simple linear regression of the window of 20 values ending at index
+     */
+    private static SimpleRegression regression(double[] values, int index) {
+        return buildSimpleRegression(Arrays.copyOfRange(values, Math.max(0, index - 19), index + 1));
+    }
+
     /**
      * @param values values
      * @return a simple linear regression based on provided values
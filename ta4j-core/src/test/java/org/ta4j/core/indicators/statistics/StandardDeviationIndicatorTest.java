@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import static org.ta4j.core.TestUtils.assertComputeRange;
 import static org.ta4j.core.TestUtils.assertNumEquals;
 
 import java.util.function.Function;
@@ -71,4 +72,9 @@ public class StandardDeviationIndicatorTest extends AbstractIndicatorTest<Indica
         assertNumEquals(0, sdv.getValue(3));
         assertNumEquals(0, sdv.getValue(8));
     }
+
+    @Test
+    public void computeRange() {
+        assertComputeRange(new StandardDeviationIndicator(new ClosePriceIndicator(data), 4));
+    }
 }
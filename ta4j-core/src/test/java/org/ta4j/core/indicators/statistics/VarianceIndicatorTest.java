@@ -23,7 +23,12 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import static org.junit.Assert.assertEquals;
+import static org.ta4j.core.TestUtils.assertComputeRange;
+import static org.ta4j.core.TestUtils.assertLastBarMayChange;
 import static org.ta4j.core.TestUtils.assertNumEquals;
+import static org.ta4j.core.TestUtils.assertSameValuesInAnyOrder;
+import static org.ta4j.core.TestUtils.randomValues;
 
 import java.util.function.Function;
 
@@ -89,4 +94,64 @@ public class VarianceIndicatorTest extends AbstractIndicatorTest<Indicator<Num>,
         assertNumEquals(2.25, var.getValue(9));
         assertNumEquals(20.25, var.getValue(10));
     }
+
+    @Test
+    public void sharedMoments() {
+        MomentsIndicator moments = new MomentsIndicator(new ClosePriceIndicator(data), 4);
+        VarianceIndicator var = new VarianceIndicator(moments);
+        StandardDeviationIndicator sdev = new StandardDeviationIndicator(moments);
+        assertNumEquals(0.5, var.getValue(7));
+        assertNumEquals(Math.sqrt(0.5), sdev.getValue(7));
+        assertNumEquals(4, moments.getValue(7).getMean());
+        assertEquals(4, moments.getValue(7).getCount());
+        assertNumEquals(0, new VarianceIndicator(moments).getValue(0));
+    }
+
+    @Test
+    public void sameValuesInAnyOrder() {
+        double[] values = randomValues(300, 10_000, 100);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockBarSeries(numFunction, values));
+        assertSameValuesInAnyOrder(() -> new VarianceIndicator(closePrice, 20), i -> {
+            int startIndex = Math.max(0, i - 19);
+            double mean = 0;
+            for (int j = startIndex; j <= i; j++) {
+                mean += values[j];
+            }
+            mean /= i - startIndex + 1;
+            double expected = 0;
+            for (int j = startIndex; j <= i; j++) {
+                expected += (values[j] - mean) * (values[j] - mean);
+            }
+            return expected / (i - startIndex + 1);
+        });
+    }
+
+    @Test
+    public void stableWithLargeValues() {
+        // Small variations of a large value: a naive sum of squares loses the
+        // variance in double precision
+        double[] values = new double[2000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000_000_000 + (i % 2 == 0 ? 0.5 : -0.5);
+        }
+        VarianceIndicator var = new VarianceIndicator(new ClosePriceIndicator(new MockBarSeries(numFunction, values)),
+                100);
+        for (int i = 100; i < values.length; i++) {
+            assertNumEquals(0.25, var.getValue(i));
+        }
+    }
+
+    @Test
+    public void computeRange() {
+        assertComputeRange(new VarianceIndicator(new ClosePriceIndicator(data), 4));
+        assertComputeRange(new VarianceIndicator(new ClosePriceIndicator(data), 1));
+    }
+
+    @Test
+    public void lastBarMayChange() {
+        VarianceIndicator var = new VarianceIndicator(new ClosePriceIndicator(data), 2);
+        assertNumEquals(2.25, var.getValue(9));
+        assertNumEquals(20.25, var.getValue(10));
+        assertLastBarMayChange(var, 2, 1, 4, 1);
+    }
 }
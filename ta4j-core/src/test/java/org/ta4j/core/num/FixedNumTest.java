@@ -0,0 +1,188 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.num;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.num.NaN.NaN;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+
+public class FixedNumTest {
+
+    private static Num num(String value) {
+        return FixedNum.valueOf(value);
+    }
+
+    private static void assertFixedNum(String expected, Num actual) {
+        assertEquals(FixedNum.class, actual.getClass());
+        assertEquals(0, new BigDecimal(expected).compareTo(((FixedNum) actual).getDelegate()));
+    }
+
+    @Test
+    public void valueOf() {
+        assertFixedNum("1.23456789", num("1.23456789"));
+        assertFixedNum("0.1", FixedNum.valueOf(0.1));
+        assertFixedNum("42", FixedNum.valueOf(42));
+        assertFixedNum("0.00000001", num("0.000000005"));
+        assertFixedNum("-0.00000001", num("-0.000000005"));
+        assertFixedNum("0.12", FixedNum.valueOf(0.123, 2));
+        // doubles are rounded as their decimal representation
+        assertFixedNum("0.29", FixedNum.valueOf(0.285, 2));
+        assertEquals(FixedNum.valueOf("0.285", 2), FixedNum.valueOf(0.285, 2));
+        assertFixedNum("-1.01", FixedNum.valueOf(-1.005, 2));
+        assertFixedNum("123456789012.35", FixedNum.valueOf(123456789012.345, 2));
+        assertEquals("0.10000000", FixedNum.valueOf(0.1).toString());
+        assertEquals(12345678L, ((FixedNum) num("0.12345678")).getUnscaledValue());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void valueOfNaN() {
+        FixedNum.valueOf(Double.NaN);
+    }
+
+    @Test
+    public void exactAdditions() {
+        assertFixedNum("0.3", num("0.1").plus(num("0.2")));
+        assertFixedNum("-0.1", num("0.1").minus(num("0.2")));
+        Num sum = num("0");
+        for (int i = 0; i < 1000; i++) {
+            sum = sum.plus(num("0.001"));
+        }
+        assertFixedNum("1", sum);
+
+        // different scales: the result has the larger one
+        Num mixed = FixedNum.valueOf("1.25", 2).plus(FixedNum.valueOf("0.125", 3));
+        assertEquals(FixedNum.class, mixed.getClass());
+        assertEquals(3, ((FixedNum) mixed).getScale());
+        assertFixedNum("1.375", mixed);
+        Num difference = FixedNum.valueOf("0.125", 3).minus(FixedNum.valueOf("1.25", 2));
+        assertEquals(FixedNum.class, difference.getClass());
+        assertFixedNum("-1.125", difference);
+    }
+
+    @Test
+    public void multiplicationsAndDivisions() {
+        assertFixedNum("8381.0205", num("123.45").multipliedBy(num("67.89")));
+        assertFixedNum("-500001.54320975", num("40000.12345678").multipliedBy(num("-12.5")));
+        assertFixedNum("0.00000001", num("0.00000001").multipliedBy(num("0.5")));
+        assertFixedNum("0.33333333", num("1").dividedBy(num("3")));
+        assertFixedNum("0.66666667", num("2").dividedBy(num("3")));
+        assertFixedNum("-0.66666667", num("-2").dividedBy(num("3")));
+        assertFixedNum("0.000025", num("1").dividedBy(num("40000")));
+        assertFixedNum("333333333.33333333", num("10").dividedBy(num("0.00000003")));
+        assertFixedNum("0.5", num("3.5").remainder(num("1.5")));
+        assertSame(NaN, num("1").dividedBy(num("0")));
+    }
+
+    @Test
+    public void sameResultsAsBigDecimal() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            BigDecimal a = BigDecimal.valueOf(random.nextLong() % 10_000_000_000_000L, 8);
+            BigDecimal b = BigDecimal.valueOf(random.nextLong() % (i % 2 == 0 ? 100_000_000L : 1_000_000_000_000L), 8);
+            if (b.signum() == 0) {
+                continue;
+            }
+            Num fixedA = FixedNum.valueOf(a, 8);
+            Num fixedB = FixedNum.valueOf(b, 8);
+            assertEquals(0, a.add(b).compareTo(((FixedNum) fixedA.plus(fixedB)).getDelegate()));
+            assertEquals(0, a.subtract(b).compareTo(((FixedNum) fixedA.minus(fixedB)).getDelegate()));
+            assertEquals(a.multiply(b).setScale(8, RoundingMode.HALF_UP), fixedA.multipliedBy(fixedB).getDelegate());
+            assertEquals(a.divide(b, 8, RoundingMode.HALF_UP), fixedA.dividedBy(fixedB).getDelegate());
+        }
+    }
+
+    @Test
+    public void overflowFallsBackToDecimalNum() {
+        Num big = FixedNum.valueOf(90_000_000_000L);
+        assertEquals(FixedNum.class, big.getClass());
+        Num product = big.multipliedBy(FixedNum.valueOf(1000));
+        assertEquals(DecimalNum.class, product.getClass());
+        assertEquals(0, new BigDecimal("90000000000000").compareTo((BigDecimal) product.getDelegate()));
+        assertEquals(DecimalNum.class, big.plus(big).getClass());
+        assertEquals(DecimalNum.class, FixedNum.valueOf(Long.MAX_VALUE).getClass());
+
+        // the fallback values can be combined with the fixed ones
+        Num one = FixedNum.valueOf(1);
+        assertEquals(0, new BigDecimal("90000000000001").compareTo((BigDecimal) product.plus(one).getDelegate()));
+        assertEquals(0, new BigDecimal("90000000000001").compareTo((BigDecimal) one.plus(product).getDelegate()));
+        assertTrue(product.isGreaterThan(big));
+        assertTrue(big.isLessThan(product));
+        assertTrue(product.dividedBy(FixedNum.valueOf(1000)).isEqual(big));
+    }
+
+    @Test
+    public void roundings() {
+        assertFixedNum("1", num("1.5").floor());
+        assertFixedNum("2", num("1.5").ceil());
+        assertFixedNum("-2", num("-1.5").floor());
+        assertFixedNum("-1", num("-1.5").ceil());
+        assertFixedNum("3", num("3").ceil());
+        assertFixedNum("15.625", num("2.5").pow(3));
+        assertFixedNum("0.4", num("2.5").pow(-1));
+        assertFixedNum("1.41421356", num("2").sqrt());
+        assertSame(NaN, num("-2").sqrt());
+        assertFixedNum("1.5", num("-1.5").abs());
+    }
+
+    @Test
+    public void comparisons() {
+        Num a = FixedNum.valueOf(1.5, 8);
+        Num b = FixedNum.valueOf(1.5, 2);
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertTrue(a.isEqual(b));
+        assertTrue(num("1.5").isGreaterThan(num("1.49999999")));
+        assertTrue(num("-1").isLessThanOrEqual(num("-1")));
+        assertFalse(num("1").isEqual(NaN));
+        assertSame(NaN, num("1").max(NaN));
+        assertFalse(num("1").equals(DecimalNum.valueOf(1)));
+        assertEquals(1.5, a.doubleValue(), 0);
+    }
+
+    @Test
+    public void barSeriesOfFixedNum() {
+        BarSeries series = new BaseBarSeriesBuilder().withNumTypeOf(FixedNum.class).build();
+        assertEquals(FixedNum.class, series.numOf(1).getClass());
+        assertEquals(FixedNum.class,
+                new BaseBarSeriesBuilder().withNumTypeOf(FixedNum.functionOf(10)).build().numOf(1).getClass());
+        for (int i = 1; i <= 10; i++) {
+            series.addBar(java.time.ZonedDateTime.now().plusDays(i), i, i, i, i, 1);
+        }
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        assertFixedNum("9", sma.getValue(9));
+        assertFixedNum("1.5", sma.getValue(1));
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+
+public class MonotonicDequeTest {
+
+    private static Num num(int value) {
+        return DecimalNum.valueOf(value);
+    }
+
+    @Test
+    public void highestOfTheWindow() {
+        MonotonicDeque deque = new MonotonicDeque(3, true);
+        int[] values = { 5, 1, 3, 2, 1, 0, 4 };
+        int[] expectedIndexes = { 0, 0, 0, 2, 2, 3, 6 };
+        for (int i = 0; i < values.length; i++) {
+            deque.add(i, num(values[i]));
+            assertEquals(expectedIndexes[i], deque.getExtremumIndex());
+            assertEquals(num(values[expectedIndexes[i]]), deque.getExtremum());
+        }
+    }
+
+    @Test
+    public void lowestOfTheWindow() {
+        MonotonicDeque deque = new MonotonicDeque(3, false);
+        int[] values = { 5, 1, 3, 2, 4, 6, 0 };
+        int[] expectedIndexes = { 0, 1, 1, 1, 3, 3, 6 };
+        for (int i = 0; i < values.length; i++) {
+            deque.add(i, num(values[i]));
+            assertEquals(expectedIndexes[i], deque.getExtremumIndex());
+        }
+    }
+
+    @Test
+    public void latestOfEqualValues() {
+        MonotonicDeque deque = new MonotonicDeque(5, true);
+        deque.add(0, num(2));
+        deque.add(1, num(2));
+        assertEquals(1, deque.getExtremumIndex());
+        assertEquals(2, deque.peekExtremumIndex(2, num(2)));
+        assertEquals(1, deque.peekExtremumIndex(2, num(1)));
+    }
+
+    @Test
+    public void nanValuesAreIgnored() {
+        MonotonicDeque deque = new MonotonicDeque(2, true);
+        deque.add(0, NaN.NaN);
+        assertTrue(deque.isEmpty());
+        assertEquals(-1, deque.getExtremumIndex());
+        assertNull(deque.getExtremum());
+        deque.add(1, num(1));
+        deque.add(2, NaN.NaN);
+        assertEquals(1, deque.getExtremumIndex());
+        deque.add(3, NaN.NaN);
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    public void peekDoesNotModify() {
+        MonotonicDeque deque = new MonotonicDeque(2, true);
+        deque.add(0, num(3));
+        deque.add(1, num(1));
+        assertEquals(2, deque.peekExtremumIndex(2, num(2)));
+        assertEquals(num(2), deque.peekExtremum(2, num(2)));
+        assertEquals(1, deque.peekExtremumIndex(2, NaN.NaN));
+        assertEquals(0, deque.getExtremumIndex());
+        deque.clear();
+        assertTrue(deque.isEmpty());
+        assertNull(deque.peekExtremum(3, NaN.NaN));
+    }
+
+    @Test
+    public void storageGrowsWithTheKeptValues() {
+        // sawtooth values: the kept values wrap around the storage before it grows
+        Random random = new Random(7);
+        int windowSize = 50;
+        MonotonicDeque deque = new MonotonicDeque(windowSize, true);
+        int[] values = new int[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i / 10) % 2 == 0 ? 1000 - i : random.nextInt(1000);
+            deque.add(i, num(values[i]));
+            int expectedIndex = i;
+            for (int j = Math.max(0, i - windowSize + 1); j < i; j++) {
+                if (values[j] > values[expectedIndex]) {
+                    expectedIndex = j;
+                }
+            }
+            assertEquals("index " + i, values[expectedIndex], deque.getExtremum().intValue());
+        }
+    }
+
+    @Test
+    public void hugeWindow() {
+        MonotonicDeque deque = new MonotonicDeque(Integer.MAX_VALUE, false);
+        for (int i = 0; i < 100; i++) {
+            deque.add(i, num(100 - i));
+        }
+        assertEquals(99, deque.getExtremumIndex());
+        assertEquals(Integer.MAX_VALUE, deque.getWindowSize());
+    }
+}
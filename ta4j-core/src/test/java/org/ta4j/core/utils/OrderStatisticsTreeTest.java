@@ -0,0 +1,137 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.ta4j.core.num.DecimalNum;
+import org.ta4j.core.num.NaN;
+import org.ta4j.core.num.Num;
+
+public class OrderStatisticsTreeTest {
+
+    private static Num num(int value) {
+        return DecimalNum.valueOf(value);
+    }
+
+    @Test
+    public void valuesByRank() {
+        OrderStatisticsTree tree = new OrderStatisticsTree();
+        int[] values = { 5, 1, 3, 2, 3, 0, 4 };
+        for (int value : values) {
+            tree.add(num(value));
+        }
+        assertEquals(7, tree.size());
+        int[] sorted = { 0, 1, 2, 3, 3, 4, 5 };
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(num(sorted[i]), tree.get(i));
+        }
+        assertEquals(num(18), tree.getSum());
+    }
+
+    @Test
+    public void countAndSumLessThan() {
+        OrderStatisticsTree tree = new OrderStatisticsTree();
+        for (int value : new int[] { 4, 2, 2, 8, 6 }) {
+            tree.add(num(value));
+        }
+        assertEquals(0, tree.countLessThan(num(2)));
+        assertEquals(num(0), tree.sumLessThan(num(2)));
+        assertEquals(2, tree.countLessThan(num(3)));
+        assertEquals(num(4), tree.sumLessThan(num(3)));
+        assertEquals(4, tree.countLessThan(num(8)));
+        assertEquals(num(14), tree.sumLessThan(num(8)));
+        assertEquals(5, tree.countLessThan(num(9)));
+        assertEquals(num(22), tree.sumLessThan(num(9)));
+    }
+
+    @Test
+    public void removeOneOccurrence() {
+        OrderStatisticsTree tree = new OrderStatisticsTree();
+        tree.add(num(1));
+        tree.add(num(1));
+        assertTrue(tree.remove(num(1)));
+        assertEquals(1, tree.size());
+        assertEquals(num(1), tree.getSum());
+        assertFalse(tree.remove(num(2)));
+        assertFalse(tree.remove(NaN.NaN));
+        assertTrue(tree.remove(num(1)));
+        assertTrue(tree.isEmpty());
+        assertNull(tree.getSum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nanValuesAreNotSupported() {
+        new OrderStatisticsTree().add(NaN.NaN);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rankOutOfBounds() {
+        OrderStatisticsTree tree = new OrderStatisticsTree();
+        tree.add(num(1));
+        tree.get(1);
+    }
+
+    @Test
+    public void sameValuesAsSortedList() {
+        Random random = new Random(42);
+        OrderStatisticsTree tree = new OrderStatisticsTree();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int value = random.nextInt(50);
+                tree.add(num(value));
+                expected.add(value);
+            } else {
+                Integer value = expected.get(random.nextInt(expected.size()));
+                assertTrue(tree.remove(num(value)));
+                expected.remove(value);
+            }
+            Collections.sort(expected);
+            assertEquals(expected.size(), tree.size());
+            int rank = random.nextInt(expected.size());
+            assertEquals(num(expected.get(rank)), tree.get(rank));
+            int bound = random.nextInt(50);
+            int count = 0;
+            int sum = 0;
+            for (int value : expected) {
+                if (value < bound) {
+                    count++;
+                    sum += value;
+                }
+            }
+            assertEquals(count, tree.countLessThan(num(bound)));
+            assertEquals(num(sum), tree.sumLessThan(num(bound)));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2017 Marc de Verdelhan, 2017-2021 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class RingBufferTest {
+
+    @Test
+    public void addEvictsFirstElementWhenFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        for (int i = 0; i < 10; i++) {
+            buffer.add(i);
+        }
+        assertEquals(3, buffer.size());
+        assertEquals(Arrays.asList(7, 8, 9), buffer);
+    }
+
+    @Test
+    public void growsUntilMaximumSize() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(100);
+        for (int i = 0; i < 50; i++) {
+            buffer.add(i);
+        }
+        buffer.subList(0, 20).clear();
+        for (int i = 50; i < 120; i++) {
+            buffer.add(i);
+        }
+        assertEquals(100, buffer.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i + 20), buffer.get(i));
+        }
+    }
+
+    @Test
+    public void removeFirstAndMiddleElements() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(5, Arrays.asList(0, 1, 2, 3, 4, 5, 6));
+        assertEquals(Arrays.asList(2, 3, 4, 5, 6), buffer);
+        assertEquals(Integer.valueOf(2), buffer.remove(0));
+        buffer.add(7);
+        buffer.add(8);
+        assertEquals(Arrays.asList(4, 5, 6, 7, 8), buffer);
+        assertEquals(Integer.valueOf(6), buffer.remove(2));
+        assertEquals(Arrays.asList(4, 5, 7, 8), buffer);
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void setMaximumSize() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(10, Arrays.asList(0, 1, 2, 3, 4, 5));
+        buffer.setMaximumSize(3);
+        assertEquals(Arrays.asList(3, 4, 5), buffer);
+        buffer.add(6);
+        assertEquals(Arrays.asList(4, 5, 6), buffer);
+        buffer.setMaximumSize(5);
+        buffer.add(7);
+        buffer.add(null);
+        assertEquals(5, buffer.size());
+        assertNull(buffer.set(4, 9));
+        assertEquals(Arrays.asList(4, 5, 6, 7, 9), buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maximumSizeMustBePositive() {
+        new RingBuffer<>(0);
+    }
+}
@@ -33,6 +33,7 @@ import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
 import org.ta4j.core.Strategy;
 import org.ta4j.core.Trade;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.num.DecimalNum;
@@ -52,9 +53,11 @@ public class SimpleMovingAverageRangeBacktest {
         int stop = 50;
         int step = 5;
 
+        // The strategies share the close price indicator
+        final IndicatorRegistry registry = new IndicatorRegistry(series);
         final List<Strategy> strategies = new ArrayList<>();
         for (int i = start; i <= stop; i += step) {
-            Strategy strategy = SMAIndicatorStrategy.buildStrategy(series, i);
+            Strategy strategy = SMAIndicatorStrategy.buildStrategy(registry, i);
             strategies.add(strategy);
         }
         BacktestExecutor backtestExecutor = new BacktestExecutor(series);
@@ -85,6 +85,8 @@ public class TradingBotOnMovingBarSeries {
 
         ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
         SMAIndicator sma = new SMAIndicator(closePrice, 12);
+        // The SMA of the live bar is kept until the series notifies a change
+        series.addListener(sma);
 
         // Signals
         // Buy when SMA goes over close price
@@ -64,9 +64,11 @@ public class IndicatorsToChart {
     private static org.jfree.data.time.TimeSeries buildChartBarSeries(BarSeries barSeries, Indicator<Num> indicator,
             String name) {
         org.jfree.data.time.TimeSeries chartTimeSeries = new org.jfree.data.time.TimeSeries(name);
-        for (int i = 0; i < barSeries.getBarCount(); i++) {
+        final double[] values = new double[barSeries.getBarCount()];
+        indicator.computeRange(0, values.length, values);
+        for (int i = 0; i < values.length; i++) {
             Bar bar = barSeries.getBar(i);
-            chartTimeSeries.add(new Day(Date.from(bar.getEndTime().toInstant())), indicator.getValue(i).doubleValue());
+            chartTimeSeries.add(new Day(Date.from(bar.getEndTime().toInstant())), values[i]);
         }
         return chartTimeSeries;
     }
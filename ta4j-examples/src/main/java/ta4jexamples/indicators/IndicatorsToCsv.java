@@ -27,10 +27,13 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.ATRIndicator;
 import org.ta4j.core.indicators.EMAIndicator;
 import org.ta4j.core.indicators.PPOIndicator;
@@ -42,6 +45,7 @@ import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.helpers.PriceVariationIndicator;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.num.Num;
 
 import ta4jexamples.loaders.CsvTradesLoader;
 
@@ -92,17 +96,26 @@ public class IndicatorsToCsv {
                 "timestamp,close,typical,variation,sma8,sma20,ema8,ema20,ppo,roc,rsi,williamsr,atr,sd\n");
 
         /*
-         * Adding indicators values
+         * Computing indicators values (one column per indicator, as doubles: the values
+         * are not written with the precision of Num.toString())
          */
         final int nbBars = series.getBarCount();
+        final List<Indicator<Num>> indicators = Arrays.asList(closePrice, typicalPrice, priceVariation, shortSma,
+                longSma, shortEma, longEma, ppo, roc, rsi, williamsR, atr, sd);
+        final double[][] columns = new double[indicators.size()][nbBars];
+        for (int c = 0; c < columns.length; c++) {
+            indicators.get(c).computeRange(0, nbBars, columns[c]);
+        }
+
+        /*
+         * Adding indicators values
+         */
         for (int i = 0; i < nbBars; i++) {
-            sb.append(series.getBar(i).getEndTime()).append(',').append(closePrice.getValue(i)).append(',')
-                    .append(typicalPrice.getValue(i)).append(',').append(priceVariation.getValue(i)).append(',')
-                    .append(shortSma.getValue(i)).append(',').append(longSma.getValue(i)).append(',')
-                    .append(shortEma.getValue(i)).append(',').append(longEma.getValue(i)).append(',')
-                    .append(ppo.getValue(i)).append(',').append(roc.getValue(i)).append(',').append(rsi.getValue(i))
-                    .append(',').append(williamsR.getValue(i)).append(',').append(atr.getValue(i)).append(',')
-                    .append(sd.getValue(i)).append('\n');
+            sb.append(series.getBar(i).getEndTime());
+            for (double[] column : columns) {
+                sb.append(',').append(column[i]);
+            }
+            sb.append('\n');
         }
 
         /*
@@ -27,6 +27,7 @@ import org.ta4j.core.*;
 import org.ta4j.core.analysis.criteria.*;
 import org.ta4j.core.analysis.criteria.pnl.GrossReturnCriterion;
 import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.IndicatorRegistry;
 import org.ta4j.core.indicators.MACDIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.indicators.StochasticOscillatorKIndicator;
@@ -50,6 +51,21 @@ public class SMAIndicatorStrategy {
                 createExitRule(series, barCount));
     }
 
+    /**
+     * Builds the strategy with the indicators of a registry: the strategies built
+     * from the same registry share their close price indicator and their SMA
+     * indicators with the same bar count.
+     */
+    public static Strategy buildStrategy(IndicatorRegistry registry, int barCount) {
+        BarSeries series = registry.getBarSeries();
+        ClosePriceIndicator closePrice = registry.get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(series),
+                series);
+        SMAIndicator sma = registry.get(SMAIndicator.class, () -> new SMAIndicator(closePrice, barCount), closePrice,
+                barCount);
+        return new BaseStrategy("Sma(" + barCount + ")", new UnderIndicatorRule(sma, closePrice),
+                new OverIndicatorRule(sma, closePrice));
+    }
+
     private static Rule createEntryRule(BarSeries series, int barCount) {
         ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
         SMAIndicator sma = new SMAIndicator(closePrice, barCount);